@@ -0,0 +1,205 @@
+package net.heimeng.sdk.btapi.benchmark;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.database.ChangeDatabasePasswordApi;
+import net.heimeng.sdk.btapi.api.database.CreateDatabaseApi;
+import net.heimeng.sdk.btapi.api.database.DeleteDatabaseApi;
+import net.heimeng.sdk.btapi.api.database.GetDatabasesApi;
+import net.heimeng.sdk.btapi.api.file.CompressFileApi;
+import net.heimeng.sdk.btapi.api.file.CreateFileDirectoryApi;
+import net.heimeng.sdk.btapi.api.file.DeleteFileApi;
+import net.heimeng.sdk.btapi.api.file.GetFileContentApi;
+import net.heimeng.sdk.btapi.api.file.MoveFileApi;
+import net.heimeng.sdk.btapi.api.file.RenameFileApi;
+import net.heimeng.sdk.btapi.api.file.SaveFileContentApi;
+import net.heimeng.sdk.btapi.api.file.UncompressFileApi;
+import net.heimeng.sdk.btapi.api.ftp.ChangeFtpPasswordApi;
+import net.heimeng.sdk.btapi.api.ftp.CreateFtpAccountApi;
+import net.heimeng.sdk.btapi.api.ftp.DeleteFtpAccountApi;
+import net.heimeng.sdk.btapi.api.ftp.GetFtpAccountsApi;
+import net.heimeng.sdk.btapi.api.ssl.DeleteSslCertificateApi;
+import net.heimeng.sdk.btapi.api.ssl.GetSslCertificatesApi;
+import net.heimeng.sdk.btapi.api.ssl.InstallSslCertificateApi;
+import net.heimeng.sdk.btapi.api.system.CheckPanelUpdateApi;
+import net.heimeng.sdk.btapi.api.system.GetDiskInfoApi;
+import net.heimeng.sdk.btapi.api.system.GetNetworkStatusApi;
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.api.system.GetTaskCountApi;
+import net.heimeng.sdk.btapi.api.website.AddWebsiteDomainApi;
+import net.heimeng.sdk.btapi.api.website.CloseWebsitePasswordApi;
+import net.heimeng.sdk.btapi.api.website.CloseWebsiteSslApi;
+import net.heimeng.sdk.btapi.api.website.CreateWebsiteApi;
+import net.heimeng.sdk.btapi.api.website.CreateWebsiteBackupApi;
+import net.heimeng.sdk.btapi.api.website.DeleteWebsiteApi;
+import net.heimeng.sdk.btapi.api.website.DeleteWebsiteBackupApi;
+import net.heimeng.sdk.btapi.api.website.DeleteWebsiteDomainApi;
+import net.heimeng.sdk.btapi.api.website.GetPhpVersionsApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteBackupsApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteConfigApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteDetailApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteDomainsApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteLimitNetApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteListApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteNginxConfigApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitePhpExtensionsApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitePhpVersionApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteRewriteRulesApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteRootPathApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteSslListApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsiteTypesApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteLimitNetApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteLogsApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteNginxConfigApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsitePasswordApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsitePhpExtensionsApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsitePhpVersionApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsitePsApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteRewriteRulesApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteRootPathApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteRunPathApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteSslApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteUserIniApi;
+import net.heimeng.sdk.btapi.api.website.StartWebsiteApi;
+import net.heimeng.sdk.btapi.api.website.StopWebsiteApi;
+
+/**
+ * 基准测试覆盖的接口目录
+ * <p>
+ * 集中维护接口类名到接口实例和录制响应的映射，供解析基准测试和端到端压测共用。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public final class ApiCatalog {
+
+    private ApiCatalog() {
+    }
+
+    /**
+     * 按类名创建接口实例，需要参数的接口使用固定的示例参数
+     *
+     * @param name 接口类的简单类名，如{@code GetSystemInfoApi}
+     * @return 接口实例
+     */
+    public static BtApi<?> newApi(String name) {
+        switch (name) {
+            case "GetSystemInfoApi": return new GetSystemInfoApi();
+            case "GetDiskInfoApi": return new GetDiskInfoApi();
+            case "GetNetworkStatusApi": return new GetNetworkStatusApi();
+            case "CheckPanelUpdateApi": return new CheckPanelUpdateApi();
+            case "GetTaskCountApi": return new GetTaskCountApi();
+            case "GetFileContentApi": return new GetFileContentApi();
+            case "CompressFileApi": return new CompressFileApi();
+            case "CreateFileDirectoryApi": return new CreateFileDirectoryApi();
+            case "DeleteFileApi": return new DeleteFileApi();
+            case "MoveFileApi": return new MoveFileApi();
+            case "RenameFileApi": return new RenameFileApi();
+            case "SaveFileContentApi": return new SaveFileContentApi();
+            case "UncompressFileApi": return new UncompressFileApi();
+            case "ChangeDatabasePasswordApi": return new ChangeDatabasePasswordApi("db_1", "db_1", "Xk9fP2mQ8sLr");
+            case "CreateDatabaseApi": return CreateDatabaseApi.builder("db_1", "db_1", "Xk9fP2mQ8sLr").build();
+            case "DeleteDatabaseApi": return new DeleteDatabaseApi("db_1", 1);
+            case "ChangeFtpPasswordApi": return new ChangeFtpPasswordApi("ftp_1", "Yh7dK3pN2wQz");
+            case "CreateFtpAccountApi": return new CreateFtpAccountApi("ftp_1", "Yh7dK3pN2wQz", "/www/wwwroot");
+            case "DeleteFtpAccountApi": return new DeleteFtpAccountApi("ftp_1");
+            case "DeleteSslCertificateApi": return new DeleteSslCertificateApi(1);
+            case "InstallSslCertificateApi": return new InstallSslCertificateApi("site1.example.com", "key", "cert");
+            case "CreateWebsiteApi":
+                return new CreateWebsiteApi("site1.example.com", "/www/wwwroot/site1.example.com", 0, "81", 80, "site1");
+            case "DeleteWebsiteApi": return new DeleteWebsiteApi(1, "site1.example.com");
+            case "GetPhpVersionsApi": return new GetPhpVersionsApi();
+            case "GetWebsiteTypesApi": return new GetWebsiteTypesApi();
+            case "GetWebsiteConfigApi": return new GetWebsiteConfigApi();
+            case "GetWebsiteDetailApi": return new GetWebsiteDetailApi();
+            case "GetWebsiteLimitNetApi": return new GetWebsiteLimitNetApi();
+            case "GetWebsiteNginxConfigApi": return new GetWebsiteNginxConfigApi();
+            case "GetWebsitePhpExtensionsApi": return new GetWebsitePhpExtensionsApi();
+            case "GetWebsitePhpVersionApi": return new GetWebsitePhpVersionApi();
+            case "GetWebsiteRewriteRulesApi": return new GetWebsiteRewriteRulesApi();
+            case "GetWebsiteRootPathApi": return new GetWebsiteRootPathApi();
+            case "GetWebsiteSslListApi": return new GetWebsiteSslListApi();
+            case "AddWebsiteDomainApi": return new AddWebsiteDomainApi();
+            case "CloseWebsitePasswordApi": return new CloseWebsitePasswordApi();
+            case "CloseWebsiteSslApi": return new CloseWebsiteSslApi();
+            case "CreateWebsiteBackupApi": return new CreateWebsiteBackupApi();
+            case "DeleteWebsiteBackupApi": return new DeleteWebsiteBackupApi();
+            case "DeleteWebsiteDomainApi": return new DeleteWebsiteDomainApi();
+            case "SetWebsiteLimitNetApi": return new SetWebsiteLimitNetApi();
+            case "SetWebsiteLogsApi": return new SetWebsiteLogsApi();
+            case "SetWebsiteNginxConfigApi": return new SetWebsiteNginxConfigApi();
+            case "SetWebsitePasswordApi": return new SetWebsitePasswordApi();
+            case "SetWebsitePhpExtensionsApi": return new SetWebsitePhpExtensionsApi();
+            case "SetWebsitePhpVersionApi": return new SetWebsitePhpVersionApi();
+            case "SetWebsitePsApi": return new SetWebsitePsApi();
+            case "SetWebsiteRewriteRulesApi": return new SetWebsiteRewriteRulesApi();
+            case "SetWebsiteRootPathApi": return new SetWebsiteRootPathApi();
+            case "SetWebsiteRunPathApi": return new SetWebsiteRunPathApi();
+            case "SetWebsiteSslApi": return new SetWebsiteSslApi();
+            case "SetWebsiteUserIniApi": return new SetWebsiteUserIniApi();
+            case "StartWebsiteApi": return new StartWebsiteApi();
+            case "StopWebsiteApi": return new StopWebsiteApi();
+            case "GetWebsitesApi": return new GetWebsitesApi();
+            case "GetWebsiteListApi": return new GetWebsiteListApi();
+            case "GetDatabasesApi": return new GetDatabasesApi();
+            case "GetFtpAccountsApi": return new GetFtpAccountsApi();
+            case "GetSslCertificatesApi": return new GetSslCertificatesApi();
+            case "GetWebsiteBackupsApi": return new GetWebsiteBackupsApi();
+            case "GetWebsiteDomainsApi": return new GetWebsiteDomainsApi();
+            default: throw new IllegalArgumentException("Unknown api: " + name);
+        }
+    }
+
+    /**
+     * 获取接口对应的录制响应
+     *
+     * @param name 接口类的简单类名
+     * @param rows 表格类接口展开的行数，其他接口忽略
+     * @return 响应体
+     */
+    public static String response(String name, int rows) {
+        String table = tableFor(name);
+        return table != null ? Fixtures.table(table, rows) : Fixtures.load(fixtureFor(name));
+    }
+
+    private static String tableFor(String name) {
+        switch (name) {
+            case "GetWebsitesApi":
+            case "GetWebsiteListApi":
+                return "sites.json";
+            case "GetDatabasesApi": return "databases.json";
+            case "GetFtpAccountsApi": return "ftps.json";
+            case "GetSslCertificatesApi": return "ssl.json";
+            case "GetWebsiteBackupsApi": return "backup.json";
+            case "GetWebsiteDomainsApi": return "domain.json";
+            default: return null;
+        }
+    }
+
+    private static String fixtureFor(String name) {
+        switch (name) {
+            case "GetSystemInfoApi": return "system-total.json";
+            case "GetDiskInfoApi": return "disk-info.json";
+            case "GetNetworkStatusApi": return "network-status.json";
+            case "CheckPanelUpdateApi": return "panel-update.json";
+            case "GetTaskCountApi": return "task-count.txt";
+            case "GetFileContentApi": return "file-content.json";
+            case "CreateWebsiteApi": return "create-website.json";
+            case "GetPhpVersionsApi": return "php-versions.json";
+            case "GetWebsiteTypesApi": return "website-types.json";
+            case "GetWebsiteConfigApi": return "website-config.json";
+            case "GetWebsiteDetailApi": return "website-detail.json";
+            case "GetWebsiteLimitNetApi": return "website-limit-net.json";
+            case "GetWebsitePhpExtensionsApi": return "website-php-extensions.json";
+            case "GetWebsiteSslListApi": return "website-ssl-list.json";
+            case "GetWebsiteNginxConfigApi":
+            case "GetWebsitePhpVersionApi":
+            case "GetWebsiteRewriteRulesApi":
+            case "GetWebsiteRootPathApi":
+                return "string-data.json";
+            default:
+                return "status.json";
+        }
+    }
+}
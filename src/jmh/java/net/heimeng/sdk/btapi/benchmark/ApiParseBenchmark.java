@@ -0,0 +1,76 @@
+package net.heimeng.sdk.btapi.benchmark;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 非表格类接口的响应解析基准测试
+ * <p>
+ * 覆盖{@code api/*}下除getData表格接口以外的所有{@code parseResponse}实现，表格接口见{@link TableParseBenchmark}。
+ * 操作类接口共用同一份{@code status/msg}样本。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiParseBenchmark {
+
+    @Param({
+            // system
+            "GetSystemInfoApi", "GetDiskInfoApi", "GetNetworkStatusApi", "CheckPanelUpdateApi", "GetTaskCountApi",
+            // file
+            "GetFileContentApi", "CompressFileApi", "CreateFileDirectoryApi", "DeleteFileApi", "MoveFileApi",
+            "RenameFileApi", "SaveFileContentApi", "UncompressFileApi",
+            // database / ftp / ssl
+            "ChangeDatabasePasswordApi", "CreateDatabaseApi", "DeleteDatabaseApi",
+            "ChangeFtpPasswordApi", "CreateFtpAccountApi", "DeleteFtpAccountApi",
+            "DeleteSslCertificateApi", "InstallSslCertificateApi",
+            // website
+            "CreateWebsiteApi", "DeleteWebsiteApi", "GetPhpVersionsApi", "GetWebsiteTypesApi",
+            "GetWebsiteConfigApi", "GetWebsiteDetailApi", "GetWebsiteLimitNetApi", "GetWebsiteNginxConfigApi",
+            "GetWebsitePhpExtensionsApi", "GetWebsitePhpVersionApi", "GetWebsiteRewriteRulesApi",
+            "GetWebsiteRootPathApi", "GetWebsiteSslListApi", "AddWebsiteDomainApi", "CloseWebsitePasswordApi",
+            "CloseWebsiteSslApi", "CreateWebsiteBackupApi", "DeleteWebsiteBackupApi", "DeleteWebsiteDomainApi",
+            "SetWebsiteLimitNetApi", "SetWebsiteLogsApi", "SetWebsiteNginxConfigApi", "SetWebsitePasswordApi",
+            "SetWebsitePhpExtensionsApi", "SetWebsitePhpVersionApi", "SetWebsitePsApi",
+            "SetWebsiteRewriteRulesApi", "SetWebsiteRootPathApi", "SetWebsiteRunPathApi", "SetWebsiteSslApi",
+            "SetWebsiteUserIniApi", "StartWebsiteApi", "StopWebsiteApi"
+    })
+    public String api;
+
+    private BtApi<?> target;
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        target = ApiCatalog.newApi(api);
+        body = ApiCatalog.response(api, 1);
+
+        // 预先解析一次，样本与解析实现不匹配时直接失败而不是测出异常路径
+        target.parseResponse(body);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return target.parseResponse(body);
+    }
+}
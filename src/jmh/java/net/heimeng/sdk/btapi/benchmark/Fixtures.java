@@ -0,0 +1,60 @@
+package net.heimeng.sdk.btapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基准测试使用的响应样本
+ * <p>
+ * 样本位于{@code src/jmh/resources/fixtures}，内容取自真实面板的响应。表格类接口只保存单行记录模板
+ * （{@code rows/*.json}，其中的{@code ${id}}会被替换为行号），按需要的行数展开为完整的getData响应。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * 读取指定的样本文件
+     *
+     * @param name 相对于fixtures目录的文件名
+     * @return 样本内容
+     */
+    public static String load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 将单行记录模板展开为包含指定行数的getData响应
+     *
+     * @param rowTemplate 行模板文件名，如{@code sites.json}
+     * @param rows 行数
+     * @return 完整的响应体
+     */
+    public static String table(String rowTemplate, int rows) {
+        String row = load("rows/" + rowTemplate);
+        StringBuilder sb = new StringBuilder(row.length() * rows + 256);
+        sb.append("{\"where\": \"\", \"page\": \"<div><span class='Pcurrent'>1</span>")
+                .append("<span class='Pcount'>共").append(rows).append("条</span></div>\", \"data\": [");
+        for (int i = 1; i <= rows; i++) {
+            if (i > 1) {
+                sb.append(", ");
+            }
+            sb.append(row.replace("${id}", String.valueOf(i)));
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,104 @@
+package net.heimeng.sdk.btapi.benchmark;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.api.website.StartWebsiteApi;
+import net.heimeng.sdk.btapi.model.website.WebsiteInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应校验方式的对比基准测试
+ * <p>
+ * {@code legacy*}复现改造前的多次扫描：先{@code JSONUtil.isTypeJSON}，再构建Hutool JSON树读取字段，
+ * 操作类接口还会在{@code isSuccessResponse}中再解析一次；{@code singlePass*}为当前通过JSON编解码器
+ * 一次完成非JSON检测、status/msg提取和数据绑定的实现。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseValidationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int rows;
+
+    private final GetWebsitesApi websitesApi = new GetWebsitesApi();
+
+    private final StartWebsiteApi startWebsiteApi = new StartWebsiteApi();
+
+    private String sitesBody;
+
+    private String statusBody;
+
+    @Setup
+    public void setUp() {
+        sitesBody = Fixtures.table("sites.json", rows);
+        statusBody = Fixtures.load("status.json");
+    }
+
+    @Benchmark
+    public Object legacySites() {
+        if (!JSONUtil.isTypeJSON(sitesBody)) {
+            throw new IllegalStateException();
+        }
+        JSONObject json = JSONUtil.parseObj(sitesBody);
+        JSONArray data = json.getJSONArray("data");
+        List<WebsiteInfo> websites = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            JSONObject row = data.getJSONObject(i);
+            WebsiteInfo website = new WebsiteInfo();
+            website.setId(row.getLong("id", 0L));
+            website.setName(row.getStr("name", ""));
+            website.setPath(row.getStr("path", ""));
+            website.setType(row.getStr("project_type", ""));
+            website.setStatus(Integer.parseInt(row.getStr("status", "0")));
+            website.setSsl(row.getInt("ssl", -1) == 1 ? 1 : 0);
+            websites.add(website);
+        }
+        return websites;
+    }
+
+    @Benchmark
+    public Object singlePassSites() {
+        return websitesApi.parseResponse(sitesBody);
+    }
+
+    @Benchmark
+    public boolean legacyStatus() {
+        if (!JSONUtil.isTypeJSON(statusBody)) {
+            throw new IllegalStateException();
+        }
+        JSONObject json = JSONUtil.parseObj(statusBody);
+        boolean status = json.getBool("status", false);
+        json.getStr("msg", "");
+        // isSuccessResponse 会再解析一次响应体
+        return status && JSONUtil.parseObj(statusBody).getBool("status", false);
+    }
+
+    @Benchmark
+    public boolean singlePassStatus() {
+        return startWebsiteApi.parseResponse(statusBody).isSuccess();
+    }
+}
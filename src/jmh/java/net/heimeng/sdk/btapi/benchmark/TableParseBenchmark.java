@@ -0,0 +1,69 @@
+package net.heimeng.sdk.btapi.benchmark;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表格类接口（getData）的响应解析基准测试
+ * <p>
+ * 分别以1、100、10000行的样本测量从字符串解析和从输入流解析的吞吐量，配合{@code -prof gc}观察每次解析的分配量。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TableParseBenchmark {
+
+    @Param({"GetWebsitesApi", "GetWebsiteListApi", "GetDatabasesApi", "GetFtpAccountsApi",
+            "GetSslCertificatesApi", "GetWebsiteBackupsApi", "GetWebsiteDomainsApi"})
+    public String api;
+
+    @Param({"1", "100", "10000"})
+    public int rows;
+
+    private BtApi<?> target;
+
+    private String body;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        target = ApiCatalog.newApi(api);
+        body = ApiCatalog.response(api, rows);
+        bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        // 预先解析一次，样本与解析实现不匹配时直接失败而不是测出异常路径
+        target.parseResponse(body);
+    }
+
+    @Benchmark
+    public Object parseString() {
+        return target.parseResponse(body);
+    }
+
+    @Benchmark
+    public Object parseStream() {
+        return target.parseResponse(new ByteArrayInputStream(bytes));
+    }
+}
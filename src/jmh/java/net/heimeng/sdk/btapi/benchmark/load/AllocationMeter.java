@@ -0,0 +1,68 @@
+package net.heimeng.sdk.btapi.benchmark.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 基于线程分配计数的分配量统计
+ * <p>
+ * 使用HotSpot的{@code com.sun.management.ThreadMXBean}读取每个存活线程累计分配的字节数，
+ * 两次快照之差即为期间客户端一侧（压测线程、客户端执行器、HttpClient内部线程）的分配量，
+ * 名称以{@link StubPanel#THREAD_PREFIX}开头的面板替身线程不计入。期间已经结束的线程无法统计，
+ * 因此结果是下限；客户端的执行器线程在整轮压测中常驻，实际误差很小。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    private Map<Long, Long> start = new HashMap<>();
+
+    AllocationMeter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            throw new IllegalStateException("Thread allocation accounting is not supported by this JVM");
+        }
+        this.threads = (com.sun.management.ThreadMXBean) bean;
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * 记录起始快照
+     */
+    void begin() {
+        start = sample();
+    }
+
+    /**
+     * 计算自{@link #begin()}以来的分配量
+     *
+     * @return 分配的字节数
+     */
+    long allocatedSinceBegin() {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : sample().entrySet()) {
+            total += entry.getValue() - start.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private Map<Long, Long> sample() {
+        long[] ids = threads.getAllThreadIds();
+        ThreadInfo[] infos = threads.getThreadInfo(ids);
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        Map<Long, Long> result = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (infos[i] == null || allocated[i] < 0 || infos[i].getThreadName().startsWith(StubPanel.THREAD_PREFIX)) {
+                continue;
+            }
+            result.put(ids[i], allocated[i]);
+        }
+        return result;
+    }
+}
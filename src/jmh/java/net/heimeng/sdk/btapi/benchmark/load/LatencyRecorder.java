@@ -0,0 +1,125 @@
+package net.heimeng.sdk.btapi.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 请求延迟记录器
+ * <p>
+ * 每个记录线程写入自己的缓冲区，避免热路径上的竞争；统计时合并所有缓冲区并排序计算分位数。
+ * 只应在一轮压测结束、所有记录线程停止写入后调用{@link #snapshot()}。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class LatencyRecorder {
+
+    private final List<Buffer> buffers = new ArrayList<>();
+
+    private final ThreadLocal<Buffer> local = ThreadLocal.withInitial(() -> {
+        Buffer buffer = new Buffer();
+        synchronized (buffers) {
+            buffers.add(buffer);
+        }
+        return buffer;
+    });
+
+    /**
+     * 记录一次成功请求的延迟
+     *
+     * @param nanos 延迟（纳秒）
+     */
+    void record(long nanos) {
+        local.get().add(nanos);
+    }
+
+    /**
+     * 记录一次失败请求
+     */
+    void recordError() {
+        local.get().errors++;
+    }
+
+    /**
+     * 合并所有线程的记录
+     *
+     * @return 按升序排列的延迟快照
+     */
+    Snapshot snapshot() {
+        synchronized (buffers) {
+            int total = 0;
+            long errors = 0;
+            for (Buffer buffer : buffers) {
+                total += buffer.size;
+                errors += buffer.errors;
+            }
+            long[] merged = new long[total];
+            int offset = 0;
+            for (Buffer buffer : buffers) {
+                System.arraycopy(buffer.values, 0, merged, offset, buffer.size);
+                offset += buffer.size;
+            }
+            Arrays.sort(merged);
+            return new Snapshot(merged, errors);
+        }
+    }
+
+    /**
+     * 延迟快照
+     */
+    static final class Snapshot {
+
+        private final long[] sorted;
+
+        private final long errors;
+
+        private Snapshot(long[] sorted, long errors) {
+            this.sorted = sorted;
+            this.errors = errors;
+        }
+
+        long count() {
+            return sorted.length;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * 获取指定分位数的延迟
+         *
+         * @param quantile 分位数，取值范围[0, 1]
+         * @return 延迟（纳秒），没有记录时返回0
+         */
+        long percentile(double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        long max() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+    }
+
+    private static final class Buffer {
+
+        private long[] values = new long[1 << 14];
+
+        private int size;
+
+        private long errors;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+    }
+}
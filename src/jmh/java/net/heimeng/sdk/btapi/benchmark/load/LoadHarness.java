@@ -0,0 +1,309 @@
+package net.heimeng.sdk.btapi.benchmark.load;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.benchmark.ApiCatalog;
+import net.heimeng.sdk.btapi.client.BatchOptions;
+import net.heimeng.sdk.btapi.client.DefaultBtClient;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.config.ExecutionMode;
+import net.heimeng.sdk.btapi.config.ParamEncoding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 针对进程内面板替身的端到端压测
+ * <p>
+ * 启动{@link StubPanel}并为所选接口注册录制响应，然后分别以同步、异步和批量方式驱动{@link DefaultBtClient}，
+ * 每种方式先预热再测量，输出吞吐量、p50/p99/p999延迟和每个请求的分配量。不访问任何真实面板，
+ * 可以在修改客户端实现前后重复运行进行对比。
+ * </p>
+ * <ul>
+ *     <li>sync：{@code concurrency}个线程循环调用{@code execute}</li>
+ *     <li>async：单个驱动线程保持{@code concurrency}个在途的{@code executeAsync}调用</li>
+ *     <li>batch：{@code concurrency}个线程循环通过{@code executeAllAsync}提交{@code batch}个调用并等待全部完成</li>
+ * </ul>
+ * <p>
+ * 运行方式：{@code mvn -Pbenchmark test-compile exec:exec@load -Dload.args="--modes=sync,async --concurrency=64"}，
+ * 支持的参数见{@link #usage()}。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public final class LoadHarness {
+
+    private static final String DEFAULT_APIS = "GetSystemInfoApi,GetWebsitesApi,GetPhpVersionsApi,StartWebsiteApi";
+
+    private final Options options;
+
+    private final DefaultBtClient client;
+
+    private final BtApi<?>[] apis;
+
+    private final AllocationMeter allocationMeter = new AllocationMeter();
+
+    private LoadHarness(Options options, DefaultBtClient client, BtApi<?>[] apis) {
+        this.options = options;
+        this.client = client;
+        this.apis = apis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (options == null) {
+            System.out.println(usage());
+            return;
+        }
+
+        try (StubPanel panel = StubPanel.start(options.serverThreads, Duration.ofMillis(options.latencyMillis))) {
+            BtApi<?>[] apis = new BtApi<?>[options.apis.size()];
+            for (int i = 0; i < apis.length; i++) {
+                String name = options.apis.get(i);
+                apis[i] = ApiCatalog.newApi(name);
+                panel.route(apis[i], ApiCatalog.response(name, options.rows));
+            }
+
+            DefaultBtClient client = new DefaultBtClient(BtSdkConfig.builder()
+                    .baseUrl(panel.getBaseUrl())
+                    .apiKey("k3H9xQ2mZ7pL4vN8sR1tW6yB5cF0dG3j")
+                    .executionMode(options.executionMode)
+                    .paramEncoding(options.paramEncoding)
+                    .enableRetry(false)
+                    .enableRequestLog(false)
+                    .enableResponseLog(false)
+                    .build());
+            try {
+                System.out.printf(Locale.ROOT, "Stub panel %s, apis=%s, rows=%d, concurrency=%d, batch=%d, "
+                                + "latency=%dms, execution=%s, encoding=%s%n",
+                        panel.getBaseUrl(), options.apis, options.rows, options.concurrency, options.batch,
+                        options.latencyMillis, options.executionMode, options.paramEncoding);
+                System.out.printf(Locale.ROOT, "%-6s %10s %8s %12s %10s %10s %10s %10s %14s%n",
+                        "mode", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)",
+                        "alloc/req(B)");
+
+                LoadHarness harness = new LoadHarness(options, client, apis);
+                for (String mode : options.modes) {
+                    harness.run(mode, options.warmupSeconds);
+                    harness.report(mode, harness.run(mode, options.durationSeconds));
+                }
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * 以指定方式运行一轮压测
+     *
+     * @param mode sync、async或batch
+     * @param seconds 持续时间（秒）
+     * @return 本轮结果
+     */
+    private Result run(String mode, int seconds) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        allocationMeter.begin();
+        long started = System.nanoTime();
+        switch (mode) {
+            case "sync":
+                runWorkers(() -> runSync(recorder, deadline));
+                break;
+            case "async":
+                runAsync(recorder, deadline);
+                break;
+            case "batch":
+                runWorkers(() -> runBatch(recorder, deadline));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = allocationMeter.allocatedSinceBegin();
+
+        return new Result(recorder.snapshot(), elapsed, allocated);
+    }
+
+    private void runWorkers(Runnable worker) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            workers.add(thread);
+            thread.start();
+        }
+        for (Thread thread : workers) {
+            thread.join();
+        }
+    }
+
+    private void runSync(LatencyRecorder recorder, long deadline) {
+        int next = (int) Thread.currentThread().getId();
+        while (System.nanoTime() < deadline) {
+            BtApi<?> api = apis[Math.floorMod(next++, apis.length)];
+            long start = System.nanoTime();
+            try {
+                client.execute(api);
+                recorder.record(System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                recorder.recordError();
+            }
+        }
+    }
+
+    private void runAsync(LatencyRecorder recorder, long deadline) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.concurrency);
+        int next = 0;
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            BtApi<?> api = apis[Math.floorMod(next++, apis.length)];
+            long start = System.nanoTime();
+            client.executeAsync(api).whenComplete((result, error) -> {
+                if (error == null) {
+                    recorder.record(System.nanoTime() - start);
+                } else {
+                    recorder.recordError();
+                }
+                inFlight.release();
+            });
+        }
+        // 等待在途请求全部完成
+        inFlight.acquire(options.concurrency);
+    }
+
+    private void runBatch(LatencyRecorder recorder, long deadline) {
+        int next = (int) Thread.currentThread().getId();
+        BatchOptions batchOptions = BatchOptions.builder().maxConcurrency(options.batch).build();
+        List<BtApi<?>> batch = new ArrayList<>(options.batch);
+        while (System.nanoTime() < deadline) {
+            batch.clear();
+            for (int i = 0; i < options.batch; i++) {
+                batch.add(apis[Math.floorMod(next++, apis.length)]);
+            }
+            long start = System.nanoTime();
+            client.<Object>executeAllAsync(batch, batchOptions, item -> {
+                if (item.isSuccess()) {
+                    recorder.record(System.nanoTime() - start);
+                } else {
+                    recorder.recordError();
+                }
+            }).join();
+        }
+    }
+
+    private void report(String mode, Result result) {
+        LatencyRecorder.Snapshot latencies = result.latencies;
+        long requests = latencies.count() + latencies.errors();
+        double seconds = result.elapsedNanos / 1e9;
+        System.out.printf(Locale.ROOT, "%-6s %10d %8d %12.1f %10.3f %10.3f %10.3f %10.3f %14d%n",
+                mode, requests, latencies.errors(), requests / seconds,
+                millis(latencies.percentile(0.50)), millis(latencies.percentile(0.99)),
+                millis(latencies.percentile(0.999)), millis(latencies.max()),
+                requests == 0 ? 0 : result.allocatedBytes / requests);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String usage() {
+        return String.join(System.lineSeparator(),
+                "Usage: LoadHarness [--option=value ...]",
+                "  --modes=sync,async,batch   driving modes, run in order (default: all three)",
+                "  --apis=" + DEFAULT_APIS,
+                "                             api class names from ApiCatalog, called round-robin",
+                "  --rows=100                 rows in getData table responses",
+                "  --concurrency=16           sync/batch worker threads, or in-flight async calls",
+                "  --batch=16                 calls submitted together in batch mode",
+                "  --warmup=3                 warmup seconds per mode",
+                "  --duration=10              measured seconds per mode",
+                "  --latency=0                stub panel latency per request in milliseconds",
+                "  --server-threads=8         stub panel worker threads",
+                "  --execution=PLATFORM_THREADS|VIRTUAL_THREADS",
+                "  --encoding=QUERY_AND_BODY|FORM_BODY|FORM_BODY_AUTH_QUERY");
+    }
+
+    private static final class Result {
+
+        private final LatencyRecorder.Snapshot latencies;
+
+        private final long elapsedNanos;
+
+        private final long allocatedBytes;
+
+        private Result(LatencyRecorder.Snapshot latencies, long elapsedNanos, long allocatedBytes) {
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    private static final class Options {
+
+        private List<String> modes = List.of("sync", "async", "batch");
+        private List<String> apis = List.of(DEFAULT_APIS.split(","));
+        private int rows = 100;
+        private int concurrency = 16;
+        private int batch = 16;
+        private int warmupSeconds = 3;
+        private int durationSeconds = 10;
+        private int latencyMillis = 0;
+        private int serverThreads = 8;
+        private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+        private ParamEncoding paramEncoding = ParamEncoding.QUERY_AND_BODY;
+
+        /**
+         * 解析命令行参数
+         *
+         * @return 解析结果，请求帮助时返回null
+         */
+        private static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if ("--help".equals(arg) || "-h".equals(arg)) {
+                    return null;
+                }
+                if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                    throw new IllegalArgumentException("Invalid argument: " + arg + System.lineSeparator() + usage());
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+
+            Options options = new Options();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "modes": options.modes = List.of(value.split(",")); break;
+                    case "apis": options.apis = List.of(value.split(",")); break;
+                    case "rows": options.rows = positive(entry); break;
+                    case "concurrency": options.concurrency = positive(entry); break;
+                    case "batch": options.batch = positive(entry); break;
+                    case "warmup": options.warmupSeconds = Integer.parseInt(value); break;
+                    case "duration": options.durationSeconds = positive(entry); break;
+                    case "latency": options.latencyMillis = Integer.parseInt(value); break;
+                    case "server-threads": options.serverThreads = positive(entry); break;
+                    case "execution": options.executionMode = ExecutionMode.valueOf(value); break;
+                    case "encoding": options.paramEncoding = ParamEncoding.valueOf(value); break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: --" + entry.getKey()
+                                + System.lineSeparator() + usage());
+                }
+            }
+            return options;
+        }
+
+        private static int positive(Map.Entry<String, String> entry) {
+            int value = Integer.parseInt(entry.getValue());
+            if (value <= 0) {
+                throw new IllegalArgumentException("--" + entry.getKey() + " must be positive");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package net.heimeng.sdk.btapi.benchmark.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.heimeng.sdk.btapi.api.BtApi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 进程内的宝塔面板替身
+ * <p>
+ * 基于JDK自带的{@code com.sun.net.httpserver}，按接口的端点路径和端点中固定的查询参数（如{@code action}、
+ * {@code table}）路由请求，返回预先录制的响应。请求缺少{@code request_token}或{@code request_time}时
+ * 返回与真实面板一致的密钥校验失败响应。可以配置固定的服务端延迟来模拟面板处理时间。
+ * </p>
+ * <p>
+ * 服务线程统一以{@value #THREAD_PREFIX}开头命名，压测统计分配量时据此排除服务端的分配。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public final class StubPanel implements AutoCloseable {
+
+    /**
+     * 服务线程名前缀
+     */
+    public static final String THREAD_PREFIX = "stub-panel-";
+
+    private static final byte[] AUTH_FAILED =
+            "{\"status\": false, \"msg\": \"密钥校验失败\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NOT_FOUND =
+            "{\"status\": false, \"msg\": \"No stub route\"}".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        // 服务端默认启用Nagle算法，响应头和响应体分两次写出时会与客户端的延迟确认叠加出约40ms的停顿
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final long latencyNanos;
+
+    /**
+     * 路径到路由的映射，同一路径下按固定参数数量从多到少排列，优先匹配更具体的路由
+     */
+    private final Map<String, List<Route>> routes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private StubPanel(int threads, Duration latency) throws IOException {
+        this.latencyNanos = latency.toNanos();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, THREAD_PREFIX + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * 在随机端口上启动面板替身
+     *
+     * @param threads 服务线程数
+     * @param latency 每个请求的服务端延迟，{@link Duration#ZERO}表示立即响应
+     * @return 已启动的面板替身
+     * @throws IOException 端口绑定失败时抛出
+     */
+    public static StubPanel start(int threads, Duration latency) throws IOException {
+        StubPanel panel = new StubPanel(threads, latency);
+        panel.server.start();
+        return panel;
+    }
+
+    /**
+     * 为接口注册录制的响应
+     *
+     * @param api 接口实例，使用其端点路径和端点中的查询参数作为路由条件
+     * @param body 响应体
+     * @return 当前实例
+     */
+    public StubPanel route(BtApi<?> api, String body) {
+        String endpoint = api.getEndpoint();
+        int queryStart = endpoint.indexOf('?');
+        String path = normalizePath(queryStart >= 0 ? endpoint.substring(0, queryStart) : endpoint);
+        Map<String, String> required = queryStart >= 0
+                ? parseParams(endpoint.substring(queryStart + 1))
+                : Collections.emptyMap();
+
+        routes.compute(path, (key, existing) -> {
+            List<Route> list = existing == null ? new ArrayList<>() : new ArrayList<>(existing);
+            list.removeIf(route -> route.required.equals(required));
+            list.add(new Route(required, body.getBytes(StandardCharsets.UTF_8)));
+            list.sort((a, b) -> Integer.compare(b.required.size(), a.required.size()));
+            return list;
+        });
+        return this;
+    }
+
+    /**
+     * 获取面板替身的访问地址，可直接作为{@code BtSdkConfig.baseUrl}
+     *
+     * @return 形如{@code http://127.0.0.1:port}的地址
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 获取已处理的请求数
+     *
+     * @return 请求数
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+
+            Map<String, String> params = new HashMap<>();
+            String rawQuery = exchange.getRequestURI().getRawQuery();
+            if (rawQuery != null) {
+                params.putAll(parseParams(rawQuery));
+            }
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] form = in.readAllBytes();
+                if (form.length > 0) {
+                    params.putAll(parseParams(new String(form, StandardCharsets.UTF_8)));
+                }
+            }
+
+            if (latencyNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            }
+
+            byte[] body;
+            int status = 200;
+            if (!params.containsKey("request_token") || !params.containsKey("request_time")) {
+                body = AUTH_FAILED;
+            } else {
+                Route route = match(normalizePath(exchange.getRequestURI().getPath()), params);
+                if (route != null) {
+                    body = route.body;
+                } else {
+                    body = NOT_FOUND;
+                    status = 404;
+                }
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Route match(String path, Map<String, String> params) {
+        List<Route> candidates = routes.get(path);
+        if (candidates == null) {
+            return null;
+        }
+        for (Route route : candidates) {
+            if (params.entrySet().containsAll(route.required.entrySet())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String normalizePath(String path) {
+        String normalized = path;
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+
+    private static Map<String, String> parseParams(String encoded) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : encoded.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static final class Route {
+
+        private final Map<String, String> required;
+
+        private final byte[] body;
+
+        private Route(Map<String, String> required, byte[] body) {
+            this.required = required;
+            this.body = body;
+        }
+    }
+}
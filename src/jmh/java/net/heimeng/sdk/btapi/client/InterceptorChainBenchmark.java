@@ -0,0 +1,72 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.interceptor.RequestContext;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拦截器链的基准测试
+ * <p>
+ * 以不执行HTTP请求的空终端测量同步链和异步链本身的开销，拦截器只做透传，
+ * 异步链使用调用线程执行，避免把线程切换计入结果。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InterceptorChainBenchmark {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    @Param({"0", "1", "4", "16"})
+    public int interceptors;
+
+    private final GetSystemInfoApi api = new GetSystemInfoApi();
+
+    private List<RequestInterceptor> chain;
+
+    @Setup
+    public void setUp() {
+        chain = new ArrayList<>(interceptors);
+        for (int i = 0; i < interceptors; i++) {
+            chain.add((context, next) -> next.proceed());
+        }
+    }
+
+    @Benchmark
+    public RequestContext sync() throws Exception {
+        RequestContext context = new RequestContext(api);
+        new DefaultBtClient.InterceptorChain(chain, ctx -> { }).proceed(context);
+        return context;
+    }
+
+    @Benchmark
+    public RequestContext async() {
+        RequestContext context = new RequestContext(api);
+        return new DefaultBtClient.AsyncInterceptorChain(chain, ctx -> DONE, Runnable::run)
+                .proceedAsync(context)
+                .join();
+    }
+}
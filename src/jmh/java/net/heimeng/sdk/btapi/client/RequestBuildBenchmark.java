@@ -0,0 +1,93 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.config.ParamEncoding;
+import net.heimeng.sdk.btapi.interceptor.RequestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求构建的基准测试
+ * <p>
+ * 测量从请求上下文到{@link HttpRequest}的开销：添加认证参数、按参数编码方式拼接查询字符串和表单请求体，
+ * 以及调试日志使用的URL和参数脱敏。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestBuildBenchmark {
+
+    @Param({"QUERY_AND_BODY", "FORM_BODY"})
+    public ParamEncoding paramEncoding;
+
+    @Param({"2", "8", "32"})
+    public int paramCount;
+
+    private DefaultBtClient client;
+
+    private GetWebsitesApi api;
+
+    private String url;
+
+    @Setup
+    public void setUp() {
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:8888")
+                .apiKey("k3H9xQ2mZ7pL4vN8sR1tW6yB5cF0dG3j")
+                .paramEncoding(paramEncoding)
+                .build());
+        api = new GetWebsitesApi();
+        url = "http://127.0.0.1:8888/data?action=getData&table=sites&request_token=0123456789abcdef"
+                + "&request_time=1700000000&password=secret";
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public HttpRequest buildRequest() {
+        return client.buildHttpRequest(api, newContext());
+    }
+
+    @Benchmark
+    public String maskUrl() {
+        return client.maskUrl(url);
+    }
+
+    @Benchmark
+    public String maskParams() {
+        return client.maskParams(newContext().getParams());
+    }
+
+    private RequestContext newContext() {
+        RequestContext context = new RequestContext(api);
+        for (int i = 0; i < paramCount; i++) {
+            context.addParam("param" + i, "值 value&" + i);
+        }
+        client.addAuthParameters(context);
+        return context;
+    }
+}
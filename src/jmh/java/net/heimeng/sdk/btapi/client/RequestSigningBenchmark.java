@@ -0,0 +1,62 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.BtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求签名的基准测试
+ * <p>
+ * 对比{@link BtUtils#generateRequestToken(String, long)}每次计算两轮MD5与{@link RequestSigner}
+ * 预先计算内层哈希、同一秒内复用令牌的开销。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestSigningBenchmark {
+
+    private static final String API_KEY = "k3H9xQ2mZ7pL4vN8sR1tW6yB5cF0dG3j";
+
+    private RequestSigner signer;
+
+    private long requestTime;
+
+    @Setup
+    public void setUp() {
+        signer = new RequestSigner(API_KEY);
+        requestTime = System.currentTimeMillis() / 1000;
+    }
+
+    @Benchmark
+    public String generateRequestToken() {
+        return BtUtils.generateRequestToken(API_KEY, requestTime);
+    }
+
+    @Benchmark
+    public String signSameSecond() {
+        return signer.sign(requestTime);
+    }
+
+    @Benchmark
+    public String signNewSecond() {
+        // 每次调用都换一秒，测量缓存未命中时只计算外层MD5的开销
+        return signer.sign(++requestTime);
+    }
+}
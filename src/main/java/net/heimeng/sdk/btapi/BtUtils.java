@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
@@ -31,6 +32,18 @@ public class BtUtils {
             "^https?://(www\\.)?[-a-zA-Z0-9@:%._+~#=]{1,256}(\\.[a-zA-Z0-9()]{1,6})?\\b([-a-zA-Z0-9()@:%_+.~#?&/=]*)$"
     );
     
+    // 十六进制字符表
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    // 每个线程复用的MD5摘要实例
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm not found", e);
+        }
+    });
+    
     // 日期格式化器
     private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = ThreadLocal.withInitial(
             () -> new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.CHINA)
@@ -56,15 +69,24 @@ public class BtUtils {
     public static String generateRequestToken(String apiKey, long requestTime) {
         Objects.requireNonNull(apiKey, "API key cannot be null");
         
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            String innerHash = bytesToHex(md.digest(apiKey.getBytes()));
-            String combined = requestTime + innerHash;
-            return bytesToHex(md.digest(combined.getBytes()));
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Failed to generate request token", e);
-            throw new IllegalStateException("MD5 algorithm not found", e);
-        }
+        MessageDigest md = md5();
+        String innerHash = bytesToHex(md.digest(apiKey.getBytes(StandardCharsets.UTF_8)));
+        String combined = requestTime + innerHash;
+        return bytesToHex(md.digest(combined.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 获取当前线程复用的MD5摘要实例，返回前已重置
+     * <p>
+     * 实例只能在当前线程上使用，不能跨线程传递或在计算期间再次调用本方法。
+     * </p>
+     *
+     * @return 已重置的MD5摘要实例
+     */
+    public static MessageDigest md5() {
+        MessageDigest md = MD5_DIGEST.get();
+        md.reset();
+        return md;
     }
 
     /**
@@ -76,11 +98,13 @@ public class BtUtils {
     public static String bytesToHex(byte[] bytes) {
         Objects.requireNonNull(bytes, "Byte array cannot be null");
         
-        StringBuilder sb = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xFF;
+            hex[i * 2] = HEX_DIGITS[v >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[v & 0x0F];
         }
-        return sb.toString();
+        return new String(hex);
     }
 
     /**
@@ -1,9 +1,12 @@
 package net.heimeng.sdk.btapi.api;
 
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
+import lombok.Data;
 import lombok.Getter;
+import net.heimeng.sdk.btapi.json.JsonCodec;
+import net.heimeng.sdk.btapi.model.BtResult;
 
+import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,6 +40,12 @@ public abstract class BaseBtApi<T> implements BtApi<T> {
     @Getter
     protected final Map<String, Object> params;
     
+    /**
+     * 解析响应使用的JSON编解码器
+     */
+    @Getter
+    private JsonCodec jsonCodec = JsonCodec.defaultCodec();
+    
     /**
      * 构造函数，创建一个新的BaseBtApi实例
      * 
@@ -118,6 +127,67 @@ public abstract class BaseBtApi<T> implements BtApi<T> {
         return true;
     }
     
+    /**
+     * 设置解析响应使用的JSON编解码器
+     * 
+     * @param jsonCodec JSON编解码器，为null时恢复为默认编解码器
+     * @return 当前API实例，支持链式调用
+     */
+    public BaseBtApi<T> setJsonCodec(JsonCodec jsonCodec) {
+        this.jsonCodec = jsonCodec != null ? jsonCodec : JsonCodec.defaultCodec();
+        return this;
+    }
+    
+    /**
+     * 将响应字符串直接绑定为指定类型的对象
+     * 
+     * @param response 响应字符串
+     * @param type 目标类型
+     * @param <D> 目标类型
+     * @return 绑定后的对象
+     * @throws net.heimeng.sdk.btapi.exception.BtApiException 当响应不是合法的JSON或无法绑定时抛出
+     */
+    protected <D> D decode(String response, Type type) {
+        return jsonCodec.decode(response, type);
+    }
+    
+    /**
+     * 从输入流增量读取响应并直接绑定为指定类型的对象，不会先把整个响应体读取为字符串
+     * 
+     * @param body 响应体输入流
+     * @param type 目标类型
+     * @param <D> 目标类型
+     * @return 绑定后的对象
+     * @throws net.heimeng.sdk.btapi.exception.BtApiException 当响应不是合法的JSON或无法绑定时抛出
+     */
+    protected <D> D decode(InputStream body, Type type) {
+        return jsonCodec.decode(body, type);
+    }
+    
+    /**
+     * 一次扫描解析只包含status和msg字段的操作结果
+     * <p>
+     * 非JSON响应的检测、status和msg的提取在同一次流式解析中完成，不会先调用{@code JSONUtil.isTypeJSON}
+     * 再构建JSON树。
+     * </p>
+     * 
+     * @param response 响应字符串
+     * @param successMsg 响应中没有msg字段且操作成功时使用的消息
+     * @param failureMsg 响应中没有msg字段且操作失败时使用的消息
+     * @return data为操作状态的结果对象
+     * @throws net.heimeng.sdk.btapi.exception.BtApiException 当响应不是合法的JSON对象时抛出
+     */
+    protected BtResult<Boolean> decodeStatusResult(String response, String successMsg, String failureMsg) {
+        StatusResponse parsed = decode(response, StatusResponse.class);
+        boolean status = Boolean.TRUE.equals(parsed.getStatus());
+        
+        BtResult<Boolean> result = new BtResult<>();
+        result.setStatus(status);
+        result.setMsg(parsed.getMsg() != null ? parsed.getMsg() : (status ? successMsg : failureMsg));
+        result.setData(status);
+        return result;
+    }
+    
     /**
      * 检查响应是否成功
      * 
@@ -130,10 +200,18 @@ public abstract class BaseBtApi<T> implements BtApi<T> {
                 return false;
             }
             
-            JSONObject json = JSONUtil.parseObj(response);
-            return json.getBool("status", false);
+            return Boolean.TRUE.equals(this.<StatusResponse>decode(response, StatusResponse.class).getStatus());
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 宝塔面板通用的操作结果结构，只绑定status和msg字段，其余字段在解析时直接跳过
+     */
+    @Data
+    private static class StatusResponse {
+        private Boolean status;
+        private String msg;
+    }
+}
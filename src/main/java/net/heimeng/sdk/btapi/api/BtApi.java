@@ -2,6 +2,9 @@ package net.heimeng.sdk.btapi.api;
 
 import net.heimeng.sdk.btapi.exception.BtApiException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -46,6 +49,52 @@ public interface BtApi<T> {
      */
     T parseResponse(String response);
 
+    /**
+     * 是否以流的方式解析响应
+     * <p>
+     * 返回true时客户端不会把响应体读取为字符串，而是调用{@link #parseResponse(InputStream)}直接从输入流解析，
+     * 只有拦截器通过{@code RequestContext.setRetainResponseBody(true)}显式要求时才会保留原始响应体。
+     * 适用于网站列表、文件内容等响应体较大的API。
+     * </p>
+     *
+     * @return 如果以流的方式解析响应则返回true，默认返回false
+     */
+    default boolean isStreamingResponse() {
+        return false;
+    }
+
+    /**
+     * 是否为只读API
+     * <p>
+     * 只读API只查询面板状态而不修改数据，重复调用不会产生副作用，因此其结果可以被缓存，
+     * 相同的并发调用可以合并。修改面板数据的API必须返回false。
+     * </p>
+     *
+     * @return 如果是只读API则返回true，默认返回false
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * 从输入流解析API响应为指定类型的对象
+     * <p>
+     * 默认实现将输入流完整读取为UTF-8字符串后调用{@link #parseResponse(String)}，
+     * 支持流式解析的API应当覆盖此方法以增量解析响应。调用者负责关闭输入流。
+     * </p>
+     *
+     * @param body 响应体输入流
+     * @return 解析后的对象
+     * @throws BtApiException 当读取或解析失败时抛出
+     */
+    default T parseResponse(InputStream body) {
+        try {
+            return parseResponse(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new BtApiException("Failed to read response body: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * HTTP请求方法枚举
      */
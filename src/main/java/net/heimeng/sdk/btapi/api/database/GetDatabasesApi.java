@@ -6,7 +6,7 @@ import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
-import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
 import net.heimeng.sdk.btapi.model.database.DatabaseInfo;
 
 import java.text.ParseException;
@@ -23,7 +23,7 @@ import java.util.List;
  * @author InwardFlow
  * @since 2.0.0
  */
-public class GetDatabasesApi extends BaseBtApi<BtResult<List<DatabaseInfo>>> {
+public class GetDatabasesApi extends BaseBtApi<TableResult<DatabaseInfo>> {
     
     /**
      * API端点路径
@@ -41,14 +41,46 @@ public class GetDatabasesApi extends BaseBtApi<BtResult<List<DatabaseInfo>>> {
     }
     
     /**
-     * 解析API响应字符串为BtResult<List<DatabaseInfo>>对象
+     * 设置当前分页
+     * 
+     * @param page 当前分页，从1开始
+     * @return 当前API实例，支持链式调用
+     */
+    public GetDatabasesApi setPage(Integer page) {
+        addParam("p", page);
+        return this;
+    }
+    
+    /**
+     * 设置每页取回的数据行数
+     * 
+     * @param limit 数据行数
+     * @return 当前API实例，支持链式调用
+     */
+    public GetDatabasesApi setLimit(Integer limit) {
+        addParam("limit", limit);
+        return this;
+    }
+    
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
+    /**
+     * 解析API响应字符串为TableResult<DatabaseInfo>对象
      * 
      * @param response API响应字符串
-     * @return BtResult<List<DatabaseInfo>>对象
+     * @return TableResult<DatabaseInfo>对象
      * @throws BtApiException 当解析失败时抛出
      */
     @Override
-    public BtResult<List<DatabaseInfo>> parseResponse(String response) {
+    public TableResult<DatabaseInfo> parseResponse(String response) {
         if (response == null || response.isEmpty()) {
             throw new BtApiException("Empty response received");
         }
@@ -59,7 +91,7 @@ public class GetDatabasesApi extends BaseBtApi<BtResult<List<DatabaseInfo>>> {
             }
 
             JSONObject json = JSONUtil.parseObj(response);
-            BtResult<List<DatabaseInfo>> result = new BtResult<>();
+            TableResult<DatabaseInfo> result = new TableResult<>();
             List<DatabaseInfo> databases = new ArrayList<>();
             
             // 检查响应是否包含data字段
@@ -108,6 +140,7 @@ public class GetDatabasesApi extends BaseBtApi<BtResult<List<DatabaseInfo>>> {
             }
             
             result.setData(databases);
+            result.setTotal(TableResult.parseTotal(json.get("page")));
             return result;
 
         } catch (JSONException e) {
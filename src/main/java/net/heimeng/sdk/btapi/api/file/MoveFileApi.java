@@ -1,7 +1,5 @@
 package net.heimeng.sdk.btapi.api.file;
 
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.model.BtResult;
@@ -105,19 +103,8 @@ public class MoveFileApi extends BaseBtApi<BtResult<Boolean>> {
         }
         
         try {
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-            
-            JSONObject json = JSONUtil.parseObj(response);
-            BtResult<Boolean> result = new BtResult<>();
-            boolean status = json.getBool("status", false);
-            
-            result.setStatus(status);
-            result.setMsg(json.getStr("msg", status ? ("move".equals(params.get("type")) ? "移动成功" : "复制成功") : "操作失败"));
-            result.setData(status);
-            
-            return result;
+            return decodeStatusResult(response,
+                    "move".equals(params.get("type")) ? "移动成功" : "复制成功", "操作失败");
         } catch (Exception e) {
             throw new BtApiException("Failed to parse move file response: " + e.getMessage(), e);
         }
@@ -6,7 +6,7 @@ import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
-import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
 import net.heimeng.sdk.btapi.model.ftp.FtpAccount;
 
 import java.text.ParseException;
@@ -23,7 +23,7 @@ import java.util.List;
  * @author InwardFlow
  * @since 2.0.0
  */
-public class GetFtpAccountsApi extends BaseBtApi<BtResult<List<FtpAccount>>> {
+public class GetFtpAccountsApi extends BaseBtApi<TableResult<FtpAccount>> {
     
     /**
      * API端点路径
@@ -41,14 +41,46 @@ public class GetFtpAccountsApi extends BaseBtApi<BtResult<List<FtpAccount>>> {
     }
     
     /**
-     * 解析API响应字符串为BtResult<List<FtpAccount>>对象
+     * 设置当前分页
+     * 
+     * @param page 当前分页，从1开始
+     * @return 当前API实例，支持链式调用
+     */
+    public GetFtpAccountsApi setPage(Integer page) {
+        addParam("p", page);
+        return this;
+    }
+    
+    /**
+     * 设置每页取回的数据行数
+     * 
+     * @param limit 数据行数
+     * @return 当前API实例，支持链式调用
+     */
+    public GetFtpAccountsApi setLimit(Integer limit) {
+        addParam("limit", limit);
+        return this;
+    }
+    
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
+    /**
+     * 解析API响应字符串为TableResult<FtpAccount>对象
      * 
      * @param response API响应字符串
-     * @return BtResult<List<FtpAccount>>对象
+     * @return TableResult<FtpAccount>对象
      * @throws BtApiException 当解析失败时抛出
      */
     @Override
-    public BtResult<List<FtpAccount>> parseResponse(String response) {
+    public TableResult<FtpAccount> parseResponse(String response) {
         if (response == null || response.isEmpty()) {
             throw new BtApiException("Empty response received");
         }
@@ -59,7 +91,7 @@ public class GetFtpAccountsApi extends BaseBtApi<BtResult<List<FtpAccount>>> {
             }
 
             JSONObject json = JSONUtil.parseObj(response);
-            BtResult<List<FtpAccount>> result = new BtResult<>();
+            TableResult<FtpAccount> result = new TableResult<>();
             List<FtpAccount> ftpAccounts = new ArrayList<>();
             
             // 检查响应是否包含data字段
@@ -108,6 +140,7 @@ public class GetFtpAccountsApi extends BaseBtApi<BtResult<List<FtpAccount>>> {
             }
             
             result.setData(ftpAccounts);
+            result.setTotal(TableResult.parseTotal(json.get("page")));
             return result;
 
         } catch (JSONException e) {
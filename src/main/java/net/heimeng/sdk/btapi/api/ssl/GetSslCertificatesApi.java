@@ -1,9 +1,7 @@
 package net.heimeng.sdk.btapi.api.ssl;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONException;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.model.BtResult;
@@ -41,6 +39,16 @@ public class GetSslCertificatesApi extends BaseBtApi<BtResult<List<SslCertificat
         addParam("table", "ssl");
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 解析API响应字符串为BtResult<List<SslCertificate>>对象
      * 
@@ -55,96 +63,135 @@ public class GetSslCertificatesApi extends BaseBtApi<BtResult<List<SslCertificat
         }
 
         try {
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-
-            JSONObject json = JSONUtil.parseObj(response);
+            CertificatesResponse parsed = decode(response, CertificatesResponse.class);
             BtResult<List<SslCertificate>> result = new BtResult<>();
             List<SslCertificate> certificates = new ArrayList<>();
             
             // 检查响应是否包含data字段
-            if (json.containsKey("data")) {
+            if (parsed.getData() != null) {
                 result.setStatus(true);
                 result.setMsg("Success");
                 
                 // 解析SSL证书列表
-                JSONArray certArray = json.getJSONArray("data");
-                if (certArray != null && !certArray.isEmpty()) {
+                if (!parsed.getData().isEmpty()) {
                     SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
                     
-                    for (int i = 0; i < certArray.size(); i++) {
-                        JSONObject certJson = certArray.getJSONObject(i);
-                        if (certJson != null) {
-                            SslCertificate certificate = new SslCertificate();
-                            
-                            // 设置证书基本信息
-                            certificate.setId(certJson.getInt("id", 0));
-                            certificate.setName(certJson.getStr("name", ""));
-                            certificate.setType(certJson.getStr("type", ""));
-                            certificate.setIssuer(certJson.getStr("issuer", ""));
-                            certificate.setStatus(certJson.getStr("status", "unknown"));
-                            certificate.setAutoRenew(certJson.getBool("auto_renew", false));
-                            certificate.setFingerprint(certJson.getStr("fingerprint", ""));
-                            
-                            // 解析域名列表
-                            String domainsStr = certJson.getStr("domains", "");
-                            if (!domainsStr.isEmpty()) {
-                                List<String> domains = new ArrayList<>();
-                                for (String domain : domainsStr.split(",")) {
-                                    if (!domain.trim().isEmpty()) {
-                                        domains.add(domain.trim());
-                                    }
-                                }
-                                certificate.setDomains(domains);
-                            }
-                            
-                            // 解析有效期
-                            try {
-                                String validFromStr = certJson.getStr("valid_from", "");
-                                if (!validFromStr.isEmpty()) {
-                                    certificate.setValidFrom(dateFormat.parse(validFromStr));
-                                }
-                                
-                                String validToStr = certJson.getStr("valid_to", "");
-                                if (!validToStr.isEmpty()) {
-                                    certificate.setValidTo(dateFormat.parse(validToStr));
-                                }
-                            } catch (ParseException e) {
-                                // 忽略时间解析错误
-                            }
-                            
-                            // 根据有效期计算证书状态（如果状态未设置）
-                            if ("unknown".equals(certificate.getStatus()) && certificate.getValidTo() != null) {
-                                Date now = new Date();
-                                long daysDiff = (certificate.getValidTo().getTime() - now.getTime()) / (1000 * 60 * 60 * 24);
-                                
-                                if (daysDiff < 0) {
-                                    certificate.setStatus("expired");
-                                } else if (daysDiff <= 30) {
-                                    certificate.setStatus("expiring_soon");
-                                } else {
-                                    certificate.setStatus("valid");
-                                }
-                            }
-                            
-                            certificates.add(certificate);
+                    for (CertificateRow row : parsed.getData()) {
+                        if (row != null) {
+                            certificates.add(toCertificate(row, dateFormat));
                         }
                     }
                 }
-            } else if (json.containsKey("status")) {
+            } else if (parsed.getStatus() != null) {
                 // 处理错误响应
-                result.setStatus(json.getBool("status", false));
-                result.setMsg(json.getStr("msg", ""));
+                result.setStatus(parsed.getStatus());
+                result.setMsg(parsed.getMsg() != null ? parsed.getMsg() : "");
             }
             
             result.setData(certificates);
             return result;
 
-        } catch (JSONException e) {
-            throw new BtApiException("Invalid JSON response: " + response);
+        } catch (BtApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new BtApiException("Failed to parse SSL certificates response: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 将绑定后的证书记录转换为证书模型
+     */
+    private SslCertificate toCertificate(CertificateRow row, SimpleDateFormat dateFormat) {
+        SslCertificate certificate = new SslCertificate();
+        
+        // 设置证书基本信息
+        certificate.setId(row.getId() != null ? row.getId() : 0);
+        certificate.setName(row.getName() != null ? row.getName() : "");
+        certificate.setType(row.getType() != null ? row.getType() : "");
+        certificate.setIssuer(row.getIssuer() != null ? row.getIssuer() : "");
+        certificate.setStatus(row.getStatus() != null ? row.getStatus() : "unknown");
+        certificate.setAutoRenew(row.getAutoRenew() != null && row.getAutoRenew());
+        certificate.setFingerprint(row.getFingerprint() != null ? row.getFingerprint() : "");
+        
+        // 解析域名列表，面板可能返回逗号分隔的字符串或数组
+        Object rawDomains = row.getDomains();
+        if (rawDomains instanceof List<?>) {
+            List<String> domains = new ArrayList<>();
+            for (Object domain : (List<?>) rawDomains) {
+                if (domain != null && !domain.toString().trim().isEmpty()) {
+                    domains.add(domain.toString().trim());
+                }
+            }
+            certificate.setDomains(domains);
+        }
+        String domainsStr = rawDomains instanceof String ? (String) rawDomains : "";
+        if (!domainsStr.isEmpty()) {
+            List<String> domains = new ArrayList<>();
+            for (String domain : domainsStr.split(",")) {
+                if (!domain.trim().isEmpty()) {
+                    domains.add(domain.trim());
+                }
+            }
+            certificate.setDomains(domains);
+        }
+        
+        // 解析有效期
+        try {
+            if (row.getValidFrom() != null && !row.getValidFrom().isEmpty()) {
+                certificate.setValidFrom(dateFormat.parse(row.getValidFrom()));
+            }
+            
+            if (row.getValidTo() != null && !row.getValidTo().isEmpty()) {
+                certificate.setValidTo(dateFormat.parse(row.getValidTo()));
+            }
+        } catch (ParseException e) {
+            // 忽略时间解析错误
+        }
+        
+        // 根据有效期计算证书状态（如果状态未设置）
+        if ("unknown".equals(certificate.getStatus()) && certificate.getValidTo() != null) {
+            Date now = new Date();
+            long daysDiff = (certificate.getValidTo().getTime() - now.getTime()) / (1000 * 60 * 60 * 24);
+            
+            if (daysDiff < 0) {
+                certificate.setStatus("expired");
+            } else if (daysDiff <= 30) {
+                certificate.setStatus("expiring_soon");
+            } else {
+                certificate.setStatus("valid");
+            }
+        }
+        
+        return certificate;
+    }
+    
+    /**
+     * SSL证书列表接口的响应结构，由JSON编解码器直接绑定
+     */
+    @Data
+    private static class CertificatesResponse {
+        private Boolean status;
+        private String msg;
+        private List<CertificateRow> data;
+    }
+    
+    /**
+     * SSL证书列表中的单条记录
+     */
+    @Data
+    private static class CertificateRow {
+        private Integer id;
+        private String name;
+        private String type;
+        private String issuer;
+        private String status;
+        @JsonProperty("auto_renew")
+        private Boolean autoRenew;
+        private String fingerprint;
+        private Object domains;
+        @JsonProperty("valid_from")
+        private String validFrom;
+        @JsonProperty("valid_to")
+        private String validTo;
+    }
+}
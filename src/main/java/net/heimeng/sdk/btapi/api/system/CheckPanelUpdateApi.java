@@ -58,6 +58,16 @@ public class CheckPanelUpdateApi extends BaseBtApi<BtResult<PanelUpdateInfo>> {
         return this;
     }
     
+    /**
+     * 不强制检查时只读取面板已有的更新信息，是只读API；强制检查会让面板联网刷新更新信息，不视为只读
+     * 
+     * @return 未设置强制检查时返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return !getParams().containsKey("check");
+    }
+    
     /**
      * 解析API响应字符串为BtResult<PanelUpdateInfo>对象
      * 
@@ -36,6 +36,16 @@ public class GetDiskInfoApi extends BaseBtApi<BtResult<List<DiskInfo>>> {
         super(ENDPOINT, HttpMethod.POST);
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 解析API响应字符串为BtResult<List<DiskInfo>>对象
      * 
@@ -35,6 +35,16 @@ public class GetNetworkStatusApi extends BaseBtApi<BtResult<NetworkStatus>> {
         super(ENDPOINT, HttpMethod.POST);
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 解析API响应字符串为BtResult<NetworkStatus>对象
      * 
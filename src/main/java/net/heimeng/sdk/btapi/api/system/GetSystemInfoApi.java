@@ -1,8 +1,6 @@
 package net.heimeng.sdk.btapi.api.system;
 
-import cn.hutool.json.JSONException;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
+import lombok.Data;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.model.BtResult;
@@ -31,6 +29,16 @@ public class GetSystemInfoApi extends BaseBtApi<BtResult<SystemInfo>> {
         super(ENDPOINT, HttpMethod.POST);
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 解析API响应字符串为BtResult<SystemInfo>对象
      * 
@@ -45,18 +53,14 @@ public class GetSystemInfoApi extends BaseBtApi<BtResult<SystemInfo>> {
         }
 
         try {
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-
-            JSONObject json = JSONUtil.parseObj(response);
+            SystemTotal total = decode(response, SystemTotal.class);
 
             BtResult<SystemInfo> result = new BtResult<>();
             
             // 检查是否包含status字段（错误响应格式）
-            if (json.containsKey("status")) {
-                result.setStatus(json.getBool("status", false));
-                result.setMsg(json.getStr("msg", ""));
+            if (total.getStatus() != null) {
+                result.setStatus(total.getStatus());
+                result.setMsg(total.getMsg() != null ? total.getMsg() : "");
             } else {
                 // 没有status字段，说明是成功的响应直接返回了数据
                 result.setStatus(true);
@@ -66,39 +70,54 @@ public class GetSystemInfoApi extends BaseBtApi<BtResult<SystemInfo>> {
             // 解析系统信息
             if (result.isSuccess()) {
                 SystemInfo systemInfo = new SystemInfo();
+                String system = total.getSystem() != null ? total.getSystem() : "Unknown";
 
                 // 主机名
-                systemInfo.setHostname(json.getStr("system", "Unknown"));
+                systemInfo.setHostname(system);
 
                 // 操作系统
-                systemInfo.setOs(json.getStr("system", "Unknown"));
+                systemInfo.setOs(system);
 
                 // 内核（目前只能使用 system 字段作为近似）
-                systemInfo.setKernel(json.getStr("system", "Unknown"));
+                systemInfo.setKernel(system);
 
                 // CPU 使用率
-                systemInfo.setCpuUsage(json.getDouble("cpuRealUsed", 0.0));
+                systemInfo.setCpuUsage(total.getCpuRealUsed() != null ? total.getCpuRealUsed() : 0.0);
 
                 // 内存信息（单位：MB）
-                systemInfo.setMemoryTotal(json.getLong("memTotal", 0L));
-                systemInfo.setMemoryUsed(json.getLong("memRealUsed", 0L));
+                systemInfo.setMemoryTotal(total.getMemTotal() != null ? total.getMemTotal() : 0L);
+                systemInfo.setMemoryUsed(total.getMemRealUsed() != null ? total.getMemRealUsed() : 0L);
 
                 // 磁盘信息（暂无数据，设置为 0）
                 systemInfo.setDiskTotal(0.0);
                 systemInfo.setDiskUsed(0.0);
 
                 // 面板版本
-                systemInfo.setPanelVersion(json.getStr("version", "Unknown"));
+                systemInfo.setPanelVersion(total.getVersion() != null ? total.getVersion() : "Unknown");
 
                 result.setData(systemInfo);
             }
             
             return result;
 
-        } catch (JSONException e) {
-            throw new BtApiException("Invalid JSON response: " + response);
+        } catch (BtApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new BtApiException("Failed to parse system info response: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * GetSystemTotal接口的响应结构，由JSON编解码器直接绑定
+     */
+    @Data
+    private static class SystemTotal {
+        private Boolean status;
+        private String msg;
+        private String system;
+        private Double cpuRealUsed;
+        private Long memTotal;
+        private Long memRealUsed;
+        private String version;
+    }
+}
@@ -1,7 +1,5 @@
 package net.heimeng.sdk.btapi.api.website;
 
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.model.BtResult;
@@ -64,19 +62,7 @@ public class CloseWebsiteSslApi extends BaseBtApi<BtResult<Boolean>> {
         }
         
         try {
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-            
-            JSONObject json = JSONUtil.parseObj(response);
-            BtResult<Boolean> result = new BtResult<>();
-            boolean status = json.getBool("status", false);
-            
-            result.setStatus(status);
-            result.setMsg(json.getStr("msg", status ? "关闭成功" : "关闭失败"));
-            result.setData(status);
-            
-            return result;
+            return decodeStatusResult(response, "关闭成功", "关闭失败");
         } catch (Exception e) {
             throw new BtApiException("Failed to parse close website SSL response: " + e.getMessage(), e);
         }
@@ -5,7 +5,7 @@ import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
-import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,7 +21,7 @@ import java.util.Map;
  * @author InwardFlow
  * @since 2.0.0
  */
-public class GetWebsiteBackupsApi extends BaseBtApi<BtResult<List<Map<String, Object>>>> {
+public class GetWebsiteBackupsApi extends BaseBtApi<TableResult<Map<String, Object>>> {
     
     /**
      * API端点路径
@@ -83,6 +83,16 @@ public class GetWebsiteBackupsApi extends BaseBtApi<BtResult<List<Map<String, Ob
         return this;
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 验证请求参数是否有效
      * 
@@ -94,14 +104,14 @@ public class GetWebsiteBackupsApi extends BaseBtApi<BtResult<List<Map<String, Ob
     }
     
     /**
-     * 解析API响应字符串为BtResult<List<Map<String, Object>>>对象
+     * 解析API响应字符串为TableResult<Map<String, Object>>对象
      * 
      * @param response API响应字符串
-     * @return BtResult<List<Map<String, Object>>>对象
+     * @return TableResult<Map<String, Object>>对象
      * @throws BtApiException 当解析失败时抛出
      */
     @Override
-    public BtResult<List<Map<String, Object>>> parseResponse(String response) {
+    public TableResult<Map<String, Object>> parseResponse(String response) {
         if (response == null || response.isEmpty()) {
             throw new BtApiException("Empty response received");
         }
@@ -112,7 +122,7 @@ public class GetWebsiteBackupsApi extends BaseBtApi<BtResult<List<Map<String, Ob
             }
             
             JSONObject json = JSONUtil.parseObj(response);
-            BtResult<List<Map<String, Object>>> result = new BtResult<>();
+            TableResult<Map<String, Object>> result = new TableResult<>();
             result.setStatus(true);
             result.setMsg("Success");
             
@@ -135,6 +145,7 @@ public class GetWebsiteBackupsApi extends BaseBtApi<BtResult<List<Map<String, Ob
             }
             
             result.setData(backups);
+            result.setTotal(TableResult.parseTotal(json.get("page")));
             return result;
         } catch (Exception e) {
             throw new BtApiException("Failed to parse website backups response: " + e.getMessage(), e);
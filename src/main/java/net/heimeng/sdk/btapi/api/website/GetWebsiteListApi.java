@@ -1,12 +1,11 @@
 package net.heimeng.sdk.btapi.api.website;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
+import lombok.Data;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
-import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +19,7 @@ import java.util.Map;
  * @author InwardFlow
  * @since 2.0.0
  */
-public class GetWebsiteListApi extends BaseBtApi<BtResult<List<Map<String, Object>>>> {
+public class GetWebsiteListApi extends BaseBtApi<TableResult<Map<String, Object>>> {
     
     /**
      * API端点路径
@@ -100,6 +99,16 @@ public class GetWebsiteListApi extends BaseBtApi<BtResult<List<Map<String, Objec
         return this;
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 验证请求参数是否有效
      * 
@@ -138,44 +147,75 @@ public class GetWebsiteListApi extends BaseBtApi<BtResult<List<Map<String, Objec
     }
     
     /**
-     * 解析API响应字符串为BtResult<List<Map<String, Object>>>对象
+     * 解析API响应字符串为TableResult<Map<String, Object>>对象
      * 
      * @param response API响应字符串
-     * @return BtResult<List<Map<String, Object>>>对象，其中data为网站列表
+     * @return TableResult<Map<String, Object>>对象，其中data为网站列表
      * @throws BtApiException 当解析失败时抛出
      */
     @Override
-    public BtResult<List<Map<String, Object>>> parseResponse(String response) {
+    public TableResult<Map<String, Object>> parseResponse(String response) {
         if (response == null || response.isEmpty()) {
             throw new BtApiException("Empty response received");
         }
         
         try {
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-            
-            JSONObject json = JSONUtil.parseObj(response);
-            BtResult<List<Map<String, Object>>> result = new BtResult<>();
-            
-            // 直接获取网站列表数据（新响应格式没有status字段）
-            JSONArray sitesArray = json.getJSONArray("data");
-            List<Map<String, Object>> sitesList = new ArrayList<>();
-            
-            if (sitesArray != null && !sitesArray.isEmpty()) {
-                for (int i = 0; i < sitesArray.size(); i++) {
-                    sitesList.add(sitesArray.getJSONObject(i).toBean(Map.class));
-                }
-            }
-            
-            // 设置结果信息
-            result.setStatus(true);
-            result.setMsg("获取成功");
-            result.setData(sitesList);
-            
-            return result;
+            return toResult(decode(response, SiteListResponse.class));
+        } catch (Exception e) {
+            throw new BtApiException("Failed to parse website list response: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 是否以流的方式解析响应，网站列表可能包含大量记录，直接从输入流解析
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isStreamingResponse() {
+        return true;
+    }
+    
+    /**
+     * 从输入流解析API响应为TableResult<Map<String, Object>>对象
+     * 
+     * @param body 响应体输入流
+     * @return TableResult<Map<String, Object>>对象，其中data为网站列表
+     * @throws BtApiException 当解析失败时抛出
+     */
+    @Override
+    public TableResult<Map<String, Object>> parseResponse(InputStream body) {
+        try {
+            return toResult(decode(body, SiteListResponse.class));
         } catch (Exception e) {
             throw new BtApiException("Failed to parse website list response: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 将绑定后的响应结构转换为结果对象
+     */
+    private TableResult<Map<String, Object>> toResult(SiteListResponse response) {
+        TableResult<Map<String, Object>> result = new TableResult<>();
+        
+        // 直接获取网站列表数据（新响应格式没有status字段）
+        List<Map<String, Object>> sitesList = response.getData() != null ? response.getData() : new ArrayList<>();
+        
+        // 设置结果信息
+        result.setStatus(true);
+        result.setMsg("获取成功");
+        result.setData(sitesList);
+        result.setTotal(TableResult.parseTotal(response.getPage()));
+        
+        return result;
+    }
+    
+    /**
+     * 网站列表接口的响应结构，由JSON编解码器直接绑定
+     */
+    @Data
+    private static class SiteListResponse {
+        private List<Map<String, Object>> data;
+        private Object page;
+    }
+}
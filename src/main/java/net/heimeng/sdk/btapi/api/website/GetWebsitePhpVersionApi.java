@@ -40,6 +40,16 @@ public class GetWebsitePhpVersionApi extends BaseBtApi<BtResult<String>> {
         return this;
     }
     
+    /**
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
     /**
      * 验证请求参数是否有效
      * 
@@ -1,18 +1,19 @@
 package net.heimeng.sdk.btapi.api.website;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
 import net.heimeng.sdk.btapi.api.BaseBtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
-import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
 import net.heimeng.sdk.btapi.model.website.WebsiteInfo;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 
 /**
  * 获取网站列表API实现
@@ -23,7 +24,7 @@ import java.util.Locale;
  * @author InwardFlow
  * @since 2.0.0
  */
-public class GetWebsitesApi extends BaseBtApi<BtResult<List<WebsiteInfo>>> {
+public class GetWebsitesApi extends BaseBtApi<TableResult<WebsiteInfo>> {
     
     /**
      * API端点路径
@@ -31,9 +32,9 @@ public class GetWebsitesApi extends BaseBtApi<BtResult<List<WebsiteInfo>>> {
     private static final String ENDPOINT = "data?action=getData&table=sites";
     
     /**
-     * 日期格式解析器
+     * 日期格式解析器，不可变且线程安全，可以在并发解析响应时共享
      */
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     /**
      * 构造函数，创建一个新的GetWebsitesApi实例
@@ -77,85 +78,145 @@ public class GetWebsitesApi extends BaseBtApi<BtResult<List<WebsiteInfo>>> {
     }
     
     /**
-     * 解析API响应字符串为BtResult<List<WebsiteInfo>>对象
+     * 只读API，不会修改面板上的数据
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+    
+    /**
+     * 解析API响应字符串为TableResult<WebsiteInfo>对象
      * 
      * @param response API响应字符串
-     * @return BtResult<List<WebsiteInfo>>对象
+     * @return TableResult<WebsiteInfo>对象
      * @throws BtApiException 当解析失败时抛出
      */
     @Override
-    public BtResult<List<WebsiteInfo>> parseResponse(String response) {
+    public TableResult<WebsiteInfo> parseResponse(String response) {
         if (response == null || response.isEmpty()) {
             throw new BtApiException("Empty response received");
         }
         
         try {
-            // 检查响应是否为有效的JSON
-            if (!JSONUtil.isTypeJSON(response)) {
-                throw new BtApiException("Invalid JSON response: " + response);
-            }
-            
-            // 解析JSON对象
-            JSONObject json = JSONUtil.parseObj(response);
-            
-            // 创建结果对象
-            BtResult<List<WebsiteInfo>> result = new BtResult<>();
-            // 宝塔面板API可能没有status字段，根据是否有data字段判断成功
-            result.setStatus(json.containsKey("data") && json.getJSONArray("data") != null);
-            result.setMsg(json.getStr("msg", "Success"));
+            // 一次解析完成非JSON检测和响应结构绑定
+            return toResult(decode(response, SitesResponse.class));
+        } catch (Exception e) {
+            throw new BtApiException("Failed to parse websites response: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 是否以流的方式解析响应，网站列表可能包含大量记录，直接从输入流解析
+     * 
+     * @return 始终返回true
+     */
+    @Override
+    public boolean isStreamingResponse() {
+        return true;
+    }
+    
+    /**
+     * 从输入流解析API响应为TableResult<WebsiteInfo>对象
+     * 
+     * @param body 响应体输入流
+     * @return TableResult<WebsiteInfo>对象
+     * @throws BtApiException 当解析失败时抛出
+     */
+    @Override
+    public TableResult<WebsiteInfo> parseResponse(InputStream body) {
+        try {
+            return toResult(decode(body, SitesResponse.class));
+        } catch (Exception e) {
+            throw new BtApiException("Failed to parse websites response: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 将绑定后的响应结构转换为结果对象
+     */
+    private TableResult<WebsiteInfo> toResult(SitesResponse response) {
+        // 创建结果对象
+        TableResult<WebsiteInfo> result = new TableResult<>();
+        // 宝塔面板API可能没有status字段，根据是否有data字段判断成功
+        result.setStatus(response.getData() != null);
+        result.setMsg(response.getMsg() != null ? response.getMsg() : "Success");
+        result.setTotal(TableResult.parseTotal(response.getPage()));
+        
+        // 解析网站列表
+        List<SiteRow> rows = response.getData();
+        if (rows != null) {
+            List<WebsiteInfo> websites = new ArrayList<>(rows.size());
             
-            // 解析网站列表
-            JSONArray dataArray = json.getJSONArray("data");
-            if (dataArray != null) {
-                List<WebsiteInfo> websites = new ArrayList<>(dataArray.size());
-                
-                for (int i = 0; i < dataArray.size(); i++) {
-                    JSONObject websiteJson = dataArray.getJSONObject(i);
-                    if (websiteJson != null) {
-                        WebsiteInfo website = new WebsiteInfo();
-                        website.setId(websiteJson.getLong("id", 0L));
-                        website.setName(websiteJson.getStr("name", ""));
-                        
-                        // 处理域名字段 - 从name字段获取，因为domain字段是数量
-                        website.setDomain(websiteJson.getStr("name", ""));
-                        
-                        website.setPath(websiteJson.getStr("path", ""));
-                        
-                        // 处理网站类型 - 从project_type字段获取
-                        website.setType(websiteJson.getStr("project_type", ""));
-                        
-                        // 处理状态字段 - 字符串转整数
-                        String statusStr = websiteJson.getStr("status", "0");
-                        website.setStatus(Integer.parseInt(statusStr));
-                        
-                        // 处理SSL状态 - -1表示未开启
-                        int sslValue = websiteJson.getInt("ssl", -1);
-                        website.setSsl(sslValue == 1 ? 1 : 0);
-                        
-                        // 处理创建时间 - 日期字符串转时间戳
-                        String addtimeStr = websiteJson.getStr("addtime", "");
-                        if (!addtimeStr.isEmpty()) {
-                            try {
-                                Date date = DATE_FORMAT.parse(addtimeStr);
-                                website.setCreateTime(date.getTime() / 1000);
-                            } catch (ParseException e) {
-                                // 如果解析失败，设置为0
-                                website.setCreateTime(0L);
-                            }
-                        } else {
+            for (SiteRow row : rows) {
+                if (row != null) {
+                    WebsiteInfo website = new WebsiteInfo();
+                    website.setId(row.getId() != null ? row.getId() : 0L);
+                    website.setName(row.getName() != null ? row.getName() : "");
+                    
+                    // 处理域名字段 - 从name字段获取，因为domain字段是数量
+                    website.setDomain(website.getName());
+                    
+                    website.setPath(row.getPath() != null ? row.getPath() : "");
+                    
+                    // 处理网站类型 - 从project_type字段获取
+                    website.setType(row.getProjectType() != null ? row.getProjectType() : "");
+                    
+                    // 处理状态字段 - 字符串转整数
+                    website.setStatus(Integer.parseInt(row.getStatus() != null ? row.getStatus() : "0"));
+                    
+                    // 处理SSL状态 - -1表示未开启，已部署证书时面板返回证书信息对象
+                    website.setSsl(row.getSsl() instanceof Number && ((Number) row.getSsl()).intValue() == 1 ? 1 : 0);
+                    
+                    // 处理创建时间 - 日期字符串转时间戳
+                    String addtimeStr = row.getAddtime() != null ? row.getAddtime() : "";
+                    if (!addtimeStr.isEmpty()) {
+                        try {
+                            website.setCreateTime(LocalDateTime.parse(addtimeStr, DATE_FORMAT)
+                                    .atZone(ZoneId.systemDefault())
+                                    .toEpochSecond());
+                        } catch (DateTimeParseException e) {
+                            // 如果解析失败，设置为0
                             website.setCreateTime(0L);
                         }
-                        
-                        websites.add(website);
+                    } else {
+                        website.setCreateTime(0L);
                     }
+                    
+                    websites.add(website);
                 }
-                
-                result.setData(websites);
             }
             
-            return result;
-        } catch (Exception e) {
-            throw new BtApiException("Failed to parse websites response: " + e.getMessage(), e);
+            result.setData(websites);
         }
+        
+        return result;
+    }
+    
+    /**
+     * 网站列表接口的响应结构，由JSON编解码器直接绑定
+     */
+    @Data
+    private static class SitesResponse {
+        private String msg;
+        private List<SiteRow> data;
+        private Object page;
+    }
+    
+    /**
+     * 网站列表中的单条记录
+     */
+    @Data
+    private static class SiteRow {
+        private Long id;
+        private String name;
+        private String path;
+        @JsonProperty("project_type")
+        private String projectType;
+        private String status;
+        private Object ssl;
+        private String addtime;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package net.heimeng.sdk.btapi.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import net.heimeng.sdk.btapi.api.BtApi;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 响应缓存策略配置类
+ * <p>
+ * 只有{@link BtApi#isReadOnly()}为true的API会被缓存。未单独配置有效期的只读API使用{@link #defaultTtl}，
+ * 有效期为0表示不缓存该API；配置了过期后可用窗口的API，过期后在窗口内仍返回旧结果并在后台刷新。
+ * 修改类API调用成功后，会使同一资源分组（即API所在的包，如website、ssl）
+ * 以及通过{@link CachePolicyBuilder#invalidates(Class, String...)}额外声明的分组中的缓存失效。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class CachePolicy {
+
+    /**
+     * 最多缓存的条目数，超出时淘汰最久未访问的条目，默认为1000
+     */
+    @Builder.Default
+    private final int maximumSize = 1000;
+
+    /**
+     * 未单独配置有效期的只读API的缓存有效期，默认为5秒
+     */
+    @Builder.Default
+    private final Duration defaultTtl = Duration.ofSeconds(5);
+
+    /**
+     * 按API类型单独配置的缓存有效期
+     */
+    @Singular
+    private final Map<Class<?>, Duration> ttls;
+
+    /**
+     * 未单独配置过期后可用窗口的只读API的窗口长度，默认为0，即过期即失效
+     */
+    @Builder.Default
+    private final Duration defaultStaleWindow = Duration.ZERO;
+
+    /**
+     * 按API类型单独配置的过期后可用窗口（stale-while-revalidate），条目在有效期加窗口长度后硬过期
+     */
+    @Singular("staleWhileRevalidate")
+    private final Map<Class<?>, Duration> staleWindows;
+
+    /**
+     * 修改类API成功后需要额外失效的资源分组
+     */
+    private final Map<Class<?>, Set<String>> extraInvalidations;
+
+    /**
+     * 修改类API成功后是否自动使相关缓存失效，默认为true
+     */
+    @Builder.Default
+    private final boolean invalidateOnMutation = true;
+
+    /**
+     * 纳秒时间源，默认为{@link System#nanoTime()}，主要用于测试
+     */
+    @Builder.Default
+    @ToString.Exclude
+    private final LongSupplier ticker = System::nanoTime;
+
+    /**
+     * 获取指定API的缓存有效期
+     *
+     * @param apiType API类型
+     * @return 缓存有效期，不缓存时返回{@link Duration#ZERO}
+     */
+    public Duration ttlFor(Class<?> apiType) {
+        Duration ttl = ttls.get(apiType);
+        if (ttl == null) {
+            ttl = defaultTtl;
+        }
+        return ttl == null || ttl.isNegative() ? Duration.ZERO : ttl;
+    }
+
+    /**
+     * 获取指定API的过期后可用窗口
+     *
+     * @param apiType API类型
+     * @return 窗口长度，不允许返回过期结果时返回{@link Duration#ZERO}
+     */
+    public Duration staleWindowFor(Class<?> apiType) {
+        Duration window = staleWindows.get(apiType);
+        if (window == null) {
+            window = defaultStaleWindow;
+        }
+        return window == null || window.isNegative() ? Duration.ZERO : window;
+    }
+
+    /**
+     * 获取修改类API成功后需要失效的资源分组
+     *
+     * @param apiType 修改类API的类型
+     * @return 资源分组集合，至少包含API自身所在的分组
+     */
+    public Set<String> invalidationGroupsFor(Class<?> apiType) {
+        Set<String> extra = extraInvalidations == null ? null : extraInvalidations.get(apiType);
+        if (extra == null || extra.isEmpty()) {
+            return Collections.singleton(groupOf(apiType));
+        }
+        Set<String> groups = new LinkedHashSet<>(extra);
+        groups.add(groupOf(apiType));
+        return groups;
+    }
+
+    /**
+     * 获取API所属的资源分组，即API所在包的最后一段，如{@code website}、{@code ssl}
+     *
+     * @param apiType API类型
+     * @return 资源分组名称
+     */
+    public static String groupOf(Class<?> apiType) {
+        String packageName = apiType.getPackageName();
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * 检查策略是否有效
+     *
+     * @return 如果策略有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return maximumSize > 0 && ticker != null;
+    }
+
+    /**
+     * 缓存策略构建器，补充声明额外失效分组的方法
+     */
+    public static class CachePolicyBuilder {
+
+        /**
+         * 声明修改类API成功后还需要失效的资源分组，例如为网站开启SSL后刷新证书列表
+         *
+         * @param mutatingApi 修改类API的类型
+         * @param groups 需要额外失效的资源分组
+         * @return 构建器实例
+         */
+        public CachePolicyBuilder invalidates(Class<? extends BtApi<?>> mutatingApi, String... groups) {
+            if (extraInvalidations == null) {
+                extraInvalidations = new HashMap<>();
+            }
+            Collections.addAll(extraInvalidations.computeIfAbsent(mutatingApi, k -> new LinkedHashSet<>()), groups);
+            return this;
+        }
+    }
+}
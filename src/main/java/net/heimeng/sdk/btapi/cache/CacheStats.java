@@ -0,0 +1,72 @@
+package net.heimeng.sdk.btapi.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 响应缓存的统计快照
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CacheStats {
+
+    /**
+     * 命中次数
+     */
+    private final long hitCount;
+
+    /**
+     * 过期后可用窗口内返回旧结果的次数
+     */
+    private final long staleHitCount;
+
+    /**
+     * 未命中次数（包括已过期的条目）
+     */
+    private final long missCount;
+
+    /**
+     * 写入次数
+     */
+    private final long putCount;
+
+    /**
+     * 因容量上限被淘汰的条目数
+     */
+    private final long evictionCount;
+
+    /**
+     * 因修改类API成功或手动失效而移除的条目数
+     */
+    private final long invalidationCount;
+
+    /**
+     * 发起的后台刷新次数
+     */
+    private final long refreshCount;
+
+    /**
+     * 失败的后台刷新次数
+     */
+    private final long refreshFailureCount;
+
+    /**
+     * 当前条目数
+     */
+    private final int size;
+
+    /**
+     * 计算命中率，过期后可用窗口内的命中也计入
+     *
+     * @return 命中率，没有任何请求时返回1.0
+     */
+    public double hitRate() {
+        long requests = hitCount + staleHitCount + missCount;
+        return requests == 0 ? 1.0 : (double) (hitCount + staleHitCount) / requests;
+    }
+}
@@ -0,0 +1,463 @@
+package net.heimeng.sdk.btapi.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.client.BtClient;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.interceptor.RequestContext;
+import net.heimeng.sdk.btapi.interceptor.RequestContext.AsyncChain;
+import net.heimeng.sdk.btapi.interceptor.RequestContext.Chain;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import net.heimeng.sdk.btapi.interceptor.RequestKey;
+import net.heimeng.sdk.btapi.model.BtResult;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 只读API的读穿透响应缓存拦截器
+ * <p>
+ * 以{@link RequestKey}（面板地址、API类型、端点和除认证参数外的请求参数）为键缓存只读API的成功结果，命中时直接返回缓存的结果，
+ * 不再执行后续拦截器和HTTP请求。缓存容量有上限，超出时淘汰最久未访问的条目；修改类API调用成功后，
+ * 按{@link CachePolicy}使相关资源分组的缓存失效。
+ * </p>
+ * <p>
+ * 为API配置了过期后可用窗口（stale-while-revalidate）时，条目过期但仍在窗口内的请求会立即拿到旧结果，
+ * 同时由客户端在后台发起一次刷新，刷新成功后替换条目；超过窗口（硬过期）的条目不再返回。后台刷新需要通过
+ * {@link #bindTo(BtClient)}注册拦截器，否则过期条目一律按未命中处理。
+ * </p>
+ * <p>
+ * 缓存的结果对象会被多个调用方共享，调用方不应修改返回的结果。缓存键包含面板地址，同一实例注册到多个客户端时
+ * 各面板的结果分别缓存；这种情况下只有与绑定客户端同一面板的过期条目会在后台刷新，其他面板的过期条目按未命中处理。
+ * </p>
+ *
+ * <pre>{@code
+ * ResponseCacheInterceptor cache = new ResponseCacheInterceptor(CachePolicy.builder()
+ *         .ttl(GetSystemInfoApi.class, Duration.ofSeconds(2))
+ *         .ttl(GetDiskInfoApi.class, Duration.ofSeconds(30))
+ *         .staleWhileRevalidate(GetDiskInfoApi.class, Duration.ofMinutes(10))
+ *         .invalidates(SetWebsiteSslApi.class, "ssl")
+ *         .build())
+ *         .bindTo(client);
+ * }</pre>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+public class ResponseCacheInterceptor implements RequestInterceptor {
+
+    /**
+     * 拦截器优先级，排在其他拦截器之前，命中缓存时不会进入后续拦截器
+     */
+    public static final int PRIORITY = -1000;
+
+    /**
+     * {@link #lookup}命中缓存时的返回值
+     */
+    private static final long HIT = -1;
+
+    private final CachePolicy policy;
+
+    /**
+     * 按访问顺序排列的缓存条目，所有访问都在该对象的锁内进行
+     */
+    private final LinkedHashMap<RequestKey, Entry> entries;
+
+    /**
+     * 各资源分组的失效代数，请求开始后分组被失效过时，该请求的结果不再写入缓存
+     */
+    private final Map<String, Long> generations = new HashMap<>();
+
+    /**
+     * 用于后台刷新的客户端，未绑定时不支持stale-while-revalidate
+     */
+    private volatile BtClient client;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * 使用默认策略创建缓存拦截器
+     */
+    public ResponseCacheInterceptor() {
+        this(CachePolicy.builder().build());
+    }
+
+    /**
+     * 使用指定策略创建缓存拦截器
+     *
+     * @param policy 缓存策略
+     */
+    public ResponseCacheInterceptor(CachePolicy policy) {
+        Objects.requireNonNull(policy, "Cache policy must not be null");
+        if (!policy.isValid()) {
+            throw new IllegalArgumentException("Invalid cache policy");
+        }
+        this.policy = policy;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 把拦截器注册到客户端，并使用该客户端执行过期条目的后台刷新
+     *
+     * @param client 客户端实例
+     * @return 当前实例
+     */
+    public ResponseCacheInterceptor bindTo(BtClient client) {
+        Objects.requireNonNull(client, "Client must not be null");
+        this.client = client;
+        client.addInterceptor(this);
+        return this;
+    }
+
+    @Override
+    public void intercept(RequestContext context, Chain chain) throws Exception {
+        BtApi<?> api = context.getApi();
+        if (api instanceof RefreshApi) {
+            chain.proceed();
+            return;
+        }
+        if (!api.isReadOnly()) {
+            chain.proceed();
+            onMutationCompleted(context);
+            return;
+        }
+
+        Duration ttl = policy.ttlFor(api.getClass());
+        if (ttl.isZero()) {
+            chain.proceed();
+            return;
+        }
+
+        RequestKey key = RequestKey.of(context);
+        long generation = lookup(key, context);
+        if (generation == HIT) {
+            return;
+        }
+
+        chain.proceed();
+        if (isCacheable(context)) {
+            store(key, api.getClass(), generation, context.getResult());
+        }
+    }
+
+    @Override
+    public CompletableFuture<RequestContext> interceptAsync(RequestContext context, AsyncChain chain) {
+        BtApi<?> api = context.getApi();
+        if (api instanceof RefreshApi) {
+            return chain.proceedAsync();
+        }
+        if (!api.isReadOnly()) {
+            return chain.proceedAsync().thenApply(ctx -> {
+                onMutationCompleted(ctx);
+                return ctx;
+            });
+        }
+
+        Duration ttl = policy.ttlFor(api.getClass());
+        if (ttl.isZero()) {
+            return chain.proceedAsync();
+        }
+
+        RequestKey key = RequestKey.of(context);
+        long generation = lookup(key, context);
+        if (generation == HIT) {
+            return CompletableFuture.completedFuture(context);
+        }
+
+        return chain.proceedAsync().thenApply(ctx -> {
+            if (isCacheable(ctx)) {
+                store(key, api.getClass(), generation, ctx.getResult());
+            }
+            return ctx;
+        });
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+
+    /**
+     * 使指定API类型的所有缓存条目失效
+     *
+     * @param apiType API类型
+     */
+    public void invalidate(Class<?> apiType) {
+        synchronized (entries) {
+            bumpGeneration(CachePolicy.groupOf(apiType));
+            removeIf(entry -> entry.getKey().getApiType() == apiType);
+        }
+    }
+
+    /**
+     * 使指定资源分组的所有缓存条目失效
+     *
+     * @param group 资源分组，如{@code website}
+     */
+    public void invalidateGroup(String group) {
+        synchronized (entries) {
+            bumpGeneration(group);
+            removeIf(entry -> entry.getValue().group.equals(group));
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generations.replaceAll((group, generation) -> generation + 1);
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    /**
+     * 获取缓存统计快照
+     *
+     * @return 统计快照
+     */
+    public CacheStats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), staleHits.sum(), misses.sum(), puts.sum(), evictions.sum(),
+                invalidations.sum(), refreshes.sum(), refreshFailures.sum(), size);
+    }
+
+    /**
+     * 查找缓存，命中（包括过期后可用窗口内的命中）时把结果写入上下文
+     *
+     * @return 命中时返回{@link #HIT}，否则返回当前分组的失效代数
+     */
+    private long lookup(RequestKey key, RequestContext context) {
+        long now = policy.getTicker().getAsLong();
+        Entry entry;
+        boolean refresh = false;
+        long generation;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && now - entry.expiresAtNanos < 0) {
+                hits.increment();
+            } else if (entry != null && now - entry.staleUntilNanos < 0 && canRefresh(key)) {
+                staleHits.increment();
+                if (!entry.refreshing) {
+                    entry.refreshing = true;
+                    refresh = true;
+                }
+            } else {
+                if (entry != null) {
+                    entries.remove(key);
+                }
+                misses.increment();
+                return generations.getOrDefault(CachePolicy.groupOf(context.getApi().getClass()), 0L);
+            }
+            generation = generations.getOrDefault(entry.group, 0L);
+        }
+
+        context.setStatusCode(200);
+        context.setResult(entry.value);
+        log.debug("Cache hit: {}", key);
+        if (refresh) {
+            refresh(key, entry, context.getApi(), generation);
+        }
+        return HIT;
+    }
+
+    /**
+     * 判断条目能否由绑定的客户端刷新，只有请求所属面板与绑定客户端相同时才能刷新
+     */
+    private boolean canRefresh(RequestKey key) {
+        BtClient bound = client;
+        if (bound == null) {
+            return false;
+        }
+        BtSdkConfig config = bound.getConfig();
+        return Objects.equals(key.getBaseUrl(), config != null ? config.getBaseUrl() : null);
+    }
+
+    /**
+     * 在后台刷新过期条目，同一条目同时最多只有一次刷新
+     */
+    private void refresh(RequestKey key, Entry entry, BtApi<?> api, long generation) {
+        refreshes.increment();
+        log.debug("Refreshing stale cache entry: {}", key);
+        CompletableFuture<?> future;
+        try {
+            future = client.executeAsync(new RefreshApi<>(api));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, error) -> {
+            if (error == null && isCacheableResult(result)) {
+                store(key, api.getClass(), generation, result);
+                return;
+            }
+            refreshFailures.increment();
+            log.debug("Failed to refresh cache entry {}: {}", key, error != null ? error.getMessage() : result);
+            synchronized (entries) {
+                entry.refreshing = false;
+            }
+        });
+    }
+
+    /**
+     * 期间分组未被失效时写入缓存
+     */
+    private void store(RequestKey key, Class<?> apiType, long generation, Object result) {
+        String group = CachePolicy.groupOf(apiType);
+        long now = policy.getTicker().getAsLong();
+        long expiresAt = now + policy.ttlFor(apiType).toNanos();
+        long staleUntil = expiresAt + policy.staleWindowFor(apiType).toNanos();
+        synchronized (entries) {
+            if (generations.getOrDefault(group, 0L) != generation) {
+                return;
+            }
+            entries.put(key, new Entry(result, group, expiresAt, staleUntil));
+            puts.increment();
+            Iterator<Map.Entry<RequestKey, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > policy.getMaximumSize() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 修改类API成功后使相关分组失效
+     */
+    private void onMutationCompleted(RequestContext context) {
+        if (!policy.isInvalidateOnMutation() || !isCacheable(context)) {
+            return;
+        }
+        Set<String> groups = policy.invalidationGroupsFor(context.getApi().getClass());
+        synchronized (entries) {
+            groups.forEach(this::bumpGeneration);
+            removeIf(entry -> groups.contains(entry.getValue().group));
+        }
+        log.debug("Invalidated cache groups {} after {}", groups, context.getApi().getClass().getSimpleName());
+    }
+
+    private void bumpGeneration(String group) {
+        generations.merge(group, 1L, Long::sum);
+    }
+
+    private void removeIf(Predicate<Map.Entry<RequestKey, Entry>> predicate) {
+        Iterator<Map.Entry<RequestKey, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * 只有没有异常、结果非空且业务状态为成功的结果才可以缓存，也只有这样的修改结果才会触发失效
+     */
+    private static boolean isCacheable(RequestContext context) {
+        if (context.hasException() || context.isCanceled()) {
+            return false;
+        }
+        return isCacheableResult(context.getResult());
+    }
+
+    private static boolean isCacheableResult(Object result) {
+        if (result instanceof BtResult) {
+            return ((BtResult<?>) result).isSuccess();
+        }
+        return result != null;
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static final class Entry {
+
+        private final Object value;
+
+        private final String group;
+
+        private final long expiresAtNanos;
+
+        private final long staleUntilNanos;
+
+        /**
+         * 是否正在后台刷新，在{@link #entries}的锁内读写
+         */
+        private boolean refreshing;
+
+        private Entry(Object value, String group, long expiresAtNanos, long staleUntilNanos) {
+            this.value = value;
+            this.group = group;
+            this.expiresAtNanos = expiresAtNanos;
+            this.staleUntilNanos = staleUntilNanos;
+        }
+    }
+
+    /**
+     * 后台刷新使用的API包装，缓存拦截器遇到该类型时直接放行，避免刷新请求再次命中旧条目
+     */
+    private static final class RefreshApi<T> implements BtApi<T> {
+
+        private final BtApi<T> delegate;
+
+        private RefreshApi(BtApi<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getEndpoint() {
+            return delegate.getEndpoint();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public Map<String, Object> getParams() {
+            return delegate.getParams();
+        }
+
+        @Override
+        public T parseResponse(String response) {
+            return delegate.parseResponse(response);
+        }
+
+        @Override
+        public T parseResponse(InputStream body) {
+            return delegate.parseResponse(body);
+        }
+
+        @Override
+        public boolean isStreamingResponse() {
+            return delegate.isStreamingResponse();
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return delegate.isReadOnly();
+        }
+    }
+}
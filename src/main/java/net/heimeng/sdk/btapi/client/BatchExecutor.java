@@ -0,0 +1,259 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.extern.slf4j.Slf4j;
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 批量执行器，以有限的并发度通过客户端的异步接口执行一组API请求
+ * <p>
+ * 开始时发出不超过并发上限的请求，此后每完成一个请求再发出下一个，等待期间不占用线程。
+ * 批量结果被取消或快速失败时取消所有在途的请求，取消通过客户端传播到HTTP交换和重试等待。
+ * 到达整体截止时间时，未完成的请求被取消并记为失败，批量以部分结果正常结束。
+ * </p>
+ * <p>
+ * 每个位置的结果只会被写入一次，晚于截止时间完成的请求不会覆盖已记录的失败。
+ * 单个请求的超时和整体截止时间都由客户端的{@link DelayScheduler}计时，不占用公共的定时线程；到期后的处理
+ * （记录失败、回调监听器、发出下一个请求）转交给回调执行器，不在定时线程上执行，以免阻塞客户端的其他定时任务。
+ * </p>
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+final class BatchExecutor<T> {
+
+    private final Launcher<T> launcher;
+
+    private final DelayScheduler delayScheduler;
+
+    private final Executor callbackExecutor;
+
+    private final List<BtApi<? extends T>> apis;
+
+    private final BatchOptions options;
+
+    private final BatchListener<? super T> listener;
+
+    private final AtomicReferenceArray<BatchItem<T>> items;
+
+    private final CompletableFuture<BatchResult<T>> result = new CompletableFuture<>();
+
+    private final Map<Integer, CompletableFuture<? extends T>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    private final AtomicInteger remaining;
+
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+
+    private final AtomicBoolean expired = new AtomicBoolean();
+
+    /**
+     * 发出单个请求的函数
+     *
+     * @param <T> API返回数据类型
+     */
+    @FunctionalInterface
+    interface Launcher<T> {
+
+        /**
+         * 发出提交集合中指定位置的请求
+         *
+         * @param index 请求在提交集合中的位置
+         * @param api API接口实例
+         * @return 包含API返回结果的CompletableFuture
+         */
+        CompletableFuture<? extends T> launch(int index, BtApi<? extends T> api);
+    }
+
+    /**
+     * 没有自己的延迟调度器的客户端共用的调度器，首次使用时创建
+     */
+    private static final class SharedTimer {
+
+        private static final DelayScheduler INSTANCE = new DelayScheduler("bt-batch-timer");
+    }
+
+    BatchExecutor(BtClient client, Collection<? extends BtApi<? extends T>> apis, BatchOptions options,
+                  BatchListener<? super T> listener) {
+        this((index, api) -> client.executeAsync(api), SharedTimer.INSTANCE, ForkJoinPool.commonPool(),
+                apis, options, listener);
+    }
+
+    BatchExecutor(Launcher<T> launcher, DelayScheduler delayScheduler, Executor callbackExecutor,
+                  Collection<? extends BtApi<? extends T>> apis, BatchOptions options,
+                  BatchListener<? super T> listener) {
+        if (apis == null) {
+            throw new IllegalArgumentException("APIs cannot be null");
+        }
+        if (options == null || !options.isValid()) {
+            throw new IllegalArgumentException("Invalid batch options: " + options);
+        }
+        this.launcher = launcher;
+        this.delayScheduler = delayScheduler;
+        this.callbackExecutor = callbackExecutor;
+        this.apis = new ArrayList<>(apis);
+        this.options = options;
+        this.listener = listener;
+        this.items = new AtomicReferenceArray<>(this.apis.size());
+        this.remaining = new AtomicInteger(this.apis.size());
+    }
+
+    /**
+     * 开始执行
+     *
+     * @return 所有请求完成或到达截止时间时完成的CompletableFuture；快速失败模式下以第一个失败的异常结束
+     */
+    CompletableFuture<BatchResult<T>> start() {
+        if (apis.isEmpty()) {
+            result.complete(new BatchResult<>(new ArrayList<>()));
+            return result;
+        }
+        result.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                inFlight.values().forEach(future -> future.cancel(true));
+            }
+        });
+        if (options.getDeadline() != null) {
+            CompletableFuture<Void> timer = delayScheduler.delay(options.getDeadline());
+            timer.thenRunAsync(this::expire, callbackExecutor);
+            result.whenComplete((ignored, throwable) -> timer.cancel(false));
+        }
+        for (int i = Math.min(options.getMaxConcurrency(), apis.size()); i > 0; i--) {
+            launch();
+        }
+        return result;
+    }
+
+    /**
+     * 发出下一个请求
+     * <p>
+     * 请求在调用线程上同步完成时会再次进入这里，用计数把递归展开为循环，避免批量很大时栈溢出。
+     * </p>
+     */
+    private void launch() {
+        if (pendingLaunches.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            launchNext();
+        } while (pendingLaunches.decrementAndGet() != 0);
+    }
+
+    private void launchNext() {
+        if (result.isDone()) {
+            return;
+        }
+        int index = nextIndex.getAndIncrement();
+        if (index >= apis.size()) {
+            return;
+        }
+        CompletableFuture<? extends T> future;
+        try {
+            future = launcher.launch(index, apis.get(index));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (options.getItemTimeout() != null) {
+            CompletableFuture<? extends T> attempt = future;
+            CompletableFuture<Void> timer = delayScheduler.delay(options.getItemTimeout());
+            timer.thenRunAsync(() -> attempt.completeExceptionally(new TimeoutException()), callbackExecutor);
+            attempt.whenComplete((ignored, throwable) -> timer.cancel(false));
+        }
+        inFlight.put(index, future);
+        if (result.isDone()) {
+            // 与批量结束同时发出的请求没有被取消逻辑看到
+            future.cancel(true);
+        }
+        future.whenComplete((value, throwable) -> onComplete(index, value, throwable));
+    }
+
+    private void onComplete(int index, T value, Throwable throwable) {
+        inFlight.remove(index);
+        if (throwable != null && result.isDone()) {
+            // 批量已结束，在途请求被取消
+            return;
+        }
+
+        BatchItem<T> item = new BatchItem<>(index, apis.get(index), throwable == null ? value : null,
+                throwable == null ? null : toApiException(throwable));
+        if (!items.compareAndSet(index, null, item)) {
+            // 截止时间已把该位置记为失败
+            return;
+        }
+        if (listener != null && !result.isDone()) {
+            try {
+                listener.onItem(item);
+            } catch (RuntimeException e) {
+                log.warn("Batch listener failed for item {}", index, e);
+            }
+        }
+
+        if (!item.isSuccess() && options.isFailFast()) {
+            result.completeExceptionally(item.getException());
+            return;
+        }
+        if (remaining.decrementAndGet() == 0) {
+            result.complete(collect());
+        } else {
+            launch();
+        }
+    }
+
+    /**
+     * 到达截止时间，把所有未完成的位置记为失败并以部分结果结束
+     */
+    private void expire() {
+        if (result.isDone() || !expired.compareAndSet(false, true)) {
+            return;
+        }
+        BtApiException timeout = new BtApiException("Batch deadline of "
+                + options.getDeadline().toMillis() + " ms exceeded", new TimeoutException());
+        for (int i = 0; i < items.length(); i++) {
+            items.compareAndSet(i, null, new BatchItem<>(i, apis.get(i), null, timeout));
+        }
+        // 所有位置已被记录，被取消的请求不会再被记录或回调；先取消再结束，调用者拿到结果时请求已被中止
+        inFlight.values().forEach(future -> future.cancel(true));
+        result.complete(collect());
+    }
+
+    private BatchResult<T> collect() {
+        List<BatchItem<T>> ordered = new ArrayList<>(items.length());
+        for (int i = 0; i < items.length(); i++) {
+            ordered.add(items.get(i));
+        }
+        return new BatchResult<>(ordered);
+    }
+
+    private BtApiException toApiException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof BtApiException) {
+            return (BtApiException) cause;
+        } else if (cause instanceof TimeoutException) {
+            return new BtApiException("API execution timed out after "
+                    + options.getItemTimeout().toMillis() + " ms", cause);
+        } else if (cause instanceof CancellationException) {
+            return new BtApiException("Request was canceled", cause);
+        } else {
+            return new BtApiException("API execution failed", cause);
+        }
+    }
+}
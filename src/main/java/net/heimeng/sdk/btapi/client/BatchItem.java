@@ -0,0 +1,49 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+/**
+ * 批量执行中单个请求的结果
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class BatchItem<T> {
+
+    /**
+     * 请求在提交集合中的位置
+     */
+    private final int index;
+
+    /**
+     * API接口实例
+     */
+    private final BtApi<?> api;
+
+    /**
+     * API返回结果，失败时为null
+     */
+    private final T result;
+
+    /**
+     * 失败时的异常，成功时为null
+     */
+    private final BtApiException exception;
+
+    /**
+     * 检查请求是否成功
+     *
+     * @return 如果请求成功则返回true，否则返回false
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
@@ -0,0 +1,23 @@
+package net.heimeng.sdk.btapi.client;
+
+/**
+ * 批量执行的结果监听器，每个请求完成时按完成的先后顺序回调
+ * <p>
+ * 回调在完成请求的线程上执行（对于{@link DefaultBtClient}是回调执行器），不应执行耗时操作。
+ * 快速失败模式下，批量结束后完成的请求不再回调。
+ * </p>
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface BatchListener<T> {
+
+    /**
+     * 单个请求完成时调用
+     *
+     * @param item 请求结果
+     */
+    void onItem(BatchItem<? extends T> item);
+}
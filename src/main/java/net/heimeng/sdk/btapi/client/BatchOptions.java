@@ -0,0 +1,68 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 批量执行选项，控制{@link BtClient#executeAllAsync}的并发度、单项超时、整体截止时间和失败处理方式
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class BatchOptions {
+
+    /**
+     * 同时在途的最大请求数，默认为16
+     */
+    @Builder.Default
+    private final int maxConcurrency = 16;
+
+    /**
+     * 单个请求的超时时间，为null时不限制；超时的请求会被取消并记为失败
+     */
+    private final Duration itemTimeout;
+
+    /**
+     * 整个批量的截止时间（从开始执行算起），为null时不限制
+     * <p>
+     * 到达截止时间时取消所有未完成的请求并记为失败，批量以已得到的部分结果结束，不会等待最慢的请求。
+     * </p>
+     */
+    private final Duration deadline;
+
+    /**
+     * 是否在第一个失败时立即结束，默认为false
+     * <p>
+     * 为true时批量结果以第一个失败的异常结束，并取消其余在途的请求、不再发起新的请求；
+     * 为false时收集所有请求的结果和异常。
+     * </p>
+     */
+    @Builder.Default
+    private final boolean failFast = false;
+
+    /**
+     * 获取默认的批量执行选项
+     *
+     * @return 默认选项实例
+     */
+    public static BatchOptions defaults() {
+        return BatchOptions.builder().build();
+    }
+
+    /**
+     * 检查选项是否有效
+     *
+     * @return 如果选项有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return maxConcurrency >= 1 &&
+               (itemTimeout == null || (!itemTimeout.isNegative() && !itemTimeout.isZero())) &&
+               (deadline == null || (!deadline.isNegative() && !deadline.isZero()));
+    }
+}
@@ -0,0 +1,89 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.ToString;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量执行的结果，按提交顺序保存每个请求的结果或异常
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+public class BatchResult<T> {
+
+    /**
+     * 按提交顺序排列的各个请求的结果
+     */
+    private final List<BatchItem<T>> items;
+
+    /**
+     * 构造函数，创建一个新的BatchResult实例
+     *
+     * @param items 按提交顺序排列的各个请求的结果
+     */
+    public BatchResult(List<BatchItem<T>> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    /**
+     * 获取按提交顺序排列的返回结果，失败的请求对应位置为null
+     *
+     * @return 返回结果列表
+     */
+    public List<T> getResults() {
+        List<T> results = new ArrayList<>(items.size());
+        for (BatchItem<T> item : items) {
+            results.add(item.getResult());
+        }
+        return results;
+    }
+
+    /**
+     * 获取失败请求的异常
+     *
+     * @return 以提交位置为键的异常映射，按位置排序
+     */
+    public Map<Integer, BtApiException> getErrors() {
+        Map<Integer, BtApiException> errors = new LinkedHashMap<>();
+        for (BatchItem<T> item : items) {
+            if (!item.isSuccess()) {
+                errors.put(item.getIndex(), item.getException());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 获取成功的请求数
+     *
+     * @return 成功的请求数
+     */
+    public int getSuccessCount() {
+        int count = 0;
+        for (BatchItem<T> item : items) {
+            if (item.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 检查是否所有请求都成功
+     *
+     * @return 如果所有请求都成功则返回true，否则返回false
+     */
+    public boolean isAllSuccessful() {
+        return getSuccessCount() == items.size();
+    }
+}
@@ -4,6 +4,8 @@ import net.heimeng.sdk.btapi.api.BtApi;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.*;
 
 /**
@@ -73,9 +75,11 @@ public class BtApiManager {
      * @throws BtApiException 当API调用失败或超时时抛出
      */
     public <T> T executeAsyncWithTimeout(BtApi<T> api, long timeout, TimeUnit unit) {
+        CompletableFuture<T> future = executeAsync(api);
         try {
-            return executeAsync(api).get(timeout, unit);
+            return future.get(timeout, unit);
         } catch (InterruptedException e) {
+            future.cancel(true);
             Thread.currentThread().interrupt();
             throw new BtApiException("API execution interrupted", e);
         } catch (ExecutionException e) {
@@ -85,6 +89,8 @@ public class BtApiManager {
                 throw new BtApiException("API execution failed", e.getCause());
             }
         } catch (TimeoutException e) {
+            // 取消底层请求，不再占用连接和线程
+            future.cancel(true);
             throw new BtApiException("API execution timed out after " + timeout + " " + unit.name().toLowerCase(), e);
         }
     }
@@ -123,17 +129,74 @@ public class BtApiManager {
      * @return 包含API返回结果的CompletableFuture
      */
     public <T> CompletableFuture<T> executeAsyncWithTimeoutFuture(BtApi<T> api, Duration timeout) {
-        CompletableFuture<T> future = new CompletableFuture<>();
+        // 直接在客户端返回的Future上设置超时，超时后客户端会中止进行中的HTTP交换和重试等待
+        return executeAsync(api).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
-        executeAsync(api).whenComplete((result, throwable) -> {
-            if (throwable != null) {
-                future.completeExceptionally(throwable);
-            } else {
-                future.complete(result);
-            }
-        });
+    /**
+     * 以有限的并发度执行一组API请求，并等待全部完成
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @return 按提交顺序排列的批量结果
+     * @throws BtApiException 当快速失败模式下有请求失败或等待被中断时抛出
+     */
+    public <T> BatchResult<T> executeAll(Collection<? extends BtApi<? extends T>> apis, BatchOptions options) {
+        return client.executeAll(apis, options);
+    }
+
+    /**
+     * 以有限的并发度异步执行一组API请求
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @return 包含批量结果的CompletableFuture
+     */
+    public <T> CompletableFuture<BatchResult<T>> executeAllAsync(Collection<? extends BtApi<? extends T>> apis,
+                                                                 BatchOptions options) {
+        return client.executeAllAsync(apis, options);
+    }
 
-        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    /**
+     * 以有限的并发度异步执行一组API请求，并在每个请求完成时回调监听器
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @param listener 结果监听器，可以为null
+     * @return 包含批量结果的CompletableFuture
+     */
+    public <T> CompletableFuture<BatchResult<T>> executeAllAsync(Collection<? extends BtApi<? extends T>> apis,
+                                                                 BatchOptions options,
+                                                                 BatchListener<? super T> listener) {
+        return client.executeAllAsync(apis, options, listener);
+    }
+
+    /**
+     * 创建表格类接口的自动分页遍历
+     *
+     * @param <E> 表格行的类型
+     * @param factory 分页API工厂
+     * @param options 分页遍历选项
+     * @return 自动分页遍历实例
+     */
+    public <E> Paginator<E> paginate(PagedApiFactory<E> factory, PaginationOptions options) {
+        return new Paginator<>(client, factory, options);
+    }
+
+    /**
+     * 加载表格类接口的整张表格，得到总行数后并行请求其余的页
+     *
+     * @param <E> 表格行的类型
+     * @param factory 分页API工厂
+     * @param options 整表加载选项
+     * @return 按表格顺序排列的所有行
+     * @throws BtApiException 当任意一页加载失败时抛出
+     */
+    public <E> List<E> loadTable(PagedApiFactory<E> factory, TableLoadOptions options) {
+        return new TableLoader<>(client, factory, options).load();
     }
 
     /**
@@ -4,7 +4,9 @@ import net.heimeng.sdk.btapi.api.BtApi;
 import net.heimeng.sdk.btapi.config.BtSdkConfig;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * 宝塔面板客户端接口，是SDK的核心接口，定义了与宝塔面板API交互的基本操作
@@ -36,6 +38,59 @@ public interface BtClient extends AutoCloseable {
      */
     <T> CompletableFuture<T> executeAsync(BtApi<T> api);
 
+    /**
+     * 以有限的并发度执行一组API请求，并等待全部完成
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @return 按提交顺序排列的批量结果
+     * @throws BtApiException 当快速失败模式下有请求失败或等待被中断时抛出
+     */
+    default <T> BatchResult<T> executeAll(Collection<? extends BtApi<? extends T>> apis, BatchOptions options) {
+        CompletableFuture<BatchResult<T>> future = executeAllAsync(apis, options);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BtApiException("Batch execution interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BtApiException) {
+                throw (BtApiException) e.getCause();
+            }
+            throw new BtApiException("Batch execution failed", e.getCause());
+        }
+    }
+
+    /**
+     * 以有限的并发度异步执行一组API请求
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @return 包含批量结果的CompletableFuture，取消时同时取消所有在途的请求
+     */
+    default <T> CompletableFuture<BatchResult<T>> executeAllAsync(Collection<? extends BtApi<? extends T>> apis,
+                                                                  BatchOptions options) {
+        return executeAllAsync(apis, options, null);
+    }
+
+    /**
+     * 以有限的并发度异步执行一组API请求，并在每个请求完成时按完成顺序回调监听器
+     *
+     * @param <T> API返回数据类型
+     * @param apis API接口实例集合
+     * @param options 批量执行选项
+     * @param listener 结果监听器，可以为null
+     * @return 包含批量结果的CompletableFuture，取消时同时取消所有在途的请求
+     */
+    default <T> CompletableFuture<BatchResult<T>> executeAllAsync(Collection<? extends BtApi<? extends T>> apis,
+                                                                  BatchOptions options,
+                                                                  BatchListener<? super T> listener) {
+        return new BatchExecutor<T>(this, apis, options, listener).start();
+    }
+
     /**
      * 添加请求拦截器，用于在发送请求前或接收响应后执行自定义逻辑
      *
@@ -0,0 +1,295 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.extern.slf4j.Slf4j;
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * 多面板客户端，管理大量面板的连接信息并让它们共享同一个HttpClient、同一组执行器和同一组拦截器
+ * <p>
+ * 每个{@link DefaultBtClient}都会创建自己的HttpClient和线程池，管理上千个面板时线程数和内存会随面板数线性增长。
+ * 多面板客户端只创建一份这些资源，每个面板以{@link BtClient}视图的形式访问，线程数不随面板数增加。
+ * </p>
+ * <p>
+ * 创建时的配置作为所有面板的模板：连接超时、SSL校验、执行模式和执行器相关的设置对所有面板生效，
+ * 其余设置（读取超时、重试、限流、并发限制、熔断、对冲等）在每个面板上独立生效，各面板的状态互不影响。
+ * 模板中的baseUrl和apiKey不会被使用。
+ * </p>
+ * <p>
+ * {@link #scatterAsync}把同一种API分发到一组面板并收集结果，并发度、单个面板的超时和整体截止时间由{@link BatchOptions}控制，
+ * 到达截止时间时以已返回的部分结果结束，不会等待最慢的面板。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+public class BtFleetClient implements AutoCloseable {
+
+    private final BtSdkConfig template;
+
+    private final SharedClientResources shared;
+
+    private final Map<String, DefaultBtClient> panels = new LinkedHashMap<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * 构造函数，使用默认配置作为所有面板的模板
+     */
+    public BtFleetClient() {
+        this(BtSdkConfig.builder().build());
+    }
+
+    /**
+     * 构造函数，创建一个新的BtFleetClient实例
+     *
+     * @param template 所有面板共用的配置模板
+     */
+    public BtFleetClient(BtSdkConfig template) {
+        this.template = Objects.requireNonNull(template, "Config must not be null");
+        this.shared = new SharedClientResources(template);
+    }
+
+    /**
+     * 添加一个面板
+     *
+     * @param panelId 面板标识，在多面板客户端内唯一
+     * @param baseUrl 面板访问地址
+     * @param apiKey 面板API密钥
+     * @return 面板的客户端视图
+     * @throws IllegalArgumentException 当面板标识已存在或连接信息无效时抛出
+     */
+    public DefaultBtClient addPanel(String panelId, String baseUrl, String apiKey) {
+        Objects.requireNonNull(panelId, "Panel id must not be null");
+        BtSdkConfig config = template.toBuilder().baseUrl(baseUrl).apiKey(apiKey).build();
+        synchronized (panels) {
+            checkNotClosed();
+            if (panels.containsKey(panelId)) {
+                throw new IllegalArgumentException("Panel already exists: " + panelId);
+            }
+            DefaultBtClient client = new DefaultBtClient(config, shared);
+            panels.put(panelId, client);
+            return client;
+        }
+    }
+
+    /**
+     * 获取面板的客户端视图
+     *
+     * @param panelId 面板标识
+     * @return 面板的客户端视图
+     * @throws IllegalArgumentException 当面板不存在时抛出
+     */
+    public DefaultBtClient panel(String panelId) {
+        synchronized (panels) {
+            DefaultBtClient client = panels.get(panelId);
+            if (client == null) {
+                throw new IllegalArgumentException("Unknown panel: " + panelId);
+            }
+            return client;
+        }
+    }
+
+    /**
+     * 移除一个面板并关闭它的客户端视图，共享资源不受影响
+     *
+     * @param panelId 面板标识
+     * @return 如果面板存在则返回true，否则返回false
+     */
+    public boolean removePanel(String panelId) {
+        DefaultBtClient client;
+        synchronized (panels) {
+            client = panels.remove(panelId);
+        }
+        if (client == null) {
+            return false;
+        }
+        client.close();
+        return true;
+    }
+
+    /**
+     * 获取所有面板标识，按添加顺序排列
+     *
+     * @return 面板标识集合的副本
+     */
+    public Set<String> getPanelIds() {
+        synchronized (panels) {
+            return new LinkedHashSet<>(panels.keySet());
+        }
+    }
+
+    /**
+     * 在所有面板上执行同一种API，并等待全部完成或到达截止时间
+     *
+     * @param <T> API返回数据类型
+     * @param apiFactory 根据面板标识创建API实例的函数，每个面板调用一次
+     * @param options 执行选项，itemTimeout为单个面板的超时，deadline为整体截止时间
+     * @return 分发查询的结果
+     * @throws BtApiException 当快速失败模式下有面板失败或等待被中断时抛出
+     */
+    public <T> FleetResult<T> scatter(Function<String, ? extends BtApi<? extends T>> apiFactory, BatchOptions options) {
+        CompletableFuture<FleetResult<T>> future = scatterAsync(getPanelIds(), apiFactory, options, null);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BtApiException("Fleet execution interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BtApiException) {
+                throw (BtApiException) e.getCause();
+            }
+            throw new BtApiException("Fleet execution failed", e.getCause());
+        }
+    }
+
+    /**
+     * 在所有面板上异步执行同一种API，并在每个面板返回时回调监听器
+     *
+     * @param <T> API返回数据类型
+     * @param apiFactory 根据面板标识创建API实例的函数，每个面板调用一次
+     * @param options 执行选项，itemTimeout为单个面板的超时，deadline为整体截止时间
+     * @param listener 结果监听器，可以为null
+     * @return 包含分发查询结果的CompletableFuture
+     */
+    public <T> CompletableFuture<FleetResult<T>> scatterAsync(Function<String, ? extends BtApi<? extends T>> apiFactory,
+                                                              BatchOptions options,
+                                                              FleetListener<? super T> listener) {
+        return scatterAsync(getPanelIds(), apiFactory, options, listener);
+    }
+
+    /**
+     * 在指定的面板上异步执行同一种API，并在每个面板返回时回调监听器
+     *
+     * @param <T> API返回数据类型
+     * @param panelIds 面板标识集合
+     * @param apiFactory 根据面板标识创建API实例的函数，每个面板调用一次
+     * @param options 执行选项，itemTimeout为单个面板的超时，deadline为整体截止时间
+     * @param listener 结果监听器，可以为null
+     * @return 包含分发查询结果的CompletableFuture，取消时同时取消所有在途的请求
+     * @throws IllegalArgumentException 当面板不存在时抛出
+     */
+    public <T> CompletableFuture<FleetResult<T>> scatterAsync(Collection<String> panelIds,
+                                                              Function<String, ? extends BtApi<? extends T>> apiFactory,
+                                                              BatchOptions options,
+                                                              FleetListener<? super T> listener) {
+        Objects.requireNonNull(apiFactory, "API factory must not be null");
+        List<String> ids = new ArrayList<>(panelIds);
+        List<DefaultBtClient> clients = new ArrayList<>(ids.size());
+        List<BtApi<? extends T>> apis = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            clients.add(panel(id));
+            apis.add(apiFactory.apply(id));
+        }
+
+        BatchListener<T> batchListener = listener == null ? null
+                : item -> listener.onPanel(ids.get(item.getIndex()), item);
+        CompletableFuture<BatchResult<T>> batch = new BatchExecutor<T>(
+                (index, api) -> clients.get(index).executeAsync(api), shared.delayScheduler(),
+                shared.executors().callback(), apis, options, batchListener).start();
+
+        CompletableFuture<FleetResult<T>> future = batch.thenApply(result -> {
+            Map<String, T> results = new LinkedHashMap<>();
+            Map<String, BtApiException> errors = new LinkedHashMap<>();
+            for (BatchItem<T> item : result.getItems()) {
+                if (item.isSuccess()) {
+                    results.put(ids.get(item.getIndex()), item.getResult());
+                } else {
+                    errors.put(ids.get(item.getIndex()), item.getException());
+                }
+            }
+            return new FleetResult<>(results, errors);
+        });
+        // 取消返回的Future时取消所有在途的请求
+        future.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                batch.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 添加所有面板共享的拦截器，与各面板视图自身的拦截器按优先级合并执行
+     * <p>
+     * 共享拦截器会收到所有面板的请求，拦截器内部的状态需要按{@link net.heimeng.sdk.btapi.interceptor.RequestContext#getBaseUrl()}区分面板。
+     * 内置的响应缓存和在途请求合并以包含面板地址的{@link net.heimeng.sdk.btapi.interceptor.RequestKey}为键，可以直接共享。
+     * </p>
+     *
+     * @param interceptor 拦截器实例
+     * @return 当前多面板客户端实例，支持链式调用
+     */
+    public BtFleetClient addInterceptor(RequestInterceptor interceptor) {
+        checkNotClosed();
+        shared.addInterceptor(Objects.requireNonNull(interceptor, "Interceptor must not be null"));
+        return this;
+    }
+
+    /**
+     * 获取共享执行器的运行状态
+     *
+     * @return 执行器状态列表
+     */
+    public List<ExecutorStats> getExecutorStats() {
+        return shared.executors().getStats();
+    }
+
+    /**
+     * 获取配置模板
+     *
+     * @return 配置模板
+     */
+    public BtSdkConfig getConfig() {
+        return template;
+    }
+
+    /**
+     * 关闭所有面板视图和共享资源
+     */
+    @Override
+    public void close() {
+        List<DefaultBtClient> clients;
+        synchronized (panels) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            clients = new ArrayList<>(panels.values());
+            panels.clear();
+        }
+        clients.forEach(DefaultBtClient::close);
+        shared.close();
+        log.info("BtFleetClient closed gracefully, {} panels released", clients.size());
+    }
+
+    /**
+     * 检查多面板客户端是否已关闭
+     *
+     * @return 如果已关闭则返回true，否则返回false
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("Fleet client is closed");
+        }
+    }
+}
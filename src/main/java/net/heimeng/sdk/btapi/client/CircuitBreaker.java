@@ -0,0 +1,194 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.extern.slf4j.Slf4j;
+import net.heimeng.sdk.btapi.config.CircuitBreakerConfig;
+import net.heimeng.sdk.btapi.exception.BtCircuitOpenException;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 面板级熔断器，基于最近若干次HTTP尝试的失败率和慢调用率在关闭、打开、半开三种状态间切换
+ * <p>
+ * 统计窗口是固定长度的环形缓冲区，只在关闭状态下记录结果。每次尝试前调用{@link #acquirePermission()}，
+ * 结束后以得到的许可调用{@link #onResult(long, long, boolean)}；获得许可但没有发出请求时调用
+ * {@link #releasePermission(long)}，否则半开状态的试探名额会被占用。
+ * </p>
+ * <p>
+ * 许可记录了发放时的状态代数，每次状态切换代数加一。结果只计入发放许可时的那个状态：打开之前发出、
+ * 在半开状态下才返回的请求不会被当作试探请求，也不会据此关闭熔断器。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+final class CircuitBreaker {
+
+    private static final byte FAILED = 1;
+
+    private static final byte SLOW = 2;
+
+    private final CircuitBreakerConfig config;
+
+    private final String host;
+
+    private final LongSupplier ticker;
+
+    private final byte[] window;
+
+    private int windowIndex;
+
+    private int windowCount;
+
+    private int failedCount;
+
+    private int slowCount;
+
+    private CircuitState state = CircuitState.CLOSED;
+
+    private long openUntilNanos;
+
+    private int trialsIssued;
+
+    private int trialsSucceeded;
+
+    /**
+     * 状态代数，每次状态切换时加一
+     */
+    private long generation;
+
+    CircuitBreaker(CircuitBreakerConfig config, String host) {
+        this(config, host, System::nanoTime);
+    }
+
+    CircuitBreaker(CircuitBreakerConfig config, String host, LongSupplier ticker) {
+        this.config = config;
+        this.host = host;
+        this.ticker = ticker;
+        this.window = new byte[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * 获取发送请求的许可
+     *
+     * @return 许可，即发放时的状态代数，结束后传给{@link #onResult(long, long, boolean)}或{@link #releasePermission(long)}
+     * @throws BtCircuitOpenException 当熔断器打开或半开状态的试探名额已用完时抛出
+     */
+    synchronized long acquirePermission() {
+        if (state == CircuitState.OPEN) {
+            long remaining = openUntilNanos - ticker.getAsLong();
+            if (remaining > 0) {
+                throw new BtCircuitOpenException("Circuit breaker is open, retry after "
+                        + Duration.ofNanos(remaining).toMillis() + " ms", host, Duration.ofNanos(remaining));
+            }
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (trialsIssued >= config.getPermittedCallsInHalfOpenState()) {
+                throw new BtCircuitOpenException("Circuit breaker is half-open, waiting for trial calls",
+                        host, Duration.ZERO);
+            }
+            trialsIssued++;
+        }
+        return generation;
+    }
+
+    /**
+     * 归还未使用的许可
+     *
+     * @param permit {@link #acquirePermission()}返回的许可
+     */
+    synchronized void releasePermission(long permit) {
+        if (permit == generation && state == CircuitState.HALF_OPEN && trialsIssued > 0) {
+            trialsIssued--;
+        }
+    }
+
+    /**
+     * 记录一次尝试的结果
+     *
+     * @param permit {@link #acquirePermission()}返回的许可
+     * @param durationNanos 尝试耗时
+     * @param failed 是否失败（网络异常、超时或5xx状态码）
+     */
+    synchronized void onResult(long permit, long durationNanos, boolean failed) {
+        if (permit != generation) {
+            // 在之前的状态下发出的请求，结果不再影响状态
+            return;
+        }
+        boolean slow = durationNanos > config.getSlowCallDuration().toNanos();
+        switch (state) {
+            case HALF_OPEN:
+                if (failed || slow) {
+                    open();
+                } else if (++trialsSucceeded >= config.getPermittedCallsInHalfOpenState()) {
+                    transitionTo(CircuitState.CLOSED);
+                }
+                break;
+            case CLOSED:
+                record((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+                if (windowCount >= config.getMinimumNumberOfCalls() &&
+                        (failedCount >= config.getFailureRateThreshold() * windowCount ||
+                         slowCount >= config.getSlowCallRateThreshold() * windowCount)) {
+                    open();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 获取当前状态，打开状态的等待时间已过时返回半开状态
+     *
+     * @return 熔断器状态
+     */
+    synchronized CircuitState getState() {
+        if (state == CircuitState.OPEN && openUntilNanos - ticker.getAsLong() <= 0) {
+            return CircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            if ((evicted & FAILED) != 0) {
+                failedCount--;
+            }
+            if ((evicted & SLOW) != 0) {
+                slowCount--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if ((outcome & FAILED) != 0) {
+            failedCount++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCount++;
+        }
+    }
+
+    private void open() {
+        openUntilNanos = ticker.getAsLong() + config.getWaitDurationInOpenState().toNanos();
+        transitionTo(CircuitState.OPEN);
+    }
+
+    private void transitionTo(CircuitState next) {
+        log.warn("Circuit breaker for {} changed from {} to {}", host, state, next);
+        state = next;
+        generation++;
+        trialsIssued = 0;
+        trialsSucceeded = 0;
+        if (next == CircuitState.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            failedCount = 0;
+            slowCount = 0;
+        }
+    }
+}
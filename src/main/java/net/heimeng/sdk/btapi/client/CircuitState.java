@@ -0,0 +1,25 @@
+package net.heimeng.sdk.btapi.client;
+
+/**
+ * 熔断器状态
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public enum CircuitState {
+
+    /**
+     * 关闭状态，请求正常发送并计入统计窗口
+     */
+    CLOSED,
+
+    /**
+     * 打开状态，请求立即失败
+     */
+    OPEN,
+
+    /**
+     * 半开状态，只放行有限个试探请求
+     */
+    HALF_OPEN
+}
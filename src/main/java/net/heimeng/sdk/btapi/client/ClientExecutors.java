@@ -0,0 +1,168 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.config.ExecutionMode;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 客户端执行器集合，按职责隔离 HTTP I/O、响应解析、完成回调和同步拦截器
+ * <p>
+ * <ul>
+ *     <li>io：HttpClient 内部使用的执行器，负责读写套接字</li>
+ *     <li>parse：异步路径上解析响应体的执行器，避免耗时的 JSON 解析阻塞网络读取</li>
+ *     <li>callback：完成返回给调用者的 CompletableFuture，调用者注册的回调在其上运行</li>
+ *     <li>interceptor：在异步路径上执行同步拦截器，这些任务会一直占用线程到请求结束</li>
+ * </ul>
+ * 配置中提供的执行器由调用者负责关闭，客户端只关闭自己创建的执行器。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+final class ClientExecutors implements AutoCloseable {
+
+    private final InstrumentedExecutor io;
+    private final InstrumentedExecutor parse;
+    private final InstrumentedExecutor callback;
+    private final InstrumentedExecutor interceptor;
+    private final List<ExecutorService> owned = new ArrayList<>();
+
+    ClientExecutors(BtSdkConfig config) {
+        boolean virtual = config.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS;
+
+        this.io = new InstrumentedExecutor("io", resolve(
+                config.getIoExecutor(), virtual, config.getIoThreads(), "bt-client-io-"));
+        // 解析是CPU密集型任务，始终使用平台线程池
+        this.parse = new InstrumentedExecutor("parse", resolve(
+                config.getParseExecutor(), false, config.getParseThreads(), "bt-client-parse-"));
+        this.callback = new InstrumentedExecutor("callback", resolve(
+                config.getCallbackExecutor(), virtual, config.getCallbackThreads(), "bt-client-callback-"));
+        this.interceptor = new InstrumentedExecutor("interceptor", createInterceptorExecutor(virtual));
+    }
+
+    Executor io() {
+        return io;
+    }
+
+    Executor parse() {
+        return parse;
+    }
+
+    Executor callback() {
+        return callback;
+    }
+
+    Executor interceptor() {
+        return interceptor;
+    }
+
+    /**
+     * 获取所有执行器的运行状态
+     *
+     * @return 执行器状态列表
+     */
+    List<ExecutorStats> getStats() {
+        return List.of(io.snapshot(), parse.snapshot(), callback.snapshot(), interceptor.snapshot());
+    }
+
+    /**
+     * 使用配置中提供的执行器，未提供时创建客户端自有的执行器
+     */
+    private Executor resolve(Executor provided, boolean virtual, int threads, String prefix) {
+        if (provided != null) {
+            return provided;
+        }
+        if (virtual) {
+            ExecutorService virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                return own(virtualExecutor);
+            }
+        }
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return own(Executors.newFixedThreadPool(size, newThreadFactory(prefix)));
+    }
+
+    /**
+     * 创建用于在异步路径上执行同步拦截器的执行器
+     * <p>
+     * 同步拦截器会占用线程直到请求结束，必须与 HttpClient 使用的线程池隔离，避免线程池耗尽导致死锁。
+     * </p>
+     */
+    private Executor createInterceptorExecutor(boolean virtual) {
+        if (virtual) {
+            ExecutorService virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                return own(virtualExecutor);
+            }
+        }
+        return own(Executors.newCachedThreadPool(newThreadFactory("bt-client-interceptor-")));
+    }
+
+    private ExecutorService own(ExecutorService executorService) {
+        owned.add(executorService);
+        return executorService;
+    }
+
+    /**
+     * 创建每任务一个虚拟线程的执行器
+     * <p>
+     * 通过反射调用 Java 21 的 {@code Executors.newVirtualThreadPerTaskExecutor()}，使 SDK 仍可在 Java 17 上编译和运行。
+     * </p>
+     *
+     * @return 虚拟线程执行器；运行时不支持虚拟线程时返回null
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads are not available on Java {}, falling back to platform threads",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(String prefix) {
+        return r -> {
+            Thread t = new Thread(r, prefix + r.hashCode());
+            t.setDaemon(true);
+            t.setUncaughtExceptionHandler((thread, ex) ->
+                    log.error("Uncaught exception in thread {}", thread.getName(), ex));
+            return t;
+        };
+    }
+
+    /**
+     * 优雅关闭客户端自有的执行器
+     */
+    @Override
+    public void close() {
+        owned.forEach(ExecutorService::shutdown);
+
+        try {
+            for (ExecutorService executorService : owned) {
+                if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Executor service shutdown timeout, forcing shutdown");
+                    executorService.shutdownNow();
+                    if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                        log.error("Executor service did not terminate");
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            owned.forEach(ExecutorService::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
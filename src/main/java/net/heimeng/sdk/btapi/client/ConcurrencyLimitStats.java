@@ -0,0 +1,42 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 自适应并发限制的运行状态快照
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ConcurrencyLimitStats {
+
+    /**
+     * 当前的并发上限
+     */
+    private final int limit;
+
+    /**
+     * 正在发送的请求数
+     */
+    private final int inFlight;
+
+    /**
+     * 在队列中等待的请求数
+     */
+    private final int queued;
+
+    /**
+     * 观察到的基线往返延迟（纳秒），尚无样本时为0
+     */
+    private final long baselineRttNanos;
+
+    /**
+     * 因队列已满或等待超时而被拒绝的请求总数
+     */
+    private final long rejectedCount;
+}
@@ -0,0 +1,227 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.ConcurrencyLimitConfig;
+import net.heimeng.sdk.btapi.exception.BtConcurrencyLimitException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * 自适应并发限制器，按AIMD算法根据每次HTTP尝试的往返延迟和结果调整同一面板的在途请求上限
+ * <p>
+ * 获得许可的请求在结束后调用{@link #release(long, boolean)}提交样本：失败或延迟超过基线的容忍倍数时上限按比例缩减，
+ * 在一次缩减之前发出的请求不会再次触发缩减，避免同一波慢请求把上限压到最低；成功且在途请求接近上限时上限加1。
+ * 超过上限的请求以未完成的CompletableFuture排队，许可释放时按先后顺序唤醒，等待期间不占用线程。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class ConcurrencyLimiter {
+
+    /**
+     * 基线延迟高于样本时的上升速度，基线只缓慢地跟随延迟上升
+     */
+    private static final double BASELINE_RISE = 0.01;
+
+    private final ConcurrencyLimitConfig config;
+
+    private final String host;
+
+    private final DelayScheduler delayScheduler;
+
+    private final LongSupplier ticker;
+
+    private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+
+    private double limit;
+
+    private int inFlight;
+
+    private double baselineRttNanos;
+
+    private long lastBackoffNanos;
+
+    private long rejectedCount;
+
+    ConcurrencyLimiter(ConcurrencyLimitConfig config, String host, DelayScheduler delayScheduler) {
+        this(config, host, delayScheduler, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(ConcurrencyLimitConfig config, String host, DelayScheduler delayScheduler,
+                       LongSupplier ticker) {
+        this.config = config;
+        this.host = host;
+        this.delayScheduler = delayScheduler;
+        this.ticker = ticker;
+        this.limit = config.getInitialLimit();
+        this.lastBackoffNanos = ticker.getAsLong();
+    }
+
+    /**
+     * 异步获取许可，超过上限时排队等待
+     *
+     * @return 获得许可时完成的CompletableFuture；队列已满或等待超时时以{@link BtConcurrencyLimitException}失败
+     */
+    CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (queue.size() >= config.getMaxQueueSize()) {
+                rejectedCount++;
+                return CompletableFuture.failedFuture(rejection("queue is full"));
+            }
+            waiter = new CompletableFuture<>();
+            queue.addLast(waiter);
+        }
+
+        CompletableFuture<Void> timeout = delayScheduler.delay(config.getQueueTimeout());
+        timeout.thenRun(() -> expire(waiter));
+        waiter.whenComplete((ignored, throwable) -> {
+            timeout.cancel(false);
+            if (throwable instanceof CancellationException) {
+                synchronized (this) {
+                    queue.remove(waiter);
+                }
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * 在调用线程上获取许可
+     *
+     * @throws InterruptedException 当等待被中断时抛出
+     */
+    void acquireBlocking() throws InterruptedException {
+        CompletableFuture<Void> waiter = acquire();
+        try {
+            waiter.get();
+        } catch (InterruptedException e) {
+            if (!waiter.cancel(false) && !waiter.isCompletedExceptionally()) {
+                // 中断与获得许可同时发生，归还许可
+                release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw (BtConcurrencyLimitException) e.getCause();
+        }
+    }
+
+    /**
+     * 归还许可并提交一次样本
+     *
+     * @param startNanos 请求开始发送的时间
+     * @param dropped 请求是否失败（网络异常、超时或可重试的状态码）
+     */
+    void release(long startNanos, boolean dropped) {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            onSample(startNanos, ticker.getAsLong(), dropped);
+            granted = grant();
+        }
+        complete(granted);
+    }
+
+    /**
+     * 获取当前的运行状态
+     *
+     * @return 状态快照
+     */
+    synchronized ConcurrencyLimitStats snapshot() {
+        return new ConcurrencyLimitStats((int) limit, inFlight, queue.size(), (long) baselineRttNanos, rejectedCount);
+    }
+
+    private void onSample(long startNanos, long endNanos, boolean dropped) {
+        long rtt = endNanos - startNanos;
+        if (!dropped) {
+            if (baselineRttNanos == 0 || rtt < baselineRttNanos) {
+                baselineRttNanos = rtt;
+            } else {
+                baselineRttNanos += (rtt - baselineRttNanos) * BASELINE_RISE;
+            }
+        }
+
+        boolean overloaded = dropped || rtt > baselineRttNanos * config.getLatencyTolerance();
+        if (overloaded) {
+            // 只有在上一次缩减之后发出的请求才能再次触发缩减，每个往返周期最多缩减一次
+            if (startNanos - lastBackoffNanos >= 0) {
+                limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+                lastBackoffNanos = endNanos;
+            }
+        } else if ((inFlight + 1) * 2 >= (int) limit) {
+            // 在途请求不足上限一半时说明负载来自调用方，不据此提高上限
+            limit = Math.min(config.getMaxLimit(), limit + 1);
+        }
+    }
+
+    private List<CompletableFuture<Void>> grant() {
+        List<CompletableFuture<Void>> granted = null;
+        while (inFlight < (int) limit && !queue.isEmpty()) {
+            if (granted == null) {
+                granted = new ArrayList<>();
+            }
+            granted.add(queue.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    /**
+     * 在锁外唤醒获得许可的等待者，等待者已被取消或超时时把许可交给下一个
+     */
+    private void complete(List<CompletableFuture<Void>> granted) {
+        while (granted != null) {
+            int unused = 0;
+            for (CompletableFuture<Void> waiter : granted) {
+                if (!waiter.complete(null)) {
+                    unused++;
+                }
+            }
+            if (unused == 0) {
+                return;
+            }
+            synchronized (this) {
+                inFlight -= unused;
+                granted = grant();
+            }
+        }
+    }
+
+    /**
+     * 归还许可但不提交样本，用于获得许可后没有完成的请求（如被取消的对冲请求）
+     */
+    void release() {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = grant();
+        }
+        complete(granted);
+    }
+
+    private void expire(CompletableFuture<Void> waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+            rejectedCount++;
+        }
+        waiter.completeExceptionally(rejection("timed out after " + config.getQueueTimeout().toMillis() + " ms"));
+    }
+
+    private BtConcurrencyLimitException rejection(String reason) {
+        return new BtConcurrencyLimitException(
+                "Concurrency limit " + (int) limit + " reached, " + reason, host);
+    }
+}
@@ -1,22 +1,30 @@
 package net.heimeng.sdk.btapi.client;
 
-import net.heimeng.sdk.btapi.BtUtils;
 import net.heimeng.sdk.btapi.api.BtApi;
 import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.config.ParamEncoding;
+import net.heimeng.sdk.btapi.config.RetryPolicy;
 import net.heimeng.sdk.btapi.exception.BtApiException;
 import net.heimeng.sdk.btapi.exception.BtAuthenticationException;
 import net.heimeng.sdk.btapi.exception.BtNetworkException;
 import net.heimeng.sdk.btapi.interceptor.RequestContext;
 import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import net.heimeng.sdk.btapi.interceptor.SingleFlightInterceptor;
 import net.heimeng.sdk.btapi.model.BtResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.stream.Collectors;
@@ -33,6 +41,14 @@ import lombok.extern.slf4j.Slf4j;
  * 此类负责发送API请求、处理响应、应用拦截器，并支持同步和异步API调用。
  * 使用 Java 17 HttpClient，支持结构化并发、标准化异常、资源自动回收。
  * </p>
+ * <p>
+ * 异步调用基于 {@link HttpClient#sendAsync}，签名、拦截器链、响应解析和重试均以回调方式衔接，
+ * 等待网络响应和重试间隔期间不会占用工作线程。重试间隔由 {@link RetryPolicy} 计算，并在定时器上调度。
+ * </p>
+ * <p>
+ * HTTP I/O、响应解析和完成回调分别运行在独立的执行器上，可以通过 {@link BtSdkConfig} 单独指定大小或直接提供执行器，
+ * 运行状态可以通过 {@link #getExecutorStats()} 获取。
+ * </p>
  *
  * @author InwardFlow
  * @since 2.0.0
@@ -40,50 +56,77 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DefaultBtClient implements BtClient, AutoCloseable {
 
+    private static final List<String> AUTH_PARAM_KEYS = List.of("request_token", "request_time");
+
     private final BtSdkConfig config;
     private final HttpClient httpClient;
     private final List<RequestInterceptor> interceptors = Collections.synchronizedList(new ArrayList<>());
-    private final ExecutorService executorService;
+    private final ClientExecutors executors;
+    private final DelayScheduler delayScheduler;
+    private final RetryPolicy retryPolicy;
+    private final RequestSigner requestSigner;
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final Hedger hedger;
+    private final SharedClientResources shared;
     private final Set<String> sensitiveKeys = Set.of("api_key", "token", "password", "secret", "access_key");
     private volatile boolean closed = false;
 
     public DefaultBtClient(BtSdkConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * 构造函数，使用共享资源创建客户端
+     * <p>
+     * 共享资源不为null时，客户端使用其中的HttpClient、执行器和定时器，并在自身拦截器之前合并共享拦截器，
+     * 关闭客户端时不关闭这些资源；签名、限流、并发限制、熔断、重试预算和对冲等状态仍然属于客户端自身。
+     * </p>
+     *
+     * @param config 客户端配置
+     * @param shared 共享资源，为null时创建客户端自有的资源
+     */
+    DefaultBtClient(BtSdkConfig config, SharedClientResources shared) {
         Objects.requireNonNull(config, "Config must not be null");
         if (!config.isValid()) {
             throw new IllegalArgumentException("Invalid configuration");
         }
         this.config = config;
+        this.shared = shared;
 
         // 创建线程池
-        this.executorService = createExecutorService();
+        this.executors = shared != null ? shared.executors() : new ClientExecutors(config);
+        this.delayScheduler = shared != null ? shared.delayScheduler() : new DelayScheduler("bt-client-timer");
+        this.retryPolicy = config.resolveRetryPolicy();
+        this.requestSigner = new RequestSigner(config.getApiKey());
+        String host = URI.create(config.getBaseUrl()).getHost();
+        this.rateLimiter = config.getRateLimit() == null ? null
+                : new RateLimiter(config.getRateLimit(), host, delayScheduler);
+        this.concurrencyLimiter = config.getConcurrencyLimit() == null ? null
+                : new ConcurrencyLimiter(config.getConcurrencyLimit(), host, delayScheduler);
+        this.circuitBreaker = config.getCircuitBreaker() == null ? null
+                : new CircuitBreaker(config.getCircuitBreaker(), host);
+        this.retryBudget = config.getRetryBudget() == null ? null : new RetryBudget(config.getRetryBudget());
+        this.hedger = config.getHedging() == null ? null : new Hedger(config.getHedging(), delayScheduler);
 
         // 构建 HttpClient
-        this.httpClient = buildHttpClient();
-    }
+        this.httpClient = shared != null ? shared.httpClient() : buildHttpClient(config, executors.io());
 
-    /**
-     * 创建执行器服务
-     */
-    private ExecutorService createExecutorService() {
-        return Executors.newFixedThreadPool(
-                Runtime.getRuntime().availableProcessors(),
-                r -> {
-                    Thread t = new Thread(r, "bt-client-worker-" + r.hashCode());
-                    t.setDaemon(true);
-                    t.setUncaughtExceptionHandler((thread, ex) ->
-                            log.error("Uncaught exception in thread {}", thread.getName(), ex));
-                    return t;
-                });
+        if (config.isCoalesceReadOnlyRequests()) {
+            addInterceptor(new SingleFlightInterceptor());
+        }
     }
 
     /**
      * 构建 HttpClient
      */
-    private HttpClient buildHttpClient() {
+    static HttpClient buildHttpClient(BtSdkConfig config, Executor ioExecutor) {
         HttpClient.Builder clientBuilder = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofMillis(
                         config.getConnectTimeoutUnit().toMillis(config.getConnectTimeout())))
-                .executor(executorService);
+                .executor(ioExecutor);
 
         // 配置 SSL 验证
         if (!config.isVerifySsl()) {
@@ -96,7 +139,7 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     /**
      * 配置不安全的 SSL（仅用于测试环境）
      */
-    private void configureInsecureSSL(HttpClient.Builder clientBuilder) {
+    private static void configureInsecureSSL(HttpClient.Builder clientBuilder) {
         try {
             TrustManager[] trustAllCerts = new TrustManager[]{
                     new X509TrustManager() {
@@ -121,12 +164,13 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         Objects.requireNonNull(api, "API must not be null");
 
         RequestContext context = new RequestContext(api);
+        context.setBaseUrl(config.getBaseUrl());
 
         // 添加认证参数
         addAuthParameters(context);
 
         try {
-            InterceptorChain chain = new InterceptorChain(interceptors, this::executeHttpRequest);
+            InterceptorChain chain = new InterceptorChain(activeInterceptors(), this::executeHttpRequest);
             chain.proceed(context);
 
             if (context.hasException()) {
@@ -147,12 +191,50 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         checkNotClosed();
         Objects.requireNonNull(api, "API must not be null");
 
-        return CompletableFuture
-                .supplyAsync(() -> execute(api), executorService)
-                .exceptionally(throwable -> {
-                    throw new CompletionException(wrapException(
-                            throwable.getCause() != null ? throwable.getCause() : throwable));
-                });
+        RequestContext context = new RequestContext(api);
+        context.setBaseUrl(config.getBaseUrl());
+
+        // 添加认证参数
+        addAuthParameters(context);
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AsyncInterceptorChain chain = new AsyncInterceptorChain(
+                activeInterceptors(), this::executeHttpRequestAsync, executors.interceptor());
+
+        // 在回调执行器上完成返回的Future，调用者注册的回调不会占用I/O或解析线程
+        CompletableFuture<RequestContext> pipeline = chain.proceedAsync(context);
+        pipeline.whenCompleteAsync((ignored, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(wrapException(unwrapCompletion(throwable)));
+            } else if (context.hasException()) {
+                future.completeExceptionally(wrapException(context.getException()));
+            } else {
+                @SuppressWarnings("unchecked")
+                T result = (T) context.getResult();
+                future.complete(result);
+            }
+        }, executors.callback());
+
+        // 返回的Future被取消或超时（如orTimeout）时中止进行中的HTTP交换、排队和重试等待
+        future.whenComplete((ignored, throwable) -> {
+            if (!pipeline.isDone()) {
+                context.setCanceled(true);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * 以有限的并发度异步执行一组API请求，单个请求的超时和整体截止时间由客户端的延迟调度器计时，到期后的处理在回调执行器上进行
+     */
+    @Override
+    public <T> CompletableFuture<BatchResult<T>> executeAllAsync(Collection<? extends BtApi<? extends T>> apis,
+                                                                 BatchOptions options,
+                                                                 BatchListener<? super T> listener) {
+        checkNotClosed();
+        return new BatchExecutor<T>((index, api) -> executeAsync(api), delayScheduler, executors.callback(),
+                apis, options, listener).start();
     }
 
     @Override
@@ -175,19 +257,10 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
 
         closed = true;
 
-        try {
-            // 优雅关闭执行器
-            executorService.shutdown();
-            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                log.warn("Executor service shutdown timeout, forcing shutdown");
-                executorService.shutdownNow();
-                if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                    log.error("Executor service did not terminate");
-                }
-            }
-        } catch (InterruptedException e) {
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt();
+        // 共享资源由其创建者关闭
+        if (shared == null) {
+            delayScheduler.close();
+            executors.close();
         }
 
         log.info("DefaultBtClient closed gracefully");
@@ -198,17 +271,91 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         return closed;
     }
 
+    /**
+     * 获取客户端内部各个执行器的运行状态，包括排队任务数和活跃任务数
+     *
+     * @return 执行器状态列表
+     */
+    public List<ExecutorStats> getExecutorStats() {
+        return executors.getStats();
+    }
+
+    /**
+     * 获取自适应并发限制的运行状态，包括当前上限、在途请求数和排队请求数
+     *
+     * @return 状态快照，未配置并发限制时返回null
+     */
+    public ConcurrencyLimitStats getConcurrencyLimitStats() {
+        return concurrencyLimiter == null ? null : concurrencyLimiter.snapshot();
+    }
+
+    /**
+     * 获取熔断器的当前状态
+     *
+     * @return 熔断器状态，未配置熔断器时返回null
+     */
+    public CircuitState getCircuitState() {
+        return circuitBreaker == null ? null : circuitBreaker.getState();
+    }
+
+    /**
+     * 获取重试预算的运行状态，包括窗口内的请求数、重试次数和被放弃的重试总数
+     *
+     * @return 状态快照，未配置重试预算时返回null
+     */
+    public RetryBudgetStats getRetryBudgetStats() {
+        return retryBudget == null ? null : retryBudget.snapshot();
+    }
+
+    /**
+     * 获取对冲请求的运行状态，包括发出的对冲请求数和对冲胜出的次数
+     *
+     * @return 状态快照，未配置对冲时返回null
+     */
+    public HedgingStats getHedgingStats() {
+        return hedger == null ? null : hedger.snapshot();
+    }
+
+    /**
+     * 获取本次请求使用的拦截器，共享拦截器与客户端自身的拦截器按优先级合并
+     */
+    private List<RequestInterceptor> activeInterceptors() {
+        if (shared == null || shared.interceptors().isEmpty()) {
+            return interceptors;
+        }
+        List<RequestInterceptor> merged = new ArrayList<>(shared.interceptors());
+        synchronized (interceptors) {
+            merged.addAll(interceptors);
+        }
+        merged.sort(Comparator.comparingInt(RequestInterceptor::getPriority));
+        return merged;
+    }
+
     private void checkNotClosed() {
         if (closed) {
             throw new IllegalStateException("Client is closed");
         }
     }
 
+    /**
+     * 去除CompletableFuture包装的异常外壳
+     */
+    private static Throwable unwrapCompletion(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     private BtApiException wrapException(Throwable e) {
         if (e instanceof BtApiException) {
             return (BtApiException) e;
         } else if (e instanceof BtNetworkException) {
             return new BtApiException("Network error", e);
+        } else if (e instanceof CancellationException) {
+            return new BtApiException("Request was canceled", e);
         } else {
             return new BtApiException("Unexpected error during API execution", e);
         }
@@ -217,13 +364,13 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     /**
      * 添加认证参数
      */
-    private void addAuthParameters(RequestContext context) {
+    void addAuthParameters(RequestContext context) {
         Map<String, Object> params = context.getParams();
 
         // 只有当参数中没有认证信息时才添加
         if (!params.containsKey("request_token") && !params.containsKey("request_time")) {
             long requestTime = System.currentTimeMillis() / 1000;
-            String requestToken = BtUtils.generateRequestToken(config.getApiKey(), requestTime);
+            String requestToken = requestSigner.sign(requestTime);
 
             context.addParam("request_token", requestToken)
                     .addParam("request_time", String.valueOf(requestTime));
@@ -237,26 +384,92 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         @SuppressWarnings("unchecked")
         BtApi<T> api = (BtApi<T>) context.getApi();
 
+        HttpRequest request = buildHttpRequest(api, context);
+
+        if (api.isStreamingResponse()) {
+            // 流式API直接从输入流解析，不把响应体读取为字符串
+            HttpResponse<InputStream> response =
+                    executeWithRetry(request, HttpResponse.BodyHandlers.ofInputStream(), context);
+            try (InputStream body = response.body()) {
+                processStreamingResponse(response.statusCode(), body, context, api);
+            }
+            return;
+        }
+
+        // 执行带重试的请求
+        HttpResponse<String> response = executeWithRetry(request, HttpResponse.BodyHandlers.ofString(), context);
+
+        // 处理响应
+        processResponse(response, context, api);
+    }
+
+    /**
+     * 异步执行 HTTP 请求，等待网络响应期间不占用任何线程
+     */
+    private <T> CompletableFuture<Void> executeHttpRequestAsync(RequestContext context) {
+        @SuppressWarnings("unchecked")
+        BtApi<T> api = (BtApi<T>) context.getApi();
+
+        HttpRequest request;
+        try {
+            request = buildHttpRequest(api, context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (api.isStreamingResponse()) {
+            // 异步路径不能在I/O线程上阻塞读取输入流，以字节数组接收后在解析执行器上流式解析，省去字符串解码和拷贝
+            return executeWithRetryAsync(request, HttpResponse.BodyHandlers.ofByteArray(), 0, System.nanoTime(), context)
+                    .thenAcceptAsync(response -> {
+                        try {
+                            processStreamingResponse(response.statusCode(),
+                                    new ByteArrayInputStream(response.body()), context, api);
+                        } catch (Exception e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executors.parse());
+        }
+
+        // 在解析执行器上处理响应，避免耗时的解析阻塞I/O线程
+        return executeWithRetryAsync(request, HttpResponse.BodyHandlers.ofString(), 0, System.nanoTime(), context)
+                .thenAcceptAsync(response -> {
+                    try {
+                        processResponse(response, context, api);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, executors.parse());
+    }
+
+    /**
+     * 构建 HTTP 请求
+     */
+    HttpRequest buildHttpRequest(BtApi<?> api, RequestContext context) {
         // 构建基本URL
         String baseEndpoint = api.getEndpoint();
-        String fullUrl = buildUrl(baseEndpoint);
-        
-        // 对于宝塔面板API，所有参数都应该作为URL查询参数，无论HTTP方法是什么
-        if (!context.getParams().isEmpty()) {
-            StringBuilder urlBuilder = new StringBuilder(fullUrl);
-            boolean hasExistingParams = fullUrl.contains("?");
-            
-            // 将请求参数添加到URL查询字符串
-            for (Map.Entry<String, Object> entry : context.getParams().entrySet()) {
-                urlBuilder.append(hasExistingParams ? '&' : '?');
-                urlBuilder.append(entry.getKey());
-                urlBuilder.append('=');
-                urlBuilder.append(encodeValue(String.valueOf(entry.getValue())));
-                hasExistingParams = true;
+        BtApi.HttpMethod method = api.getMethod();
+        boolean hasBody = method == BtApi.HttpMethod.POST
+                || method == BtApi.HttpMethod.PUT
+                || method == BtApi.HttpMethod.PATCH;
+
+        // 根据编码方式拆分查询参数和请求体参数
+        Map<String, Object> params = context.getParams();
+        Map<String, Object> queryParams = params;
+        Map<String, Object> bodyParams = params;
+        if (hasBody && config.getParamEncoding() == ParamEncoding.FORM_BODY) {
+            queryParams = Collections.emptyMap();
+        } else if (hasBody && config.getParamEncoding() == ParamEncoding.FORM_BODY_AUTH_QUERY) {
+            queryParams = new LinkedHashMap<>();
+            bodyParams = new LinkedHashMap<>(params);
+            for (String key : AUTH_PARAM_KEYS) {
+                Object value = bodyParams.remove(key);
+                if (value != null) {
+                    queryParams.put(key, value);
+                }
             }
-            
-            fullUrl = urlBuilder.toString();
         }
+
+        String fullUrl = appendQuery(buildUrl(baseEndpoint), queryParams);
         
         // 记录完整URL用于调试
         log.debug("构建的完整URL: {}", fullUrl);
@@ -268,21 +481,21 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri);
 
         // 设置 HTTP 方法
-        switch (api.getMethod()) {
+        switch (method) {
             case GET:
                 requestBuilder.GET();
                 break;
             case POST:
-                requestBuilder.POST(buildBodyPublisher(api, context));
+                requestBuilder.POST(FormBodyPublisher.of(bodyParams));
                 break;
             case PUT:
-                requestBuilder.PUT(buildBodyPublisher(api, context));
+                requestBuilder.PUT(FormBodyPublisher.of(bodyParams));
                 break;
             case DELETE:
                 requestBuilder.DELETE();
                 break;
             case PATCH:
-                requestBuilder.method("PATCH", buildBodyPublisher(api, context));
+                requestBuilder.method("PATCH", FormBodyPublisher.of(bodyParams));
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported HTTP method: " + api.getMethod());
@@ -296,33 +509,49 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         config.getExtraHeaders().forEach(requestBuilder::header);
         context.getHeaders().forEach(requestBuilder::header);
 
+        // 参数只放在请求体中时必须声明表单类型，否则面板无法解析请求体
+        if (hasBody && !bodyParams.isEmpty()
+                && config.getParamEncoding() != ParamEncoding.QUERY_AND_BODY
+                && !hasHeader(context, "Content-Type")) {
+            requestBuilder.header("Content-Type", FormBodyPublisher.CONTENT_TYPE);
+        }
+
         // 日志记录
         if (config.isEnableRequestLog()) {
             logRequest(api, context);
         }
 
-        // 执行带重试的请求
-        HttpResponse<String> response = executeWithRetry(requestBuilder, 0, context);
-
-        // 处理响应
-        processResponse(response, context, api);
+        return requestBuilder.build();
     }
 
     /**
-     * 构建请求体发布器
+     * 将参数追加到 URL 查询字符串
      */
-    private HttpRequest.BodyPublisher buildBodyPublisher(BtApi<?> api, RequestContext context) {
-        Map<String, Object> params = context.getParams();
-
+    private String appendQuery(String url, Map<String, Object> params) {
         if (params.isEmpty()) {
-            return HttpRequest.BodyPublishers.noBody();
+            return url;
         }
 
-        String formData = params.entrySet().stream()
-                .map(e -> e.getKey() + "=" + encodeValue(String.valueOf(e.getValue())))
-                .collect(Collectors.joining("&"));
+        StringBuilder urlBuilder = new StringBuilder(url);
+        boolean hasExistingParams = url.contains("?");
 
-        return HttpRequest.BodyPublishers.ofString(formData);
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            urlBuilder.append(hasExistingParams ? '&' : '?');
+            urlBuilder.append(entry.getKey());
+            urlBuilder.append('=');
+            urlBuilder.append(encodeValue(String.valueOf(entry.getValue())));
+            hasExistingParams = true;
+        }
+
+        return urlBuilder.toString();
+    }
+
+    /**
+     * 检查是否已经设置了指定的请求头（忽略大小写）
+     */
+    private boolean hasHeader(RequestContext context, String name) {
+        return context.getHeaders().keySet().stream().anyMatch(name::equalsIgnoreCase)
+                || config.getExtraHeaders().keySet().stream().anyMatch(name::equalsIgnoreCase);
     }
 
     /**
@@ -360,53 +589,399 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     }
 
     /**
-     * 带重试的请求执行
+     * 带重试的请求执行，重试间隔由重试策略计算并在定时器上等待
      */
-    private HttpResponse<String> executeWithRetry(
-            HttpRequest.Builder requestBuilder,
-            int attempt,
+    private <B> HttpResponse<B> executeWithRetry(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
             RequestContext context) throws Exception {
-
-        if (attempt > config.getRetryCount()) {
-            throw new BtNetworkException("Max retries exceeded: " + config.getRetryCount(),
-                    context.getException());
+        long startNanos = System.nanoTime();
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
         }
 
-        try {
-            HttpRequest request = requestBuilder.build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        for (int attempt = 0; ; attempt++) {
+            if (context.isCanceled()) {
+                throw new CancellationException("Request was canceled");
+            }
+
+            HttpResponse<B> response;
+            try {
+                response = send(request, bodyHandler, context);
+            } catch (BtApiException | CancellationException e) {
+                // 熔断、限流、并发上限等客户端自身的拒绝以及取消都不重试
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BtNetworkException("Request interrupted", e);
+            } catch (java.net.http.HttpTimeoutException | java.net.SocketTimeoutException e) {
+                log.warn("Timeout on attempt {}/{}", attempt + 1, retryPolicy.getMaxRetries());
+                Duration delay = nextRetryDelay(attempt, startNanos, null);
+                if (delay == null) {
+                    throw new BtNetworkException("Request timeout after retries", e);
+                }
+                awaitRetry(delay, context);
+                continue;
+            } catch (Exception e) {
+                log.warn("Request failed on attempt {}/{}: {}",
+                        attempt + 1, retryPolicy.getMaxRetries(), e.getMessage(), e);
+                Duration delay = nextRetryDelay(attempt, startNanos, null);
+                if (delay == null) {
+                    context.setException(e);
+                    throw e;
+                }
+                awaitRetry(delay, context);
+                continue;
+            }
 
             if (isRetryableStatusCode(response.statusCode()) || context.isForceRetry()) {
-                if (attempt < config.getRetryCount()) {
-                    log.warn("Retryable response [{}], attempt {}/{}",
-                            response.statusCode(), attempt + 1, config.getRetryCount());
-                    Thread.sleep(config.getRetryInterval().toMillis());
-                    return executeWithRetry(requestBuilder, attempt + 1, context);
+                Duration delay = nextRetryDelay(attempt, startNanos, response);
+                if (delay != null) {
+                    log.warn("Retryable response [{}], attempt {}/{}, retrying in {} ms",
+                            response.statusCode(), attempt + 1, retryPolicy.getMaxRetries(), delay.toMillis());
+                    discardBody(response);
+                    awaitRetry(delay, context);
+                    continue;
                 }
             }
 
             return response;
+        }
+    }
+
+    /**
+     * 发送一次请求，依次经过熔断器、限流器和并发限制器，结束后把耗时和结果提交给熔断器和并发限制器
+     */
+    private <B> HttpResponse<B> send(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            RequestContext context) throws IOException, InterruptedException {
+        if (hedger != null && hedger.appliesTo(context.getApi())) {
+            return awaitExchange(sendHedgedAsync(request, bodyHandler, context));
+        }
+        if (circuitBreaker == null && rateLimiter == null && concurrencyLimiter == null) {
+            return exchange(request, bodyHandler, context);
+        }
+
+        long permit = circuitBreaker != null ? circuitBreaker.acquirePermission() : 0;
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.acquire(context.getApi().getEndpoint());
+            }
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.acquireBlocking();
+            }
+        } catch (RuntimeException | InterruptedException e) {
+            if (circuitBreaker != null) {
+                circuitBreaker.releasePermission(permit);
+            }
+            throw e;
+        }
+
+        long startNanos = System.nanoTime();
+        int statusCode = 0;
+        try {
+            HttpResponse<B> response = exchange(request, bodyHandler, context);
+            statusCode = response.statusCode();
+            return response;
+        } catch (CancellationException | InterruptedException e) {
+            // 被取消或中断的交换不代表面板的状态
+            statusCode = -1;
+            throw e;
+        } finally {
+            if (statusCode < 0) {
+                onAttemptCanceled(permit);
+            } else {
+                onAttemptComplete(permit, startNanos, statusCode);
+            }
+        }
+    }
+
+    /**
+     * 在调用线程上完成一次HTTP交换
+     * <p>
+     * HttpClient的同步send内部同样是等待sendAsync的结果，这里直接持有该Future，请求被取消时可以中止交换。
+     * </p>
+     */
+    private <B> HttpResponse<B> exchange(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            RequestContext context) throws IOException, InterruptedException {
+        return awaitExchange(cancelOnAbort(context, httpClient.sendAsync(request, bodyHandler)));
+    }
+
+    /**
+     * 异步发送一次请求，等待限流和并发许可时不占用线程
+     */
+    private <B> CompletableFuture<HttpResponse<B>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            RequestContext context) {
+        if (circuitBreaker == null && rateLimiter == null && concurrencyLimiter == null) {
+            return cancelOnAbort(context, httpClient.sendAsync(request, bodyHandler));
+        }
+
+        long permit;
+        try {
+            permit = circuitBreaker != null ? circuitBreaker.acquirePermission() : 0;
+        } catch (BtApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> admitted = rateLimiter == null
+                ? CompletableFuture.completedFuture(null)
+                : cancelOnAbort(context, rateLimiter.acquireAsync(context.getApi().getEndpoint()));
+        if (concurrencyLimiter != null) {
+            admitted = admitted.thenCompose(ignored -> cancelOnAbort(context, concurrencyLimiter.acquire()));
+        }
+        if (circuitBreaker != null) {
+            admitted.whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    circuitBreaker.releasePermission(permit);
+                }
+            });
+        }
 
+        return admitted.thenCompose(ignored -> {
+            long startNanos = System.nanoTime();
+            CompletableFuture<HttpResponse<B>> exchange =
+                    cancelOnAbort(context, httpClient.sendAsync(request, bodyHandler));
+            return exchange.whenComplete((response, throwable) -> {
+                if (throwable instanceof CancellationException) {
+                    onAttemptCanceled(permit);
+                } else {
+                    onAttemptComplete(permit, startNanos, throwable == null ? response.statusCode() : 0);
+                }
+            });
+        });
+    }
+
+    /**
+     * 异步发送一次请求，只读API配置了对冲时在分位延迟后发出对冲请求，取先完成的响应
+     */
+    private <B> CompletableFuture<HttpResponse<B>> sendHedgedAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            RequestContext context) {
+        if (hedger == null || !hedger.appliesTo(context.getApi())) {
+            return sendAsync(request, bodyHandler, context);
+        }
+        return hedger.execute(context.getApi().getClass(),
+                () -> sendAsync(request, bodyHandler, context), DefaultBtClient::discardBody);
+    }
+
+    /**
+     * 在调用线程上等待异步发送的结果，并还原为同步发送的异常类型
+     */
+    private static <B> HttpResponse<B> awaitExchange(CompletableFuture<HttpResponse<B>> future)
+            throws IOException, InterruptedException {
+        try {
+            return future.get();
         } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 请求被取消（如对冲中落败的一方）时只归还许可，不计入并发限制器和熔断器的统计
+     */
+    private void onAttemptCanceled(long permit) {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release();
+        }
+        if (circuitBreaker != null) {
+            circuitBreaker.releasePermission(permit);
+        }
+    }
+
+    /**
+     * 一次尝试结束后归还并发许可，并把耗时和结果提交给并发限制器和熔断器
+     *
+     * @param permit 熔断器的许可，未配置熔断器时忽略
+     * @param startNanos 请求开始发送的时间
+     * @param statusCode 响应状态码，请求异常时为0
+     */
+    private void onAttemptComplete(long permit, long startNanos, int statusCode) {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release(startNanos, statusCode == 0 || isRetryableStatusCode(statusCode));
+        }
+        if (circuitBreaker != null) {
+            circuitBreaker.onResult(permit, System.nanoTime() - startNanos, statusCode == 0 || statusCode >= 500);
+        }
+    }
+
+    /**
+     * 丢弃不再使用的响应体，流式响应需要关闭输入流以释放连接
+     */
+    private static void discardBody(HttpResponse<?> response) {
+        if (response.body() instanceof InputStream) {
+            try {
+                ((InputStream) response.body()).close();
+            } catch (IOException e) {
+                log.debug("Failed to close discarded response body", e);
+            }
+        }
+    }
+
+    /**
+     * 在调用线程上等待重试间隔，请求被取消时立即结束等待
+     */
+    private void awaitRetry(Duration delay, RequestContext context) {
+        CompletableFuture<Void> timer = cancelOnAbort(context, delayScheduler.delay(delay));
+        try {
+            timer.get();
+        } catch (InterruptedException e) {
+            timer.cancel(false);
             Thread.currentThread().interrupt();
             throw new BtNetworkException("Request interrupted", e);
-        } catch (java.net.http.HttpTimeoutException | java.net.SocketTimeoutException e) {
-            log.warn("Timeout on attempt {}/{}", attempt + 1, config.getRetryCount());
-            if (attempt < config.getRetryCount()) {
-                Thread.sleep(config.getRetryInterval().toMillis());
-                return executeWithRetry(requestBuilder, attempt + 1, context);
-            }
-            throw new BtNetworkException("Request timeout after retries", e);
-        } catch (Exception e) {
-            log.warn("Request failed on attempt {}/{}: {}",
-                    attempt + 1, config.getRetryCount(), e.getMessage(), e);
+        } catch (ExecutionException | CancellationException e) {
+            throw new CancellationException("Request was canceled");
+        }
+    }
+
+    /**
+     * 请求被取消时取消指定的Future（HTTP交换、限流等待、排队许可或重试等待），Future结束后注销回调
+     */
+    private static <F extends CompletableFuture<?>> F cancelOnAbort(RequestContext context, F future) {
+        if (future.isDone()) {
+            return future;
+        }
+        Runnable listener = () -> future.cancel(true);
+        context.addCancelListener(listener);
+        future.whenComplete((ignored, throwable) -> context.removeCancelListener(listener));
+        return future;
+    }
+
+    /**
+     * 异步带重试的请求执行，重试等待通过定时器调度，不会阻塞线程
+     */
+    private <B> CompletableFuture<HttpResponse<B>> executeWithRetryAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            int attempt,
+            long startNanos,
+            RequestContext context) {
+
+        if (attempt == 0 && retryBudget != null) {
+            retryBudget.recordRequest();
+        }
+        return sendHedgedAsync(request, bodyHandler, context)
+                .handle((response, throwable) -> {
+                    if (context.isCanceled()) {
+                        if (response != null) {
+                            discardBody(response);
+                        }
+                        return CompletableFuture.<HttpResponse<B>>failedFuture(
+                                new CancellationException("Request was canceled"));
+                    }
+                    if (throwable == null) {
+                        if (isRetryableStatusCode(response.statusCode()) || context.isForceRetry()) {
+                            Duration delay = nextRetryDelay(attempt, startNanos, response);
+                            if (delay != null) {
+                                log.warn("Retryable response [{}], attempt {}/{}, retrying in {} ms",
+                                        response.statusCode(), attempt + 1, retryPolicy.getMaxRetries(),
+                                        delay.toMillis());
+                                return retryAsync(request, bodyHandler, attempt, startNanos, delay, context);
+                            }
+                        }
+                        return CompletableFuture.completedFuture(response);
+                    }
+
+                    Throwable cause = unwrapCompletion(throwable);
+                    if (cause instanceof BtApiException) {
+                        // 熔断、限流、并发上限等客户端自身的拒绝不重试
+                        return CompletableFuture.<HttpResponse<B>>failedFuture(cause);
+                    }
+                    Duration delay = nextRetryDelay(attempt, startNanos, null);
+                    if (cause instanceof java.net.http.HttpTimeoutException) {
+                        log.warn("Timeout on attempt {}/{}", attempt + 1, retryPolicy.getMaxRetries());
+                        if (delay != null) {
+                            return retryAsync(request, bodyHandler, attempt, startNanos, delay, context);
+                        }
+                        return CompletableFuture.<HttpResponse<B>>failedFuture(
+                                new BtNetworkException("Request timeout after retries", cause));
+                    }
+
+                    log.warn("Request failed on attempt {}/{}: {}",
+                            attempt + 1, retryPolicy.getMaxRetries(), cause.getMessage(), cause);
+                    if (delay != null) {
+                        return retryAsync(request, bodyHandler, attempt, startNanos, delay, context);
+                    }
+                    if (cause instanceof Exception) {
+                        context.setException((Exception) cause);
+                    }
+                    return CompletableFuture.<HttpResponse<B>>failedFuture(cause);
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * 在重试间隔后异步发起下一次尝试
+     */
+    private <B> CompletableFuture<HttpResponse<B>> retryAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            int attempt,
+            long startNanos,
+            Duration delay,
+            RequestContext context) {
+
+        return cancelOnAbort(context, delayScheduler.delay(delay))
+                .thenCompose(ignored -> executeWithRetryAsync(request, bodyHandler, attempt + 1, startNanos, context));
+    }
+
+    /**
+     * 根据重试策略和重试预算计算下一次重试前的等待时间
+     *
+     * @return 等待时间；不应继续重试时返回null
+     */
+    private Duration nextRetryDelay(int attempt, long startNanos, HttpResponse<?> response) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        Duration delay = retryPolicy.nextDelay(attempt, elapsed, parseRetryAfter(response));
+        if (delay != null && retryBudget != null && !retryBudget.tryRetry()) {
+            log.warn("Retry budget exhausted, giving up after attempt {}", attempt + 1);
+            return null;
+        }
+        return delay;
+    }
 
-            if (attempt < config.getRetryCount()) {
-                Thread.sleep(config.getRetryInterval().toMillis());
-                return executeWithRetry(requestBuilder, attempt + 1, context);
+    /**
+     * 解析429/503响应中的Retry-After头，支持秒数和HTTP日期两种格式
+     */
+    private static Duration parseRetryAfter(HttpResponse<?> response) {
+        if (response == null || (response.statusCode() != 429 && response.statusCode() != 503)) {
+            return null;
+        }
+
+        String value = response.headers().firstValue("Retry-After").orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        value = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (Exception ex) {
+                log.debug("Ignoring malformed Retry-After header: {}", value);
+                return null;
             }
-            context.setException(e);
-            throw e;
         }
     }
 
@@ -427,27 +1002,12 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         context.setResponseBody(response.body());
 
         if (config.isEnableResponseLog()) {
-            logResponse(response);
+            logResponse(response.statusCode(), response.body());
         }
 
         if (response.statusCode() >= 200 && response.statusCode() < 300) {
             T result = api.parseResponse(response.body());
-            
-            // 检查结果是否为BtResult类型，如果是，则检查其status字段
-            if (result instanceof BtResult<?>) {
-                BtResult<?> btResult = (BtResult<?>) result;
-                if (btResult.isFailed()) {
-                    String msg = btResult.getMsg();
-                    // 当消息是密钥校验失败时，抛出认证异常
-                    if (msg != null && msg.equals("密钥校验失败")) {
-                        throw new BtAuthenticationException("API key verification failed", "API_KEY", null);
-                    } else {
-                        throw new BtApiException("API business logic failed: " + msg,
-                                response.statusCode(), response.body());
-                    }
-                }
-            }
-            
+            checkResult(result, response.statusCode(), response.body());
             context.setResult(result);
         } else {
             throw new BtApiException("API request failed with status: " + response.statusCode(),
@@ -455,6 +1015,64 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         }
     }
 
+    /**
+     * 处理流式响应，直接从输入流解析结果
+     * <p>
+     * 只有在拦截器要求保留响应体或请求失败时才会把响应体读取到内存中。
+     * </p>
+     */
+    private <T> void processStreamingResponse(
+            int statusCode,
+            InputStream body,
+            RequestContext context,
+            BtApi<T> api) throws Exception {
+
+        context.setStatusCode(statusCode);
+
+        if (statusCode < 200 || statusCode >= 300) {
+            String responseBody = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            context.setResponseBody(responseBody);
+            if (config.isEnableResponseLog()) {
+                logResponse(statusCode, responseBody);
+            }
+            throw new BtApiException("API request failed with status: " + statusCode, statusCode, responseBody);
+        }
+
+        String responseBody = null;
+        if (context.isRetainResponseBody()) {
+            byte[] bytes = body.readAllBytes();
+            responseBody = new String(bytes, StandardCharsets.UTF_8);
+            context.setResponseBody(responseBody);
+            body = new ByteArrayInputStream(bytes);
+        }
+
+        if (config.isEnableResponseLog()) {
+            logResponse(statusCode, responseBody != null ? responseBody : "[streamed]");
+        }
+
+        T result = api.parseResponse(body);
+        checkResult(result, statusCode, responseBody);
+        context.setResult(result);
+    }
+
+    /**
+     * 检查结果是否为BtResult类型，如果是，则检查其status字段
+     */
+    private static void checkResult(Object result, int statusCode, String responseBody) {
+        if (result instanceof BtResult<?>) {
+            BtResult<?> btResult = (BtResult<?>) result;
+            if (btResult.isFailed()) {
+                String msg = btResult.getMsg();
+                // 当消息是密钥校验失败时，抛出认证异常
+                if (msg != null && msg.equals("密钥校验失败")) {
+                    throw new BtAuthenticationException("API key verification failed", "API_KEY", null);
+                } else {
+                    throw new BtApiException("API business logic failed: " + msg, statusCode, responseBody);
+                }
+            }
+        }
+    }
+
     /**
      * 记录请求日志
      */
@@ -468,17 +1086,17 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     /**
      * 记录响应日志
      */
-    private void logResponse(HttpResponse<String> response) {
-        String bodyPreview = response.body() != null && response.body().length() > 1000
-                ? response.body().substring(0, 1000) + " [truncated...]"
-                : response.body();
-        log.debug("← {} {}", response.statusCode(), bodyPreview);
+    private void logResponse(int statusCode, String body) {
+        String bodyPreview = body != null && body.length() > 1000
+                ? body.substring(0, 1000) + " [truncated...]"
+                : body;
+        log.debug("← {} {}", statusCode, bodyPreview);
     }
 
     /**
      * 遮蔽 URL 中的敏感信息
      */
-    private String maskUrl(String url) {
+    String maskUrl(String url) {
         int queryIndex = url.indexOf('?');
         if (queryIndex == -1) return url;
 
@@ -503,7 +1121,7 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     /**
      * 遮蔽参数中的敏感信息
      */
-    private String maskParams(Map<String, Object> params) {
+    String maskParams(Map<String, Object> params) {
         return params.entrySet().stream()
                 .map(entry -> {
                     String key = entry.getKey();
@@ -518,7 +1136,7 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
     /**
      * 拦截器链
      */
-    private static class InterceptorChain implements RequestContext.Chain {
+    static class InterceptorChain implements RequestContext.Chain {
         private final List<RequestInterceptor> interceptors;
         private final RequestExecutor executor;
         private int index = 0;
@@ -554,8 +1172,63 @@ public class DefaultBtClient implements BtClient, AutoCloseable {
         }
     }
 
+    /**
+     * 异步拦截器链
+     */
+    static class AsyncInterceptorChain implements RequestContext.AsyncChain {
+        private final List<RequestInterceptor> interceptors;
+        private final AsyncRequestExecutor executor;
+        private final Executor interceptorExecutor;
+        private int index = 0;
+        private RequestContext context;
+
+        AsyncInterceptorChain(List<RequestInterceptor> interceptors,
+                              AsyncRequestExecutor executor,
+                              Executor interceptorExecutor) {
+            this.interceptors = new ArrayList<>(interceptors); // 防止并发修改
+            this.executor = executor;
+            this.interceptorExecutor = interceptorExecutor;
+        }
+
+        public CompletableFuture<RequestContext> proceedAsync(RequestContext context) {
+            this.context = context;
+            return proceedAsync();
+        }
+
+        @Override
+        public RequestContext getContext() {
+            return context;
+        }
+
+        @Override
+        public Executor getExecutor() {
+            return interceptorExecutor;
+        }
+
+        @Override
+        public CompletableFuture<RequestContext> proceedAsync() {
+            if (context.isCanceled()) {
+                return CompletableFuture.failedFuture(new CancellationException("Request was canceled"));
+            }
+            try {
+                if (index < interceptors.size()) {
+                    RequestInterceptor interceptor = interceptors.get(index++);
+                    return interceptor.interceptAsync(context, this);
+                }
+                return executor.execute(context).thenApply(ignored -> context);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
     @FunctionalInterface
-    private interface RequestExecutor {
+    interface RequestExecutor {
         void execute(RequestContext context) throws Exception;
     }
+
+    @FunctionalInterface
+    interface AsyncRequestExecutor {
+        CompletableFuture<Void> execute(RequestContext context);
+    }
 }
\ No newline at end of file
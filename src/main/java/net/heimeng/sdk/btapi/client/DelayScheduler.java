@@ -0,0 +1,88 @@
+package net.heimeng.sdk.btapi.client;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 延迟调度器，基于单个定时线程实现重试等待等延迟任务
+ * <p>
+ * 异步路径通过{@link #delay(Duration)}获得在指定时间后完成的CompletableFuture，等待期间不占用任何线程；
+ * 同步路径通过{@link #sleep(Duration)}在调用线程上等待同一个定时器。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+final class DelayScheduler implements AutoCloseable {
+
+    private final ScheduledThreadPoolExecutor timer;
+
+    DelayScheduler(String threadName) {
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            t.setUncaughtExceptionHandler((thread, ex) ->
+                    log.error("Uncaught exception in thread {}", thread.getName(), ex));
+            return t;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 返回一个在指定延迟后完成的CompletableFuture
+     * <p>
+     * 取消返回的Future会同时取消定时任务。
+     * </p>
+     *
+     * @param delay 延迟时间
+     * @return 延迟结束时完成的CompletableFuture
+     */
+    CompletableFuture<Void> delay(Duration delay) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (delay.isZero() || delay.isNegative()) {
+            future.complete(null);
+            return future;
+        }
+
+        ScheduledFuture<?> task = timer.schedule(
+                () -> future.complete(null), delay.toNanos(), TimeUnit.NANOSECONDS);
+        future.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                task.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在调用线程上等待指定的延迟时间
+     *
+     * @param delay 延迟时间
+     * @throws InterruptedException 当等待被中断时抛出
+     */
+    void sleep(Duration delay) throws InterruptedException {
+        CompletableFuture<Void> future = delay(delay);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            throw e;
+        } catch (ExecutionException | CancellationException e) {
+            // 延迟任务只会被取消，不会异常完成
+            log.debug("Delay was canceled", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
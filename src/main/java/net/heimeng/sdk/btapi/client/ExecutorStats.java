@@ -0,0 +1,37 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 执行器运行状态快照，用于监控客户端内部各个执行器的负载
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ExecutorStats {
+
+    /**
+     * 执行器名称，例如io、parse、callback、interceptor
+     */
+    private final String name;
+
+    /**
+     * 已提交但尚未开始执行的任务数
+     */
+    private final int queueDepth;
+
+    /**
+     * 正在执行的任务数
+     */
+    private final int activeCount;
+
+    /**
+     * 已执行完成的任务总数
+     */
+    private final long completedTaskCount;
+}
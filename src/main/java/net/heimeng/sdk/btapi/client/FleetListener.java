@@ -0,0 +1,23 @@
+package net.heimeng.sdk.btapi.client;
+
+/**
+ * 多面板分发查询的结果监听器，每个面板返回结果时按返回的先后顺序回调
+ * <p>
+ * 回调在完成请求的线程上执行，不应执行耗时操作。到达截止时间而被取消的面板不会回调，只出现在最终结果的错误中。
+ * </p>
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface FleetListener<T> {
+
+    /**
+     * 单个面板返回结果时调用
+     *
+     * @param panelId 面板标识
+     * @param item 请求结果，包含返回结果或异常
+     */
+    void onPanel(String panelId, BatchItem<? extends T> item);
+}
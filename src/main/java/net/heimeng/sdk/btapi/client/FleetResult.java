@@ -0,0 +1,50 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.ToString;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 多面板分发查询的结果，包含成功面板的返回结果和失败面板的异常
+ *
+ * @param <T> API返回数据类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+public class FleetResult<T> {
+
+    /**
+     * 成功面板的返回结果，按面板的提交顺序排列
+     */
+    private final Map<String, T> results;
+
+    /**
+     * 失败面板的异常，包括超时和到达截止时间而被取消的面板
+     */
+    private final Map<String, BtApiException> errors;
+
+    /**
+     * 构造函数，创建一个新的FleetResult实例
+     *
+     * @param results 成功面板的返回结果
+     * @param errors 失败面板的异常
+     */
+    public FleetResult(Map<String, T> results, Map<String, BtApiException> errors) {
+        this.results = Collections.unmodifiableMap(results);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * 检查是否所有面板都成功
+     *
+     * @return 如果所有面板都成功则返回true，否则返回false
+     */
+    public boolean isAllSuccessful() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,200 @@
+package net.heimeng.sdk.btapi.client;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 表单请求体发布器，以流式方式生成application/x-www-form-urlencoded请求体
+ * <p>
+ * 编码规则与{@link java.net.URLEncoder}使用UTF-8时一致。请求体按固定大小的分块逐块编码发送，
+ * 不会为整个表单构建中间字符串；内容长度通过一次不分配内存的预扫描计算，
+ * 因此请求仍然携带Content-Length而不是分块传输编码。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class FormBodyPublisher {
+
+    /**
+     * 表单编码的Content-Type
+     */
+    static final String CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    /**
+     * 每个分块的目标字节数
+     */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * 单次编码一个字符（或代理对）最多产生的字节数
+     */
+    private static final int MAX_BYTES_PER_STEP = 12;
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private FormBodyPublisher() {
+    }
+
+    /**
+     * 创建表单请求体发布器
+     *
+     * @param params 表单参数
+     * @return 请求体发布器
+     */
+    static HttpRequest.BodyPublisher of(Map<String, Object> params) {
+        if (params.isEmpty()) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+
+        List<String> parts = new ArrayList<>(params.size() * 2);
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            parts.add(entry.getKey());
+            parts.add(String.valueOf(entry.getValue()));
+        }
+
+        long contentLength = encodedLength(parts);
+        return HttpRequest.BodyPublishers.fromPublisher(
+                HttpRequest.BodyPublishers.ofByteArrays(() -> new ChunkIterator(parts)), contentLength);
+    }
+
+    private static long encodedLength(List<String> parts) {
+        // 每对键值之间有一个'&'，每个键值之间有一个'='
+        long length = parts.size() - 1;
+        for (String part : parts) {
+            length += encodedLength(part);
+        }
+        return length;
+    }
+
+    private static long encodedLength(String s) {
+        long length = 0;
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (isUnreserved(c) || c == ' ') {
+                length += 1;
+            } else if (c < 0x80) {
+                length += 3;
+            } else if (c < 0x800) {
+                length += 6;
+            } else if (isSurrogatePair(s, i)) {
+                length += 12;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // 孤立的代理字符按'?'编码，与URLEncoder一致
+                length += 3;
+            } else {
+                length += 9;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_';
+    }
+
+    private static boolean isSurrogatePair(String s, int i) {
+        return Character.isHighSurrogate(s.charAt(i))
+                && i + 1 < s.length()
+                && Character.isLowSurrogate(s.charAt(i + 1));
+    }
+
+    /**
+     * 按需逐块编码表单内容的迭代器
+     */
+    private static final class ChunkIterator implements Iterator<byte[]> {
+        private final List<String> parts;
+        private int part = 0;
+        private int offset = 0;
+        private boolean separatorPending = false;
+
+        ChunkIterator(List<String> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return part < parts.size();
+        }
+
+        @Override
+        public byte[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            byte[] buffer = new byte[CHUNK_SIZE + MAX_BYTES_PER_STEP];
+            int pos = 0;
+
+            while (pos < CHUNK_SIZE && part < parts.size()) {
+                if (separatorPending) {
+                    buffer[pos++] = (byte) (part % 2 == 0 ? '&' : '=');
+                    separatorPending = false;
+                    continue;
+                }
+
+                String s = parts.get(part);
+                while (offset < s.length() && pos < CHUNK_SIZE) {
+                    pos = encodeStep(s, buffer, pos);
+                }
+
+                if (offset >= s.length()) {
+                    part++;
+                    offset = 0;
+                    separatorPending = part < parts.size();
+                }
+            }
+
+            return pos == buffer.length ? buffer : Arrays.copyOf(buffer, pos);
+        }
+
+        /**
+         * 编码一个字符或代理对，返回新的写入位置
+         */
+        private int encodeStep(String s, byte[] out, int pos) {
+            char c = s.charAt(offset);
+            if (isUnreserved(c)) {
+                out[pos++] = (byte) c;
+            } else if (c == ' ') {
+                out[pos++] = '+';
+            } else if (c < 0x80) {
+                pos = percent(out, pos, c);
+            } else if (c < 0x800) {
+                pos = percent(out, pos, 0xC0 | (c >> 6));
+                pos = percent(out, pos, 0x80 | (c & 0x3F));
+            } else if (isSurrogatePair(s, offset)) {
+                int cp = Character.toCodePoint(c, s.charAt(offset + 1));
+                pos = percent(out, pos, 0xF0 | (cp >> 18));
+                pos = percent(out, pos, 0x80 | ((cp >> 12) & 0x3F));
+                pos = percent(out, pos, 0x80 | ((cp >> 6) & 0x3F));
+                pos = percent(out, pos, 0x80 | (cp & 0x3F));
+                offset++;
+            } else if (Character.isSurrogate(c)) {
+                pos = percent(out, pos, '?');
+            } else {
+                pos = percent(out, pos, 0xE0 | (c >> 12));
+                pos = percent(out, pos, 0x80 | ((c >> 6) & 0x3F));
+                pos = percent(out, pos, 0x80 | (c & 0x3F));
+            }
+            offset++;
+            return pos;
+        }
+
+        private static int percent(byte[] out, int pos, int b) {
+            out[pos++] = '%';
+            out[pos++] = HEX[(b >> 4) & 0x0F];
+            out[pos++] = HEX[b & 0x0F];
+            return pos;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.config.HedgingConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 对冲请求执行器
+ * <p>
+ * 按API类型统计最近若干次尝试的延迟，原请求在分位延迟内没有完成时通过同一个发送函数再发出一个请求。
+ * 先得到响应的一方胜出，另一方被取消，迟到的响应交给丢弃函数释放资源；两个请求都失败时以后失败的异常结束。
+ * 对冲比例通过令牌控制：每个请求积累{@code maxHedgeRate}个令牌，最多积累1个，每次对冲消耗1个。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class Hedger {
+
+    private final HedgingConfig config;
+
+    private final DelayScheduler delayScheduler;
+
+    private final LongSupplier ticker;
+
+    private final Map<Class<?>, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder hedgeCount = new LongAdder();
+
+    private final LongAdder hedgeWinCount = new LongAdder();
+
+    private final LongAdder throttledCount = new LongAdder();
+
+    private double tokens = 1;
+
+    Hedger(HedgingConfig config, DelayScheduler delayScheduler) {
+        this(config, delayScheduler, System::nanoTime);
+    }
+
+    Hedger(HedgingConfig config, DelayScheduler delayScheduler, LongSupplier ticker) {
+        this.config = config;
+        this.delayScheduler = delayScheduler;
+        this.ticker = ticker;
+    }
+
+    /**
+     * 判断API是否启用对冲
+     *
+     * @param api API实例
+     * @return 只读且在配置的API范围内时返回true
+     */
+    boolean appliesTo(BtApi<?> api) {
+        return api.isReadOnly() && (config.getApis().isEmpty() || config.getApis().contains(api.getClass()));
+    }
+
+    /**
+     * 获取指定API类型当前的对冲延迟
+     *
+     * @param apiType API类型
+     * @return 对冲延迟
+     */
+    Duration hedgeDelay(Class<?> apiType) {
+        LatencyWindow window = latencies.get(apiType);
+        long nanos = window == null ? -1 : window.percentile(config.getPercentile(), config.getMinSamples());
+        Duration delay = nanos < 0 ? config.getInitialDelay() : Duration.ofNanos(nanos);
+        return delay.compareTo(config.getMinDelay()) < 0 ? config.getMinDelay() : delay;
+    }
+
+    /**
+     * 执行一次可能被对冲的尝试
+     *
+     * @param apiType API类型，用于统计延迟
+     * @param attempt 发送函数，每次调用发出一个独立的请求
+     * @param discard 丢弃迟到响应的函数
+     * @param <T> 响应类型
+     * @return 先完成的响应
+     */
+    <T> CompletableFuture<T> execute(Class<?> apiType, Supplier<CompletableFuture<T>> attempt, Consumer<T> discard) {
+        requestCount.increment();
+        synchronized (this) {
+            tokens = Math.min(1, tokens + config.getMaxHedgeRate());
+        }
+        return new Race<>(apiType, attempt, discard).start();
+    }
+
+    /**
+     * 获取当前的运行状态
+     *
+     * @return 状态快照
+     */
+    HedgingStats snapshot() {
+        return new HedgingStats(requestCount.sum(), hedgeCount.sum(), hedgeWinCount.sum(), throttledCount.sum());
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private void record(Class<?> apiType, long latencyNanos) {
+        latencies.computeIfAbsent(apiType, key -> new LatencyWindow(config.getSampleSize())).add(latencyNanos);
+    }
+
+    /**
+     * 一次对冲中原请求和对冲请求的竞争状态
+     */
+    private final class Race<T> {
+
+        private final Class<?> apiType;
+
+        private final Supplier<CompletableFuture<T>> attempt;
+
+        private final Consumer<T> discard;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private volatile CompletableFuture<T> primary;
+
+        private volatile CompletableFuture<T> hedge;
+
+        Race(Class<?> apiType, Supplier<CompletableFuture<T>> attempt, Consumer<T> discard) {
+            this.apiType = apiType;
+            this.attempt = attempt;
+            this.discard = discard;
+        }
+
+        CompletableFuture<T> start() {
+            long startNanos = ticker.getAsLong();
+            primary = attempt.get();
+            primary.whenComplete((value, throwable) -> onComplete(false, startNanos, value, throwable));
+
+            CompletableFuture<Void> timer = delayScheduler.delay(hedgeDelay(apiType));
+            timer.thenRun(this::fireHedge);
+            result.whenComplete((value, throwable) -> {
+                timer.cancel(false);
+                if (result.isCancelled()) {
+                    cancel(primary);
+                    cancel(hedge);
+                }
+            });
+            return result;
+        }
+
+        private void fireHedge() {
+            if (result.isDone()) {
+                return;
+            }
+            if (!tryAcquireHedge()) {
+                throttledCount.increment();
+                return;
+            }
+            hedgeCount.increment();
+            pending.incrementAndGet();
+            long startNanos = ticker.getAsLong();
+            CompletableFuture<T> future = attempt.get();
+            hedge = future;
+            future.whenComplete((value, throwable) -> onComplete(true, startNanos, value, throwable));
+            if (result.isDone()) {
+                // 原请求在发出对冲请求期间完成，它的回调可能没有看到对冲请求
+                cancel(future);
+            }
+        }
+
+        private void onComplete(boolean isHedge, long startNanos, T value, Throwable throwable) {
+            if (throwable == null) {
+                record(apiType, ticker.getAsLong() - startNanos);
+                if (result.complete(value)) {
+                    if (isHedge) {
+                        hedgeWinCount.increment();
+                    }
+                    cancel(isHedge ? primary : hedge);
+                } else {
+                    discard.accept(value);
+                }
+                return;
+            }
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(throwable);
+            }
+        }
+
+        private void cancel(CompletableFuture<T> future) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 固定长度的延迟样本环形缓冲区，分位值每积累一定数量的新样本重新计算一次
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+
+        private int next;
+
+        private int count;
+
+        private int sinceComputed;
+
+        private long cached = -1;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            sinceComputed++;
+        }
+
+        synchronized long percentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            if (cached < 0 || sinceComputed * 10 >= samples.length) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                cached = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+                sinceComputed = 0;
+            }
+            return cached;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 对冲请求的运行状态快照
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class HedgingStats {
+
+    /**
+     * 启用了对冲的请求总数
+     */
+    private final long requestCount;
+
+    /**
+     * 发出的对冲请求数
+     */
+    private final long hedgeCount;
+
+    /**
+     * 对冲请求先于原请求完成的次数
+     */
+    private final long hedgeWinCount;
+
+    /**
+     * 达到对冲延迟但因对冲比例上限而没有发出的次数
+     */
+    private final long throttledCount;
+}
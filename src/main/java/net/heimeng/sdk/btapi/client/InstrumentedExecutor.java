@@ -0,0 +1,67 @@
+package net.heimeng.sdk.btapi.client;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带统计功能的执行器包装类，记录排队任务数、活跃任务数和已完成任务数
+ * <p>
+ * 统计基于任务的提交和执行回调，因此对线程池、虚拟线程执行器和用户提供的任意执行器都适用。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class InstrumentedExecutor implements Executor {
+
+    private final String name;
+    private final Executor delegate;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+
+    InstrumentedExecutor(String name, Executor delegate) {
+        this.name = name;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 获取被包装的执行器
+     *
+     * @return 原始执行器
+     */
+    Executor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 获取当前的运行状态快照
+     *
+     * @return 执行器状态
+     */
+    ExecutorStats snapshot() {
+        return new ExecutorStats(name, queued.get(), active.get(), completed.sum());
+    }
+}
@@ -0,0 +1,153 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 表格的逐行迭代器，在消费当前页时通过客户端的异步接口在后台预取后续的页
+ * <p>
+ * 返回的记录数少于每页记录数的页被视为最后一页，之后不再发出请求，已预取的后续页被取消。
+ * 返回结果是{@link TableResult}且带有总行数时，预取不会超过由总行数计算出的最后一页；总行数恰好是每页记录数的整数倍时，
+ * 行数达到总行数即结束，不会多请求一个空页。
+ * 迭代器不是线程安全的；提前结束遍历时应调用{@link #close()}取消在途的预取请求。
+ * </p>
+ *
+ * @param <E> 表格行的类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public final class PageIterator<E> implements Iterator<E>, AutoCloseable {
+
+    private final BtClient client;
+
+    private final PagedApiFactory<E> factory;
+
+    private final PaginationOptions options;
+
+    private final Deque<CompletableFuture<? extends BtResult<? extends List<? extends E>>>> pending =
+            new ArrayDeque<>();
+
+    private Iterator<? extends E> current = Collections.emptyIterator();
+
+    private int nextPage = 1;
+
+    private int consumedPage;
+
+    private int pageCount = -1;
+
+    /**
+     * 最近一页报告的总行数，未知时为null
+     */
+    private Long total;
+
+    private long rowsSeen;
+
+    private boolean lastPageReached;
+
+    private boolean closed;
+
+    PageIterator(BtClient client, PagedApiFactory<E> factory, PaginationOptions options) {
+        this.client = client;
+        this.factory = factory;
+        this.options = options;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed || (lastPageReached && pending.isEmpty())) {
+                return false;
+            }
+            fill();
+            BtResult<? extends List<? extends E>> page = await(pending.pollFirst());
+            consumedPage++;
+            if (page instanceof TableResult && ((TableResult<?>) page).getTotal() != null) {
+                total = ((TableResult<?>) page).getTotal();
+                pageCount = ((TableResult<?>) page).getPageCount(options.getPageSize());
+            }
+            List<? extends E> rows = page.getData() == null ? Collections.emptyList() : page.getData();
+            rowsSeen += rows.size();
+            if (rows.size() < options.getPageSize()
+                    || (pageCount >= 0 && consumedPage >= pageCount && total != null && rowsSeen == total)) {
+                // 不满的页或恰好达到总行数的满页是最后一页，之后预取的页没有数据
+                lastPageReached = true;
+                cancelPending();
+            } else if (pageCount >= 0 && consumedPage >= pageCount) {
+                // 已到最后一页但行数超过总行数，说明遍历期间表格增长，改为按不满的页判断结束
+                pageCount = -1;
+            }
+            current = rows.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 结束遍历并取消在途的预取请求
+     */
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        cancelPending();
+    }
+
+    /**
+     * 保持在途的请求数为当前页加上预取深度
+     */
+    private void fill() {
+        while (!lastPageReached && pending.size() <= options.getPrefetch()
+                && (pageCount < 0 || nextPage <= pageCount)) {
+            BtApi<? extends BtResult<? extends List<? extends E>>> api =
+                    factory.create(nextPage++, options.getPageSize());
+            pending.addLast(client.executeAsync(api));
+        }
+    }
+
+    private BtResult<? extends List<? extends E>> await(CompletableFuture<? extends BtResult<? extends List<? extends E>>> future) {
+        BtResult<? extends List<? extends E>> result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new BtApiException("Pagination interrupted", e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof BtApiException) {
+                throw (BtApiException) e.getCause();
+            }
+            throw new BtApiException("Failed to fetch page", e.getCause());
+        }
+        if (result == null || !result.isSuccess()) {
+            close();
+            throw new BtApiException("Failed to fetch page: " + (result == null ? "empty result" : result.getMsg()));
+        }
+        return result;
+    }
+
+    private void cancelPending() {
+        CompletableFuture<?> future;
+        while ((future = pending.pollFirst()) != null) {
+            future.cancel(true);
+        }
+    }
+}
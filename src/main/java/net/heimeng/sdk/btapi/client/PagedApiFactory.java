@@ -0,0 +1,30 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.model.BtResult;
+
+import java.util.List;
+
+/**
+ * 分页API工厂，为表格类接口（getData）创建指定页的请求
+ * <p>
+ * 通常直接引用API的分页设置，例如{@code (page, limit) -> new GetWebsitesApi(page, limit)}或
+ * {@code (page, limit) -> new GetDatabasesApi().setPage(page).setLimit(limit)}。
+ * </p>
+ *
+ * @param <E> 表格行的类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface PagedApiFactory<E> {
+
+    /**
+     * 创建指定页的请求
+     *
+     * @param page 页码，从1开始
+     * @param limit 每页记录数
+     * @return API接口实例
+     */
+    BtApi<? extends BtResult<? extends List<? extends E>>> create(int page, int limit);
+}
@@ -0,0 +1,50 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 分页遍历选项，控制{@link Paginator}的每页记录数和预取深度
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class PaginationOptions {
+
+    /**
+     * 每页记录数，默认为100
+     */
+    @Builder.Default
+    private final int pageSize = 100;
+
+    /**
+     * 在消费当前页时后台预取的页数，默认为1；为0时只在当前页消费完后才请求下一页
+     * <p>
+     * 内存中最多同时保留当前页和预取的页，与表格的总行数无关。
+     * </p>
+     */
+    @Builder.Default
+    private final int prefetch = 1;
+
+    /**
+     * 获取默认的分页遍历选项
+     *
+     * @return 默认选项实例
+     */
+    public static PaginationOptions defaults() {
+        return PaginationOptions.builder().build();
+    }
+
+    /**
+     * 检查选项是否有效
+     *
+     * @return 如果选项有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return pageSize >= 1 && prefetch >= 0;
+    }
+}
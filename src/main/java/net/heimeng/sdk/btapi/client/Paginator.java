@@ -0,0 +1,73 @@
+package net.heimeng.sdk.btapi.client;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 表格类接口（getData）的自动分页遍历
+ * <p>
+ * 调用者不再需要自己循环页码：每次{@link #iterator()}或{@link #stream()}都从第1页开始，按行依次返回整张表格，
+ * 在消费当前页的同时后台预取后续的页，遇到最后一页时停止。内存中最多保留当前页和预取的页。
+ * </p>
+ * <pre>{@code
+ * Paginator<WebsiteInfo> sites = new Paginator<>(client, GetWebsitesApi::new, PaginationOptions.defaults());
+ * try (Stream<WebsiteInfo> stream = sites.stream()) {
+ *     stream.filter(site -> site.getStatus() == 1).forEach(System.out::println);
+ * }
+ * }</pre>
+ *
+ * @param <E> 表格行的类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class Paginator<E> implements Iterable<E> {
+
+    private final BtClient client;
+
+    private final PagedApiFactory<E> factory;
+
+    private final PaginationOptions options;
+
+    /**
+     * 构造函数，创建一个新的Paginator实例
+     *
+     * @param client 客户端实例
+     * @param factory 分页API工厂
+     * @param options 分页遍历选项
+     */
+    public Paginator(BtClient client, PagedApiFactory<E> factory, PaginationOptions options) {
+        this.client = Objects.requireNonNull(client, "Client must not be null");
+        this.factory = Objects.requireNonNull(factory, "API factory must not be null");
+        if (options == null || !options.isValid()) {
+            throw new IllegalArgumentException("Invalid pagination options: " + options);
+        }
+        this.options = options;
+    }
+
+    /**
+     * 从第1页开始遍历表格
+     *
+     * @return 逐行迭代器，提前结束时应关闭
+     */
+    @Override
+    public PageIterator<E> iterator() {
+        return new PageIterator<>(client, factory, options);
+    }
+
+    /**
+     * 以流的方式从第1页开始遍历表格
+     * <p>
+     * 关闭流时取消在途的预取请求，提前结束的流（如{@code limit}、{@code findFirst}）应在try-with-resources中使用。
+     * </p>
+     *
+     * @return 按表格顺序排列的行组成的流
+     */
+    public Stream<E> stream() {
+        PageIterator<E> iterator = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+    }
+}
@@ -0,0 +1,133 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.RateLimitConfig;
+import net.heimeng.sdk.btapi.exception.BtRateLimitException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
+/**
+ * 客户端限流器，为同一面板维护一个全局令牌桶和若干端点分组令牌桶
+ * <p>
+ * 请求先在锁内同时向全局桶和所属分组的桶预约令牌，得到需要等待的时间，然后在锁外等待：同步路径在调用线程上等待定时器，
+ * 异步路径通过定时器延迟发送，不占用线程。预约的等待时间超过{@link RateLimitConfig#getAcquireTimeout()}时不消耗令牌，
+ * 直接以{@link BtRateLimitException}失败。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class RateLimiter {
+
+    private final RateLimitConfig config;
+
+    private final String host;
+
+    private final DelayScheduler delayScheduler;
+
+    private final LongSupplier ticker;
+
+    private final TokenBucket global;
+
+    private final Map<String, TokenBucket> groups = new HashMap<>();
+
+    RateLimiter(RateLimitConfig config, String host, DelayScheduler delayScheduler) {
+        this(config, host, delayScheduler, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitConfig config, String host, DelayScheduler delayScheduler, LongSupplier ticker) {
+        this.config = config;
+        this.host = host;
+        this.delayScheduler = delayScheduler;
+        this.ticker = ticker;
+        long now = ticker.getAsLong();
+        this.global = new TokenBucket(config.getPermitsPerSecond(), config.getBurst(), now);
+        config.getGroups().forEach((name, group) ->
+                groups.put(name, new TokenBucket(group.getPermitsPerSecond(), group.getBurst(), now)));
+    }
+
+    /**
+     * 获取端点所属的分组，即路径的第一段，如{@code /files?action=GetDir}属于{@code files}
+     *
+     * @param endpoint API端点
+     * @return 分组名称
+     */
+    static String endpointGroup(String endpoint) {
+        if (endpoint == null) {
+            return "";
+        }
+        int start = endpoint.startsWith("/") ? 1 : 0;
+        int end = endpoint.length();
+        int query = endpoint.indexOf('?', start);
+        if (query >= 0) {
+            end = query;
+        }
+        int slash = endpoint.indexOf('/', start);
+        if (slash >= 0 && slash < end) {
+            end = slash;
+        }
+        return endpoint.substring(start, end);
+    }
+
+    /**
+     * 预约一个令牌
+     *
+     * @param endpoint API端点
+     * @return 发送请求前需要等待的纳秒数
+     * @throws BtRateLimitException 当等待时间超过获取超时时抛出
+     */
+    long reserve(String endpoint) {
+        String groupName = endpointGroup(endpoint);
+        TokenBucket group = groups.get(groupName);
+        long timeout = config.getAcquireTimeout().toNanos();
+
+        synchronized (this) {
+            long now = ticker.getAsLong();
+            long wait = global.waitNanos(now);
+            if (group != null) {
+                wait = Math.max(wait, group.waitNanos(now));
+            }
+            if (wait > timeout) {
+                throw new BtRateLimitException("Rate limit exceeded, no permit within "
+                        + config.getAcquireTimeout().toMillis() + " ms", host, group != null ? groupName : null);
+            }
+            wait = global.reserve(now);
+            if (group != null) {
+                wait = Math.max(wait, group.reserve(now));
+            }
+            return wait;
+        }
+    }
+
+    /**
+     * 在调用线程上等待直到获得令牌
+     *
+     * @param endpoint API端点
+     * @throws InterruptedException 当等待被中断时抛出
+     */
+    void acquire(String endpoint) throws InterruptedException {
+        long wait = reserve(endpoint);
+        if (wait > 0) {
+            delayScheduler.sleep(Duration.ofNanos(wait));
+        }
+    }
+
+    /**
+     * 异步获取令牌，等待期间不占用线程
+     *
+     * @param endpoint API端点
+     * @return 获得令牌时完成的CompletableFuture
+     */
+    CompletableFuture<Void> acquireAsync(String endpoint) {
+        long wait;
+        try {
+            wait = reserve(endpoint);
+        } catch (BtRateLimitException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return delayScheduler.delay(Duration.ofNanos(wait));
+    }
+}
@@ -0,0 +1,77 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.BtUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * 请求签名器，负责为每个请求生成宝塔面板所需的request_token
+ * <p>
+ * request_token = md5(request_time + md5(api_key))。其中内层哈希只与API密钥有关，在创建签名器时计算一次；
+ * 由于request_time以秒为单位，同一秒内的所有请求共享同一个令牌，因此签名器会缓存最近一秒的结果，
+ * 同一秒内的大量请求只需要计算一次MD5。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class RequestSigner {
+
+    /**
+     * API密钥MD5值的十六进制ASCII字节
+     */
+    private final byte[] keyHashHex;
+
+    /**
+     * 最近一秒的令牌缓存
+     */
+    private volatile CachedToken cached;
+
+    /**
+     * 构造函数，预先计算API密钥的内层哈希
+     *
+     * @param apiKey API密钥
+     */
+    RequestSigner(String apiKey) {
+        Objects.requireNonNull(apiKey, "API key cannot be null");
+        MessageDigest md = BtUtils.md5();
+        String innerHash = BtUtils.bytesToHex(md.digest(apiKey.getBytes(StandardCharsets.UTF_8)));
+        this.keyHashHex = innerHash.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 获取指定请求时间对应的request_token
+     *
+     * @param requestTime 请求时间（秒）
+     * @return request_token
+     */
+    String sign(long requestTime) {
+        CachedToken current = cached;
+        if (current != null && current.requestTime == requestTime) {
+            return current.token;
+        }
+
+        MessageDigest md = BtUtils.md5();
+        md.update(Long.toString(requestTime).getBytes(StandardCharsets.US_ASCII));
+        md.update(keyHashHex);
+        String token = BtUtils.bytesToHex(md.digest());
+
+        cached = new CachedToken(requestTime, token);
+        return token;
+    }
+
+    /**
+     * 缓存的令牌，request_time与token成对发布，保证读取时的一致性
+     */
+    private static final class CachedToken {
+        private final long requestTime;
+        private final String token;
+
+        CachedToken(long requestTime, String token) {
+            this.requestTime = requestTime;
+            this.token = token;
+        }
+    }
+}
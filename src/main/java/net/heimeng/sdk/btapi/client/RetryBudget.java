@@ -0,0 +1,111 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.RetryBudgetConfig;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 客户端级别的重试预算
+ * <p>
+ * 统计窗口被均分为若干个时间片，每个时间片记录首次请求数和重试次数，过期的时间片在下次访问时清零，
+ * 因此统计量总是覆盖最近一个窗口。每次重试前调用{@link #tryRetry()}，预算不足时返回false并计入被放弃的重试数。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class RetryBudget {
+
+    private static final int SLICES = 10;
+
+    private final RetryBudgetConfig config;
+
+    private final LongSupplier ticker;
+
+    private final long sliceNanos;
+
+    private final long[] requests = new long[SLICES];
+
+    private final long[] retries = new long[SLICES];
+
+    private long requestSum;
+
+    private long retrySum;
+
+    private long currentSlice;
+
+    private long deniedRetryCount;
+
+    RetryBudget(RetryBudgetConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    RetryBudget(RetryBudgetConfig config, LongSupplier ticker) {
+        this.config = config;
+        this.ticker = ticker;
+        this.sliceNanos = Math.max(1, config.getTtl().toNanos() / SLICES);
+        this.currentSlice = Math.floorDiv(ticker.getAsLong(), sliceNanos);
+    }
+
+    /**
+     * 记录一次首次请求
+     */
+    synchronized void recordRequest() {
+        int index = roll();
+        requests[index]++;
+        requestSum++;
+    }
+
+    /**
+     * 尝试从预算中扣除一次重试
+     *
+     * @return 预算充足时返回true，否则返回false
+     */
+    synchronized boolean tryRetry() {
+        int index = roll();
+        if (retrySum + 1 > allowance()) {
+            deniedRetryCount++;
+            return false;
+        }
+        retries[index]++;
+        retrySum++;
+        return true;
+    }
+
+    /**
+     * 获取当前的运行状态
+     *
+     * @return 状态快照
+     */
+    synchronized RetryBudgetStats snapshot() {
+        roll();
+        return new RetryBudgetStats(requestSum, retrySum,
+                Math.max(0, allowance() - retrySum), deniedRetryCount);
+    }
+
+    private long allowance() {
+        double reserve = config.getMinRetriesPerSecond() * (config.getTtl().toNanos() / 1_000_000_000d);
+        return (long) (reserve + requestSum * config.getRetryRatio());
+    }
+
+    /**
+     * 推进到当前时间片，清零已经过期的时间片
+     *
+     * @return 当前时间片的下标
+     */
+    private int roll() {
+        long slice = Math.floorDiv(ticker.getAsLong(), sliceNanos);
+        long expired = Math.min(slice - currentSlice, SLICES);
+        for (long i = 1; i <= expired; i++) {
+            int index = (int) Math.floorMod(currentSlice + i, SLICES);
+            requestSum -= requests[index];
+            retrySum -= retries[index];
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        if (slice > currentSlice) {
+            currentSlice = slice;
+        }
+        return (int) Math.floorMod(currentSlice, SLICES);
+    }
+}
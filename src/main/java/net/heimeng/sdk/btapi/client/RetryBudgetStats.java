@@ -0,0 +1,37 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 重试预算的运行状态快照
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RetryBudgetStats {
+
+    /**
+     * 统计窗口内的首次请求数
+     */
+    private final long requests;
+
+    /**
+     * 统计窗口内的重试次数
+     */
+    private final long retries;
+
+    /**
+     * 统计窗口内剩余可用的重试次数
+     */
+    private final long available;
+
+    /**
+     * 因超出预算而被放弃的重试总数
+     */
+    private final long deniedRetryCount;
+}
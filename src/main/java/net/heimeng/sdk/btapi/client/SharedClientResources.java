@@ -0,0 +1,80 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 多个客户端共享的资源，包括HttpClient及其连接池、执行器、定时器和拦截器
+ * <p>
+ * 共享资源由创建者（如{@link BtFleetClient}）负责关闭，使用这些资源的{@link DefaultBtClient}关闭时不会关闭它们。
+ * 连接、超时、SSL和执行器相关的配置取自创建时的配置，对所有使用者生效。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class SharedClientResources implements AutoCloseable {
+
+    private final HttpClient httpClient;
+
+    private final ClientExecutors executors;
+
+    private final DelayScheduler delayScheduler;
+
+    private final List<RequestInterceptor> interceptors = new ArrayList<>();
+
+    private volatile List<RequestInterceptor> interceptorSnapshot = Collections.emptyList();
+
+    SharedClientResources(BtSdkConfig config) {
+        this.executors = new ClientExecutors(config);
+        this.delayScheduler = new DelayScheduler("bt-fleet-timer");
+        this.httpClient = DefaultBtClient.buildHttpClient(config, executors.io());
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    ClientExecutors executors() {
+        return executors;
+    }
+
+    DelayScheduler delayScheduler() {
+        return delayScheduler;
+    }
+
+    /**
+     * 添加所有使用者共享的拦截器
+     * <p>
+     * 使用者可能连接不同的面板，拦截器需要按{@link net.heimeng.sdk.btapi.interceptor.RequestContext#getBaseUrl()}区分面板。
+     * </p>
+     *
+     * @param interceptor 拦截器实例
+     */
+    synchronized void addInterceptor(RequestInterceptor interceptor) {
+        interceptors.add(interceptor);
+        interceptors.sort(Comparator.comparingInt(RequestInterceptor::getPriority));
+        interceptorSnapshot = List.copyOf(interceptors);
+    }
+
+    /**
+     * 获取按优先级排序的共享拦截器，返回的列表不可修改
+     *
+     * @return 共享拦截器列表
+     */
+    List<RequestInterceptor> interceptors() {
+        return interceptorSnapshot;
+    }
+
+    @Override
+    public void close() {
+        delayScheduler.close();
+        executors.close();
+    }
+}
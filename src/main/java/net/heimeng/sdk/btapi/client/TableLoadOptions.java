@@ -0,0 +1,61 @@
+package net.heimeng.sdk.btapi.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 整表加载选项，控制{@link TableLoader}的每页记录数、并发度、单页超时和最大页数
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class TableLoadOptions {
+
+    /**
+     * 每页记录数，默认为100
+     */
+    @Builder.Default
+    private final int pageSize = 100;
+
+    /**
+     * 同时在途的最大页请求数，默认为8
+     */
+    @Builder.Default
+    private final int maxConcurrency = 8;
+
+    /**
+     * 单页请求的超时时间，为null时不限制
+     */
+    private final Duration pageTimeout;
+
+    /**
+     * 最多加载的页数，默认为10000；面板报告的总行数或实际的页数超过该值时加载失败，防止异常的总行数导致请求和内存失控
+     */
+    @Builder.Default
+    private final int maxPages = 10_000;
+
+    /**
+     * 获取默认的整表加载选项
+     *
+     * @return 默认选项实例
+     */
+    public static TableLoadOptions defaults() {
+        return TableLoadOptions.builder().build();
+    }
+
+    /**
+     * 检查选项是否有效
+     *
+     * @return 如果选项有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return pageSize >= 1 && maxConcurrency >= 1 && maxPages >= 1 &&
+               (pageTimeout == null || (!pageTimeout.isNegative() && !pageTimeout.isZero()));
+    }
+}
@@ -0,0 +1,265 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 表格类接口（getData）的整表并行加载
+ * <p>
+ * 先请求第1页，从返回的{@link TableResult}中得到总行数并计算总页数，然后以有限的并发度同时请求其余的页，
+ * 按页码顺序拼接为完整的表格。面板没有返回分页信息时退化为逐页顺序加载。
+ * 总行数恰好是每页记录数的整数倍时，最后一页是满页，此时以总行数判断结束，不会多请求一个空页；
+ * 只有已加载的行数与最近一次返回的总行数不一致（加载期间表格增长）时，才继续顺序请求后续的页，直到出现不满的页或行数达到总行数。
+ * </p>
+ * <pre>{@code
+ * List<WebsiteInfo> sites = new TableLoader<>(client, GetWebsitesApi::new, TableLoadOptions.defaults()).load();
+ * }</pre>
+ *
+ * @param <E> 表格行的类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class TableLoader<E> {
+
+    /**
+     * 结果列表的最大初始容量
+     */
+    private static final int MAX_INITIAL_CAPACITY = 4096;
+
+    private final BtClient client;
+
+    private final PagedApiFactory<E> factory;
+
+    private final TableLoadOptions options;
+
+    /**
+     * 构造函数，创建一个新的TableLoader实例
+     *
+     * @param client 客户端实例
+     * @param factory 分页API工厂
+     * @param options 整表加载选项
+     */
+    public TableLoader(BtClient client, PagedApiFactory<E> factory, TableLoadOptions options) {
+        this.client = Objects.requireNonNull(client, "Client must not be null");
+        this.factory = Objects.requireNonNull(factory, "API factory must not be null");
+        if (options == null || !options.isValid()) {
+            throw new IllegalArgumentException("Invalid table load options: " + options);
+        }
+        this.options = options;
+    }
+
+    /**
+     * 加载整张表格，并等待加载完成
+     *
+     * @return 按表格顺序排列的所有行
+     * @throws BtApiException 当任意一页加载失败或等待被中断时抛出
+     */
+    public List<E> load() {
+        CompletableFuture<List<E>> future = loadAsync();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BtApiException("Table load interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BtApiException) {
+                throw (BtApiException) e.getCause();
+            }
+            throw new BtApiException("Table load failed", e.getCause());
+        }
+    }
+
+    /**
+     * 异步加载整张表格
+     *
+     * @return 包含按表格顺序排列的所有行的CompletableFuture；任意一页失败时以该页的异常结束，其余在途的页被取消
+     */
+    public CompletableFuture<List<E>> loadAsync() {
+        CompletableFuture<List<E>> result = new CompletableFuture<>();
+        CompletableFuture<? extends BtResult<? extends List<? extends E>>> first = fetch(1);
+        result.whenComplete((ignored, throwable) -> first.cancel(true));
+        first.whenComplete((page, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+                return;
+            }
+            try {
+                List<? extends E> rows = rows(page);
+                Long total = totalOf(page);
+                int pageCount = page instanceof TableResult
+                        ? ((TableResult<?>) page).getPageCount(options.getPageSize()) : -1;
+                checkPageCount(pageCount, total);
+                // 总行数来自面板的分页文本，只作为参考，初始容量不超过上限，其余按实际收到的行增长
+                List<E> table = new ArrayList<>(pageCount > 0
+                        ? (int) Math.min((long) pageCount * options.getPageSize(), MAX_INITIAL_CAPACITY) : rows.size());
+                table.addAll(rows);
+                if (!hasMore(rows, table, total)) {
+                    result.complete(table);
+                } else if (pageCount > 1) {
+                    loadRemaining(table, pageCount, total, result);
+                } else {
+                    // 总页数未知，逐页顺序加载
+                    loadSequentially(table, 2, total, result);
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 以有限的并发度请求第2页到最后一页，按页码顺序拼接
+     */
+    private void loadRemaining(List<E> table, int pageCount, Long total, CompletableFuture<List<E>> result) {
+        List<BtApi<? extends BtResult<? extends List<? extends E>>>> apis = new ArrayList<>(pageCount - 1);
+        for (int page = 2; page <= pageCount; page++) {
+            apis.add(factory.create(page, options.getPageSize()));
+        }
+        CompletableFuture<BatchResult<BtResult<? extends List<? extends E>>>> batch =
+                client.executeAllAsync(apis, batchOptions(options.getMaxConcurrency()));
+        result.whenComplete((ignored, throwable) -> batch.cancel(true));
+        batch.whenComplete((pages, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+                return;
+            }
+            try {
+                List<? extends E> last = List.of();
+                Long latest = total;
+                for (BtResult<? extends List<? extends E>> page : pages.getResults()) {
+                    last = rows(page);
+                    table.addAll(last);
+                    latest = latestTotal(page, latest);
+                }
+                if (hasMore(last, table, latest)) {
+                    // 加载期间表格增长，继续请求后续的页
+                    loadSequentially(table, pageCount + 1, latest, result);
+                } else {
+                    result.complete(table);
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 从指定页开始逐页请求，直到出现不满的页或行数达到总行数
+     */
+    private void loadSequentially(List<E> table, int page, Long total, CompletableFuture<List<E>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        if (page > options.getMaxPages()) {
+            result.completeExceptionally(new BtApiException(
+                    "Table has more than " + options.getMaxPages() + " pages of " + options.getPageSize() + " rows"));
+            return;
+        }
+        CompletableFuture<? extends BtResult<? extends List<? extends E>>> future = fetch(page);
+        result.whenComplete((ignored, throwable) -> future.cancel(true));
+        future.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+                return;
+            }
+            try {
+                List<? extends E> rows = rows(value);
+                table.addAll(rows);
+                Long latest = latestTotal(value, total);
+                if (hasMore(rows, table, latest)) {
+                    loadSequentially(table, page + 1, latest, result);
+                } else {
+                    result.complete(table);
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 请求单页；设置了单页超时时作为只有一项的批量执行，与并行加载的页一样由客户端的延迟调度器计时
+     */
+    private CompletableFuture<? extends BtResult<? extends List<? extends E>>> fetch(int page) {
+        BtApi<? extends BtResult<? extends List<? extends E>>> api = factory.create(page, options.getPageSize());
+        if (options.getPageTimeout() == null) {
+            return client.executeAsync(api);
+        }
+        CompletableFuture<BatchResult<BtResult<? extends List<? extends E>>>> batch =
+                client.executeAllAsync(List.of(api), batchOptions(1));
+        CompletableFuture<BtResult<? extends List<? extends E>>> future =
+                batch.thenApply(result -> result.getResults().get(0));
+        // 取消返回的Future时取消批量中的请求
+        future.whenComplete((ignored, throwable) -> {
+            if (future.isCancelled()) {
+                batch.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private BatchOptions batchOptions(int maxConcurrency) {
+        return BatchOptions.builder()
+                .maxConcurrency(maxConcurrency)
+                .itemTimeout(options.getPageTimeout())
+                .failFast(true)
+                .build();
+    }
+
+    /**
+     * 判断最后加载的一页之后是否还有数据：不满的页是最后一页；满页时，已加载的行数等于总行数说明恰好加载完，
+     * 与总行数不一致或总行数未知时继续请求
+     */
+    private boolean hasMore(List<? extends E> lastRows, List<E> table, Long total) {
+        if (lastRows.size() < options.getPageSize()) {
+            return false;
+        }
+        return total == null || table.size() != total;
+    }
+
+    /**
+     * 检查由总行数计算出的页数，超过最大页数时视为面板返回的总行数不可信
+     */
+    private void checkPageCount(int pageCount, Long total) {
+        if (pageCount > options.getMaxPages()) {
+            throw new BtApiException("Reported table total " + total + " exceeds " + options.getMaxPages()
+                    + " pages of " + options.getPageSize() + " rows");
+        }
+    }
+
+    private static Long totalOf(BtResult<?> page) {
+        return page instanceof TableResult ? ((TableResult<?>) page).getTotal() : null;
+    }
+
+    /**
+     * 返回该页报告的总行数，没有报告时沿用之前的总行数
+     */
+    private static Long latestTotal(BtResult<?> page, Long previous) {
+        Long total = totalOf(page);
+        return total != null ? total : previous;
+    }
+
+    private List<? extends E> rows(BtResult<? extends List<? extends E>> page) {
+        if (page == null || !page.isSuccess()) {
+            throw new BtApiException("Failed to fetch page: " + (page == null ? "empty result" : page.getMsg()));
+        }
+        return page.getData() == null ? List.of() : page.getData();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof BtApiException ? cause : new BtApiException("Failed to fetch page", cause);
+    }
+}
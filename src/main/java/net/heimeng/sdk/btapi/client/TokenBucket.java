@@ -0,0 +1,70 @@
+package net.heimeng.sdk.btapi.client;
+
+/**
+ * 预约式令牌桶
+ * <p>
+ * 令牌按固定速率补充，最多积累{@code burst}个。获取令牌时如果桶中没有令牌，会预约下一个令牌的产生时间并返回需要等待的时长，
+ * 调用方等待结束后直接发送请求，不需要再次竞争。该类不是线程安全的，由{@link RateLimiter}在锁内调用。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+final class TokenBucket {
+
+    private final double intervalNanos;
+
+    private final double maxPermits;
+
+    private double storedPermits;
+
+    /**
+     * 已预约的令牌全部产生的时间点，此后令牌才开始在桶中积累
+     */
+    private long nextFreeNanos;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.intervalNanos = 1_000_000_000d / permitsPerSecond;
+        this.maxPermits = burst;
+        this.storedPermits = burst;
+        this.nextFreeNanos = nowNanos;
+    }
+
+    /**
+     * 计算获取一个令牌需要等待的时间，不修改已预约的状态
+     *
+     * @param nowNanos 当前时间
+     * @return 需要等待的纳秒数
+     */
+    long waitNanos(long nowNanos) {
+        resync(nowNanos);
+        if (storedPermits >= 1) {
+            return 0;
+        }
+        return (nextFreeNanos - nowNanos) + (long) ((1 - storedPermits) * intervalNanos);
+    }
+
+    /**
+     * 获取一个令牌，桶中没有令牌时预约下一个令牌
+     *
+     * @param nowNanos 当前时间
+     * @return 需要等待的纳秒数
+     */
+    long reserve(long nowNanos) {
+        long wait = waitNanos(nowNanos);
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+        } else {
+            nextFreeNanos += (long) ((1 - storedPermits) * intervalNanos);
+            storedPermits = 0;
+        }
+        return wait;
+    }
+
+    private void resync(long nowNanos) {
+        if (nowNanos - nextFreeNanos > 0) {
+            storedPermits = Math.min(maxPermits, storedPermits + (nowNanos - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = nowNanos;
+        }
+    }
+}
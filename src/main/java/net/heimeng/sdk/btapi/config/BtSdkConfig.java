@@ -7,6 +7,7 @@ import lombok.ToString;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,7 +19,7 @@ import java.util.concurrent.TimeUnit;
  * @author InwardFlow
  * @since 2.0.0
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @ToString
 public class BtSdkConfig {
@@ -75,12 +76,67 @@ public class BtSdkConfig {
     @Builder.Default
     private final Duration retryInterval = Duration.ofSeconds(1);
     
+    /**
+     * 重试策略，为null时根据retryCount和retryInterval使用固定间隔重试
+     */
+    private final RetryPolicy retryPolicy;
+    
+    /**
+     * 客户端级别的重试预算，为null时不限制重试总量
+     */
+    private final RetryBudgetConfig retryBudget;
+    
     /**
      * 可重试的HTTP状态码，默认包括408、429、500、502、503、504
      */
     @Builder.Default
     private final int[] retryableStatusCodes = {408, 429, 500, 502, 503, 504};
     
+    /**
+     * POST、PUT、PATCH请求的参数编码方式，默认为QUERY_AND_BODY（兼容旧版本）
+     */
+    @Builder.Default
+    private final ParamEncoding paramEncoding = ParamEncoding.QUERY_AND_BODY;
+    
+    /**
+     * 执行模式，默认为PLATFORM_THREADS；选择VIRTUAL_THREADS时在支持的运行时上使用虚拟线程
+     */
+    @Builder.Default
+    private final ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+    
+    /**
+     * HTTP I/O执行器（供HttpClient使用），为null时由客户端创建，大小由ioThreads决定
+     */
+    private final Executor ioExecutor;
+    
+    /**
+     * 响应解析执行器，为null时由客户端创建，大小由parseThreads决定
+     */
+    private final Executor parseExecutor;
+    
+    /**
+     * 完成回调执行器，异步调用返回的CompletableFuture在其上完成，为null时由客户端创建，大小由callbackThreads决定
+     */
+    private final Executor callbackExecutor;
+    
+    /**
+     * 客户端自建I/O线程池的大小，0表示使用CPU核数
+     */
+    @Builder.Default
+    private final int ioThreads = 0;
+    
+    /**
+     * 客户端自建解析线程池的大小，0表示使用CPU核数
+     */
+    @Builder.Default
+    private final int parseThreads = 0;
+    
+    /**
+     * 客户端自建回调线程池的大小，0表示使用CPU核数
+     */
+    @Builder.Default
+    private final int callbackThreads = 0;
+    
     /**
      * 额外的HTTP头，默认为空Map
      */
@@ -105,9 +161,56 @@ public class BtSdkConfig {
     @Builder.Default
     private final boolean verifySsl = false;
     
+    /**
+     * 是否合并相同的在途只读请求，默认为false
+     * <p>
+     * 开启后，多个线程同时发起端点和业务参数都相同的只读请求时只发送一次HTTP请求，并共享同一个解析结果。
+     * </p>
+     */
+    @Builder.Default
+    private final boolean coalesceReadOnlyRequests = false;
+    
+    /**
+     * 客户端限流配置，为null时不限流
+     */
+    private final RateLimitConfig rateLimit;
+    
+    /**
+     * 自适应并发限制配置，为null时不限制在途请求数
+     */
+    private final ConcurrencyLimitConfig concurrencyLimit;
+    
+    /**
+     * 熔断器配置，为null时不启用熔断
+     */
+    private final CircuitBreakerConfig circuitBreaker;
+    
+    /**
+     * 只读API的对冲请求配置，为null时不对冲
+     */
+    private final HedgingConfig hedging;
+    
     // V2版本SDK不需要自定义Builder类，Lombok会自动生成
     // 直接使用builder().retryCount(3)即可设置重试次数
     
+    /**
+     * 获取实际生效的重试策略
+     * <p>
+     * 未启用重试时返回不重试的策略；未配置retryPolicy时根据retryCount和retryInterval生成固定间隔策略。
+     * </p>
+     * 
+     * @return 重试策略实例
+     */
+    public RetryPolicy resolveRetryPolicy() {
+        if (!enableRetry) {
+            return RetryPolicy.none();
+        }
+        if (retryPolicy != null) {
+            return retryPolicy;
+        }
+        return RetryPolicy.fixed(retryCount, retryInterval);
+    }
+    
     /**
      * 检查配置是否有效
      * 
@@ -118,6 +221,15 @@ public class BtSdkConfig {
                apiKey != null && !apiKey.isEmpty() &&
                connectTimeout > 0 &&
                readTimeout > 0 &&
-               retryCount >= 0;
+               retryCount >= 0 &&
+               paramEncoding != null &&
+               executionMode != null &&
+               ioThreads >= 0 && parseThreads >= 0 && callbackThreads >= 0 &&
+               (retryPolicy == null || retryPolicy.isValid()) &&
+               (retryBudget == null || retryBudget.isValid()) &&
+               (rateLimit == null || rateLimit.isValid()) &&
+               (concurrencyLimit == null || concurrencyLimit.isValid()) &&
+               (circuitBreaker == null || circuitBreaker.isValid()) &&
+               (hedging == null || hedging.isValid());
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 熔断器配置类，面板不可用时让请求立即失败，而不是逐个等待连接超时和重试
+ * <p>
+ * 熔断器统计最近{@link #slidingWindowSize}次HTTP尝试，样本数达到{@link #minimumNumberOfCalls}后，
+ * 失败率（网络异常、超时或5xx状态码）达到{@link #failureRateThreshold}或慢调用率达到{@link #slowCallRateThreshold}
+ * 时进入打开状态。打开状态下请求立即以{@code BtCircuitOpenException}失败；经过{@link #waitDurationInOpenState}后进入
+ * 半开状态，放行{@link #permittedCallsInHalfOpenState}个试探请求，全部成功则关闭，任意一个失败或过慢则重新打开。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class CircuitBreakerConfig {
+
+    /**
+     * 触发熔断的失败率，取值范围(0, 1]，默认为0.5
+     */
+    @Builder.Default
+    private final double failureRateThreshold = 0.5;
+
+    /**
+     * 触发熔断的慢调用率，取值范围(0, 1]，默认为1.0（只有全部调用都过慢时才熔断）
+     */
+    @Builder.Default
+    private final double slowCallRateThreshold = 1.0;
+
+    /**
+     * 超过该时长的调用视为慢调用，默认为10秒
+     */
+    @Builder.Default
+    private final Duration slowCallDuration = Duration.ofSeconds(10);
+
+    /**
+     * 统计窗口包含的最近调用数，默认为50
+     */
+    @Builder.Default
+    private final int slidingWindowSize = 50;
+
+    /**
+     * 计算失败率所需的最少调用数，默认为10
+     */
+    @Builder.Default
+    private final int minimumNumberOfCalls = 10;
+
+    /**
+     * 打开状态持续的时间，之后进入半开状态，默认为30秒
+     */
+    @Builder.Default
+    private final Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    /**
+     * 半开状态下放行的试探请求数，默认为3
+     */
+    @Builder.Default
+    private final int permittedCallsInHalfOpenState = 3;
+
+    /**
+     * 检查配置是否有效
+     *
+     * @return 如果配置有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return failureRateThreshold > 0 && failureRateThreshold <= 1 &&
+               slowCallRateThreshold > 0 && slowCallRateThreshold <= 1 &&
+               slowCallDuration != null && !slowCallDuration.isNegative() &&
+               slidingWindowSize >= 1 &&
+               minimumNumberOfCalls >= 1 && minimumNumberOfCalls <= slidingWindowSize &&
+               waitDurationInOpenState != null && !waitDurationInOpenState.isNegative() &&
+               permittedCallsInHalfOpenState >= 1;
+    }
+}
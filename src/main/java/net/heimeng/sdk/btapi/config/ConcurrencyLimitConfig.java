@@ -0,0 +1,84 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 自适应并发限制配置类，根据观察到的往返延迟和错误动态调整同一面板的在途请求上限
+ * <p>
+ * 采用AIMD（加性增、乘性减）算法：请求成功且延迟不超过基线延迟的{@link #latencyTolerance}倍时，如果在途请求已接近上限，
+ * 上限加1；请求失败（网络异常、超时或可重试的状态码）或延迟超过容忍倍数时，上限乘以{@link #backoffRatio}。
+ * 基线延迟跟随最小延迟快速下降、缓慢上升，因此同一套配置可以适配规模差异很大的面板。
+ * </p>
+ * <p>
+ * 超过上限的请求进入等待队列，同步调用在调用线程上等待，异步调用不占用线程；队列已满或等待超过{@link #queueTimeout}时
+ * 以{@code BtConcurrencyLimitException}失败。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 初始并发上限，默认为20
+     */
+    @Builder.Default
+    private final int initialLimit = 20;
+
+    /**
+     * 并发上限的下限，默认为1
+     */
+    @Builder.Default
+    private final int minLimit = 1;
+
+    /**
+     * 并发上限的上限，默认为200
+     */
+    @Builder.Default
+    private final int maxLimit = 200;
+
+    /**
+     * 出现失败或延迟过高时上限的缩减比例，默认为0.9
+     */
+    @Builder.Default
+    private final double backoffRatio = 0.9;
+
+    /**
+     * 延迟超过基线延迟的该倍数时视为过载，默认为2.0
+     */
+    @Builder.Default
+    private final double latencyTolerance = 2.0;
+
+    /**
+     * 等待队列的最大长度，默认为100；为0时超过上限的请求立即失败
+     */
+    @Builder.Default
+    private final int maxQueueSize = 100;
+
+    /**
+     * 在队列中等待的最长时间，默认为30秒
+     */
+    @Builder.Default
+    private final Duration queueTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 检查配置是否有效
+     *
+     * @return 如果配置有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return minLimit >= 1 && maxLimit >= minLimit &&
+               initialLimit >= minLimit && initialLimit <= maxLimit &&
+               backoffRatio > 0 && backoffRatio < 1 &&
+               latencyTolerance >= 1 &&
+               maxQueueSize >= 0 &&
+               queueTimeout != null && !queueTimeout.isNegative();
+    }
+}
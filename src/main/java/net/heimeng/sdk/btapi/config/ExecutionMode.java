@@ -0,0 +1,23 @@
+package net.heimeng.sdk.btapi.config;
+
+/**
+ * 客户端执行模式枚举，决定客户端内部任务运行在哪种线程上
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * 使用大小为CPU核数的平台线程池（默认）
+     */
+    PLATFORM_THREADS,
+
+    /**
+     * 使用虚拟线程，每个任务一个虚拟线程
+     * <p>
+     * 需要Java 21及以上版本；运行时不支持虚拟线程时自动回退为平台线程池。
+     * </p>
+     */
+    VIRTUAL_THREADS
+}
@@ -0,0 +1,82 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import net.heimeng.sdk.btapi.api.BtApi;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 对冲请求配置类，用于降低只读API的尾延迟
+ * <p>
+ * 只读API（{@link BtApi#isReadOnly()}为true）的请求在{@link #percentile}分位延迟内没有完成时，再发送一个相同的请求，
+ * 取先完成的响应并取消另一个。分位延迟按API类型分别统计最近{@link #sampleSize}次请求，样本不足{@link #minSamples}个时
+ * 使用{@link #initialDelay}。对冲请求数不超过请求总数的{@link #maxHedgeRate}，避免面板整体变慢时流量翻倍。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class HedgingConfig {
+
+    /**
+     * 触发对冲的延迟分位数，取值范围(0, 1)，默认为0.95
+     */
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    /**
+     * 样本不足时使用的对冲延迟，默认为1秒
+     */
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofSeconds(1);
+
+    /**
+     * 对冲延迟的下限，默认为10毫秒
+     */
+    @Builder.Default
+    private final Duration minDelay = Duration.ofMillis(10);
+
+    /**
+     * 每种API保留的最近延迟样本数，默认为100
+     */
+    @Builder.Default
+    private final int sampleSize = 100;
+
+    /**
+     * 开始使用分位延迟所需的最少样本数，默认为20
+     */
+    @Builder.Default
+    private final int minSamples = 20;
+
+    /**
+     * 对冲请求数占请求总数的最大比例，默认为0.1
+     */
+    @Builder.Default
+    private final double maxHedgeRate = 0.1;
+
+    /**
+     * 启用对冲的API类型，为空时对所有只读API启用
+     */
+    @Singular("api")
+    private final Set<Class<? extends BtApi<?>>> apis;
+
+    /**
+     * 检查配置是否有效
+     *
+     * @return 如果配置有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return percentile > 0 && percentile < 1 &&
+               initialDelay != null && !initialDelay.isNegative() &&
+               minDelay != null && !minDelay.isNegative() &&
+               sampleSize >= 1 && minSamples >= 1 && minSamples <= sampleSize &&
+               maxHedgeRate > 0 && maxHedgeRate <= 1;
+    }
+}
@@ -0,0 +1,28 @@
+package net.heimeng.sdk.btapi.config;
+
+/**
+ * 请求参数编码方式枚举，决定POST、PUT、PATCH请求的参数放在查询字符串还是请求体中
+ * <p>
+ * GET和DELETE请求没有请求体，无论选择哪种方式，参数都会放在查询字符串中。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public enum ParamEncoding {
+
+    /**
+     * 所有参数同时放在查询字符串和表单请求体中（兼容旧版本的行为）
+     */
+    QUERY_AND_BODY,
+
+    /**
+     * 所有参数只放在application/x-www-form-urlencoded请求体中
+     */
+    FORM_BODY,
+
+    /**
+     * 认证参数（request_token、request_time）放在查询字符串中，其余参数只放在表单请求体中
+     */
+    FORM_BODY_AUTH_QUERY
+}
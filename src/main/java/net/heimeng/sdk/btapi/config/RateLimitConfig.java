@@ -0,0 +1,80 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 客户端限流配置类，基于令牌桶限制发往同一面板的请求速率
+ * <p>
+ * 令牌以{@link #permitsPerSecond}的速率补充，桶中最多保存{@link #burst}个令牌，空闲后允许短时间的突发请求。
+ * 每次HTTP尝试（包括重试）都需要获得一个令牌。还可以按端点分组（端点路径的第一段，如{@code files}、{@code data}、
+ * {@code site}）单独限流，此时请求需要同时满足全局和分组的限制。
+ * </p>
+ * <p>
+ * 同步调用在调用线程上等待令牌，超过{@link #acquireTimeout}时抛出{@code BtRateLimitException}；
+ * 异步调用通过定时器延迟发送，等待期间不占用线程，超过等待时限同样以该异常失败。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class RateLimitConfig {
+
+    /**
+     * 每秒补充的令牌数，默认为10
+     */
+    @Builder.Default
+    private final double permitsPerSecond = 10;
+
+    /**
+     * 令牌桶容量，即允许的最大突发请求数，默认为10
+     */
+    @Builder.Default
+    private final int burst = 10;
+
+    /**
+     * 等待令牌的最长时间，默认为30秒；为0时拿不到令牌立即失败
+     */
+    @Builder.Default
+    private final Duration acquireTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 按端点分组单独配置的限流，只使用其中的permitsPerSecond和burst
+     */
+    @Singular
+    private final Map<String, RateLimitConfig> groups;
+
+    /**
+     * 创建指定速率和突发容量的限流配置，常用于配置端点分组
+     *
+     * @param permitsPerSecond 每秒补充的令牌数
+     * @param burst 令牌桶容量
+     * @return 限流配置实例
+     */
+    public static RateLimitConfig of(double permitsPerSecond, int burst) {
+        return RateLimitConfig.builder()
+                .permitsPerSecond(permitsPerSecond)
+                .burst(burst)
+                .build();
+    }
+
+    /**
+     * 检查配置是否有效
+     *
+     * @return 如果配置有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return permitsPerSecond > 0 && burst >= 1 &&
+               acquireTimeout != null && !acquireTimeout.isNegative() &&
+               groups.values().stream().allMatch(group -> group != null && group.getPermitsPerSecond() > 0
+                       && group.getBurst() >= 1);
+    }
+}
@@ -0,0 +1,52 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 重试预算配置类，限制整个客户端的重试量，防止故障期间重试放大流量
+ * <p>
+ * 在最近{@link #ttl}时间内，重试次数不能超过首次请求数的{@link #retryRatio}倍，另外每秒额外允许
+ * {@link #minRetriesPerSecond}次重试，保证低流量时仍然可以重试。超出预算的重试被放弃，请求直接以最后一次的结果失败。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class RetryBudgetConfig {
+
+    /**
+     * 统计窗口，默认为10秒
+     */
+    @Builder.Default
+    private final Duration ttl = Duration.ofSeconds(10);
+
+    /**
+     * 重试次数相对首次请求数的比例，默认为0.2
+     */
+    @Builder.Default
+    private final double retryRatio = 0.2;
+
+    /**
+     * 每秒额外允许的重试次数，默认为10
+     */
+    @Builder.Default
+    private final int minRetriesPerSecond = 10;
+
+    /**
+     * 检查配置是否有效
+     *
+     * @return 如果配置有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return ttl != null && ttl.toMillis() >= 1 &&
+               retryRatio >= 0 &&
+               minRetriesPerSecond >= 0;
+    }
+}
@@ -0,0 +1,146 @@
+package net.heimeng.sdk.btapi.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 重试策略配置类，描述失败请求的重试次数和重试间隔的计算方式
+ * <p>
+ * 支持指数退避、全抖动（Full Jitter）、最大累计耗时限制，以及在429/503响应中遵循服务端返回的
+ * {@code Retry-After}。重试等待由客户端的定时器调度，不会占用工作线程。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Builder
+@Getter
+@ToString
+public class RetryPolicy {
+
+    /**
+     * 最大重试次数（不含首次请求），默认为3次
+     */
+    @Builder.Default
+    private final int maxRetries = 3;
+
+    /**
+     * 首次重试的基础间隔，默认为200毫秒
+     */
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(200);
+
+    /**
+     * 单次重试间隔的上限，默认为10秒
+     */
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(10);
+
+    /**
+     * 指数退避的倍数，默认为2
+     */
+    @Builder.Default
+    private final double multiplier = 2.0;
+
+    /**
+     * 是否启用全抖动，启用后实际间隔在0到退避间隔之间随机取值，默认为true
+     */
+    @Builder.Default
+    private final boolean jitter = true;
+
+    /**
+     * 从首次请求开始允许的最大累计耗时，为null时不限制
+     */
+    private final Duration maxElapsedTime;
+
+    /**
+     * 是否遵循429/503响应中的Retry-After头，默认为true
+     */
+    @Builder.Default
+    private final boolean respectRetryAfter = true;
+
+    /**
+     * Retry-After允许的最大等待时间，超过该值时按该值等待，默认为60秒
+     */
+    @Builder.Default
+    private final Duration maxRetryAfter = Duration.ofSeconds(60);
+
+    /**
+     * 创建固定间隔、不带抖动的重试策略
+     *
+     * @param maxRetries 最大重试次数
+     * @param interval 重试间隔
+     * @return 重试策略实例
+     */
+    public static RetryPolicy fixed(int maxRetries, Duration interval) {
+        return RetryPolicy.builder()
+                .maxRetries(maxRetries)
+                .initialDelay(interval)
+                .maxDelay(interval)
+                .multiplier(1.0)
+                .jitter(false)
+                .build();
+    }
+
+    /**
+     * 创建不进行任何重试的策略
+     *
+     * @return 重试策略实例
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.builder().maxRetries(0).build();
+    }
+
+    /**
+     * 计算下一次重试前的等待时间
+     *
+     * @param attempt 已完成的尝试次数减一，即首次请求失败后为0
+     * @param elapsed 从首次请求开始已经过的时间
+     * @param retryAfter 服务端通过Retry-After要求的等待时间，没有时为null
+     * @return 下一次重试前的等待时间；如果不应继续重试则返回null
+     */
+    public Duration nextDelay(int attempt, Duration elapsed, Duration retryAfter) {
+        if (attempt >= maxRetries) {
+            return null;
+        }
+
+        Duration delay;
+        if (retryAfter != null && respectRetryAfter) {
+            delay = retryAfter.compareTo(maxRetryAfter) > 0 ? maxRetryAfter : retryAfter;
+        } else {
+            delay = backoff(attempt);
+        }
+
+        if (maxElapsedTime != null && elapsed.plus(delay).compareTo(maxElapsedTime) > 0) {
+            return null;
+        }
+        return delay;
+    }
+
+    /**
+     * 计算指数退避间隔，启用抖动时在[0, 退避间隔]内随机取值
+     */
+    private Duration backoff(int attempt) {
+        double base = initialDelay.toMillis() * Math.pow(multiplier, attempt);
+        long capped = (long) Math.min(base, maxDelay.toMillis());
+        if (!jitter || capped <= 0) {
+            return Duration.ofMillis(capped);
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capped + 1));
+    }
+
+    /**
+     * 检查策略是否有效
+     *
+     * @return 如果策略有效则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return maxRetries >= 0 &&
+               initialDelay != null && !initialDelay.isNegative() &&
+               maxDelay != null && !maxDelay.isNegative() &&
+               multiplier >= 1.0;
+    }
+}
@@ -0,0 +1,42 @@
+package net.heimeng.sdk.btapi.exception;
+
+import java.time.Duration;
+
+/**
+ * 熔断异常类，用于表示面板的熔断器处于打开状态，请求未发送即失败
+ * <p>
+ * 该异常类继承自BtNetworkException。熔断器在最近的请求大量失败或过慢时打开，经过等待时间后才会放行试探请求，
+ * 调用方可以根据{@link #getRetryAfter()}决定何时再次调用。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class BtCircuitOpenException extends BtNetworkException {
+
+    /**
+     * 距离熔断器放行试探请求的剩余时间
+     */
+    private final Duration retryAfter;
+
+    /**
+     * 构造函数，创建一个新的BtCircuitOpenException实例
+     *
+     * @param message 错误消息
+     * @param host 目标主机
+     * @param retryAfter 距离熔断器放行试探请求的剩余时间
+     */
+    public BtCircuitOpenException(String message, String host, Duration retryAfter) {
+        super(message, host, null);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 获取距离熔断器放行试探请求的剩余时间
+     *
+     * @return 剩余时间，半开状态下试探请求已满时为0
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
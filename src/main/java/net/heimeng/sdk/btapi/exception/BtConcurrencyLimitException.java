@@ -0,0 +1,23 @@
+package net.heimeng.sdk.btapi.exception;
+
+/**
+ * 并发限制异常类，用于表示在途请求已达到自适应并发上限，且请求无法进入等待队列或等待超时
+ * <p>
+ * 该异常类继承自BtNetworkException，请求没有发送到面板，通常说明面板已经过载，调用方应当降低并发或稍后重试。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class BtConcurrencyLimitException extends BtNetworkException {
+
+    /**
+     * 构造函数，创建一个新的BtConcurrencyLimitException实例
+     *
+     * @param message 错误消息
+     * @param host 目标主机
+     */
+    public BtConcurrencyLimitException(String message, String host) {
+        super(message, host, null);
+    }
+}
@@ -0,0 +1,39 @@
+package net.heimeng.sdk.btapi.exception;
+
+/**
+ * 限流异常类，用于表示客户端限流器在等待时限内没有获得请求许可
+ * <p>
+ * 该异常类继承自BtNetworkException，请求没有发送到面板，调用方可以稍后重试或降低调用频率。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class BtRateLimitException extends BtNetworkException {
+
+    /**
+     * 被限流的端点分组，只受全局限流时为null
+     */
+    private final String group;
+
+    /**
+     * 构造函数，创建一个新的BtRateLimitException实例
+     *
+     * @param message 错误消息
+     * @param host 目标主机
+     * @param group 被限流的端点分组
+     */
+    public BtRateLimitException(String message, String host, String group) {
+        super(message, host, null);
+        this.group = group;
+    }
+
+    /**
+     * 获取被限流的端点分组
+     *
+     * @return 端点分组，只受全局限流时返回null
+     */
+    public String getGroup() {
+        return group;
+    }
+}
@@ -6,8 +6,13 @@ import net.heimeng.sdk.btapi.api.BtApi;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * 请求上下文类，包含请求和响应的相关信息
@@ -25,7 +30,17 @@ public class RequestContext {
      */
     @Getter
     private final BtApi<?> api;
-    
+
+    /**
+     * 发起请求的客户端所连接的面板地址
+     * <p>
+     * 由客户端在执行拦截器链之前设置，用于区分不同面板上的相同请求。
+     * </p>
+     */
+    @Getter
+    @Setter
+    private String baseUrl;
+
     /**
      * 请求参数
      */
@@ -52,6 +67,16 @@ public class RequestContext {
     @Setter
     private String responseBody;
     
+    /**
+     * 是否保留原始响应体
+     * <p>
+     * 对于以流的方式解析响应的API，只有该标志为true时客户端才会把原始响应体写入{@link #getResponseBody()}。
+     * </p>
+     */
+    @Getter
+    @Setter
+    private boolean retainResponseBody = false;
+    
     /**
      * API返回结果
      */
@@ -70,8 +95,12 @@ public class RequestContext {
      * 是否已被取消
      */
     @Getter
-    @Setter
-    private boolean canceled;
+    private volatile boolean canceled;
+    
+    /**
+     * 取消时需要执行的回调，如中止进行中的HTTP交换或等待中的重试
+     */
+    private final List<Runnable> cancelListeners = new CopyOnWriteArrayList<>();
     
     /**
      * 是否强制重试
@@ -185,6 +214,48 @@ public class RequestContext {
         return this;
     }
     
+    /**
+     * 设置取消标志
+     * <p>
+     * 设置为true时会立即执行已注册的取消回调，中止进行中的HTTP交换、排队中的许可和等待中的重试，
+     * 而不只是在下一个拦截器之前生效。
+     * </p>
+     *
+     * @param canceled 是否取消
+     */
+    public void setCanceled(boolean canceled) {
+        this.canceled = canceled;
+        if (canceled) {
+            for (Runnable listener : cancelListeners) {
+                if (cancelListeners.remove(listener)) {
+                    listener.run();
+                }
+            }
+        }
+    }
+    
+    /**
+     * 注册取消回调，请求已被取消时立即执行
+     *
+     * @param listener 取消回调
+     */
+    public void addCancelListener(Runnable listener) {
+        cancelListeners.add(listener);
+        // 与setCanceled并发时，两边都可能看到对方，remove保证回调只执行一次
+        if (canceled && cancelListeners.remove(listener)) {
+            listener.run();
+        }
+    }
+    
+    /**
+     * 移除取消回调，用于已经结束的操作
+     *
+     * @param listener 取消回调
+     */
+    public void removeCancelListener(Runnable listener) {
+        cancelListeners.remove(listener);
+    }
+    
     /**
      * 检查是否有异常
      * 
@@ -223,4 +294,61 @@ public class RequestContext {
          */
         RequestContext proceed() throws Exception;
     }
+
+    /**
+     * 异步拦截器链接口，用于在不阻塞线程的情况下继续请求流程
+     */
+    public interface AsyncChain {
+
+        /**
+         * 获取当前请求上下文
+         *
+         * @return 请求上下文实例
+         */
+        RequestContext getContext();
+
+        /**
+         * 异步继续请求流程，调用下一个拦截器或发起实际的异步请求
+         *
+         * @return 在请求流程结束时完成的CompletableFuture
+         */
+        CompletableFuture<RequestContext> proceedAsync();
+
+        /**
+         * 获取用于执行同步拦截逻辑的执行器
+         *
+         * @return 执行器实例
+         */
+        Executor getExecutor();
+
+        /**
+         * 将异步拦截器链适配为同步拦截器链
+         * <p>
+         * 适配后的{@link Chain#proceed()}会等待异步流程结束，因此会占用调用线程直到请求完成。
+         * </p>
+         *
+         * @return 同步拦截器链
+         */
+        default Chain asBlocking() {
+            AsyncChain asyncChain = this;
+            return new Chain() {
+                @Override
+                public RequestContext getContext() {
+                    return asyncChain.getContext();
+                }
+
+                @Override
+                public RequestContext proceed() throws Exception {
+                    try {
+                        return asyncChain.proceedAsync().join();
+                    } catch (CompletionException e) {
+                        if (e.getCause() instanceof Exception) {
+                            throw (Exception) e.getCause();
+                        }
+                        throw e;
+                    }
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
@@ -1,12 +1,21 @@
 package net.heimeng.sdk.btapi.interceptor;
 
+import net.heimeng.sdk.btapi.interceptor.RequestContext.AsyncChain;
 import net.heimeng.sdk.btapi.interceptor.RequestContext.Chain;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * 请求拦截器接口，用于在发送请求前或接收响应后执行自定义逻辑
  * <p>
  * 拦截器可以用于日志记录、请求修改、响应处理、重试逻辑等。
  * </p>
+ * <p>
+ * 异步调用会通过{@link #interceptAsync(RequestContext, AsyncChain)}进入拦截器。默认实现会在执行器线程上
+ * 以同步方式执行{@link #intercept(RequestContext, Chain)}，该线程会一直被占用到请求结束；
+ * 需要完全非阻塞的拦截器应当覆盖该方法。
+ * </p>
  *
  * @author InwardFlow
  * @since 2.0.0
@@ -22,6 +31,24 @@ public interface RequestInterceptor {
      * @throws Exception 当拦截器处理失败时抛出
      */
     void intercept(RequestContext context, Chain chain) throws Exception;
+
+    /**
+     * 以异步方式拦截请求并执行自定义逻辑
+     *
+     * @param context 请求上下文，包含请求和响应的相关信息
+     * @param chain 异步拦截器链，用于继续请求流程
+     * @return 在当前拦截器及后续流程结束时完成的CompletableFuture
+     */
+    default CompletableFuture<RequestContext> interceptAsync(RequestContext context, AsyncChain chain) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                intercept(context, chain.asBlocking());
+                return context;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, chain.getExecutor());
+    }
     
     /**
      * 获取拦截器的优先级
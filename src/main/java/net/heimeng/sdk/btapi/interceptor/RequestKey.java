@@ -0,0 +1,82 @@
+package net.heimeng.sdk.btapi.interceptor;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import net.heimeng.sdk.btapi.api.BtApi;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 请求的逻辑标识，由面板地址、API类型、端点和业务参数组成
+ * <p>
+ * 认证参数{@code request_token}和{@code request_time}每秒都会变化，不参与比较；其余参数按键排序并统一转为字符串，
+ * 因此参数添加顺序不同的两次相同调用得到相同的标识。
+ * 面板地址取自{@link RequestContext#getBaseUrl()}，不同面板上的相同调用不会被视为同一请求，
+ * 因此同一个缓存或合并拦截器可以安全地注册到多个客户端上。可用于响应缓存、并发请求合并等需要识别“同一请求”的场景。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Getter
+@EqualsAndHashCode
+public final class RequestKey {
+
+    /**
+     * 不参与比较的认证参数
+     */
+    private static final Set<String> AUTH_PARAMS = Set.of("request_token", "request_time");
+
+    /**
+     * 面板地址，未经客户端设置的上下文为null
+     */
+    private final String baseUrl;
+
+    /**
+     * API类型，端点相同但解析方式不同的API（如网站列表的两种形式）不会被视为同一请求
+     */
+    private final Class<?> apiType;
+
+    /**
+     * API端点路径
+     */
+    private final String endpoint;
+
+    /**
+     * 按键排序的业务参数
+     */
+    private final Map<String, String> params;
+
+    private RequestKey(String baseUrl, Class<?> apiType, String endpoint, Map<String, String> params) {
+        this.baseUrl = baseUrl;
+        this.apiType = apiType;
+        this.endpoint = endpoint;
+        this.params = params;
+    }
+
+    /**
+     * 根据请求上下文创建请求标识
+     *
+     * @param context 请求上下文
+     * @return 请求标识
+     */
+    public static RequestKey of(RequestContext context) {
+        BtApi<?> api = context.getApi();
+        Map<String, String> params = new TreeMap<>();
+        context.getParams().forEach((key, value) -> {
+            if (!AUTH_PARAMS.contains(key) && value != null) {
+                params.put(key, String.valueOf(value));
+            }
+        });
+        return new RequestKey(context.getBaseUrl(), api.getClass(), api.getEndpoint(), Collections.unmodifiableMap(params));
+    }
+
+    @Override
+    public String toString() {
+        String prefix = baseUrl != null ? baseUrl + " " : "";
+        return prefix + apiType.getSimpleName() + "[" + endpoint + "]" + params;
+    }
+}
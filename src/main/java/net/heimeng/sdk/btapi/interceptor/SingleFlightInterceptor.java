@@ -0,0 +1,203 @@
+package net.heimeng.sdk.btapi.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import net.heimeng.sdk.btapi.interceptor.RequestContext.AsyncChain;
+import net.heimeng.sdk.btapi.interceptor.RequestContext.Chain;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 合并相同在途请求的拦截器（single-flight）
+ * <p>
+ * 同一时刻多个线程发起{@link RequestKey}相同的只读请求时，只有第一个请求（leader）继续执行后续拦截器和HTTP请求，
+ * 其余请求等待leader完成后共享它的状态码、响应体、结果和异常。修改类API（{@link net.heimeng.sdk.btapi.api.BtApi#isReadOnly()}
+ * 为false）总是直接执行，不参与合并。leader完成后立即移除在途记录，之后到达的请求会重新发起。
+ * leader被调用方取消时，被合并的请求不会随之失败，而是重新发起，其中第一个成为新的leader。
+ * </p>
+ * <p>
+ * 合并范围是单个拦截器实例，{@link RequestKey}包含面板地址，同一实例注册到多个客户端时只合并同一面板上的请求；
+ * 通过{@code BtSdkConfig.coalesceReadOnlyRequests}开启时客户端会自动注册一个实例。合并后的结果对象被多个调用方共享，
+ * 调用方不应修改返回的结果。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+public class SingleFlightInterceptor implements RequestInterceptor {
+
+    /**
+     * 拦截器优先级，排在响应缓存之后，缓存未命中的请求才会被合并
+     */
+    public static final int PRIORITY = -900;
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<RequestContext>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    @Override
+    public void intercept(RequestContext context, Chain chain) throws Exception {
+        if (!context.getApi().isReadOnly()) {
+            chain.proceed();
+            return;
+        }
+
+        RequestKey key = RequestKey.of(context);
+        CompletableFuture<RequestContext> flight = new CompletableFuture<>();
+        CompletableFuture<RequestContext> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            log.debug("Coalesced with in-flight request: {}", key);
+            try {
+                copyOutcome(leader.get(), context);
+            } catch (ExecutionException e) {
+                if (shouldReissue(e.getCause(), context)) {
+                    log.debug("Leader was canceled, reissuing request: {}", key);
+                    intercept(context, chain);
+                    return;
+                }
+                throw unwrap(e.getCause());
+            }
+            return;
+        }
+
+        executed.increment();
+        try {
+            chain.proceed();
+            land(key, flight, context, null);
+        } catch (Exception e) {
+            land(key, flight, null, e);
+            throw e;
+        } catch (Error e) {
+            land(key, flight, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<RequestContext> interceptAsync(RequestContext context, AsyncChain chain) {
+        if (!context.getApi().isReadOnly()) {
+            return chain.proceedAsync();
+        }
+
+        RequestKey key = RequestKey.of(context);
+        CompletableFuture<RequestContext> flight = new CompletableFuture<>();
+        CompletableFuture<RequestContext> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            log.debug("Coalesced with in-flight request: {}", key);
+            return leader.handle((result, error) -> {
+                Throwable cause = unwrapCompletion(error);
+                if (shouldReissue(cause, context)) {
+                    log.debug("Leader was canceled, reissuing request: {}", key);
+                    return interceptAsync(context, chain);
+                }
+                return cause != null
+                        ? CompletableFuture.<RequestContext>failedFuture(cause)
+                        : CompletableFuture.completedFuture(copyOutcome(result, context));
+            }).thenCompose(Function.identity());
+        }
+
+        executed.increment();
+        CompletableFuture<RequestContext> proceeded;
+        try {
+            proceeded = chain.proceedAsync();
+        } catch (RuntimeException e) {
+            proceeded = CompletableFuture.failedFuture(e);
+        }
+        return proceeded.whenComplete((result, error) -> land(key, flight, result, unwrapCompletion(error)));
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+
+    /**
+     * 获取实际执行的只读请求数
+     *
+     * @return 作为leader执行的请求数
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * 获取被合并的请求数
+     *
+     * @return 共享了其他请求结果的请求数
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 获取当前在途的不同请求数
+     *
+     * @return 在途请求数
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 先移除在途记录再完成，保证之后到达的请求不会拿到已经完成的结果
+     */
+    private void land(RequestKey key, CompletableFuture<RequestContext> flight, RequestContext result, Throwable error) {
+        inFlight.remove(key, flight);
+        if (error != null) {
+            flight.completeExceptionally(error);
+        } else {
+            flight.complete(result);
+        }
+    }
+
+    /**
+     * leader被取消不代表被合并的请求也被取消，此时只要当前请求仍然有效就重新发起，而不是把取消传播给它
+     */
+    private static boolean shouldReissue(Throwable cause, RequestContext context) {
+        if (context.isCanceled()) {
+            return false;
+        }
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RequestContext copyOutcome(RequestContext source, RequestContext target) {
+        target.setStatusCode(source.getStatusCode());
+        target.setResponseBody(source.getResponseBody());
+        target.setResult(source.getResult());
+        target.setException(source.getException());
+        return target;
+    }
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static Exception unwrap(Throwable cause) {
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,82 @@
+package net.heimeng.sdk.btapi.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 基于Jackson的JSON编解码器，使用流式解析器直接把响应体绑定到模型对象
+ * <p>
+ * 忽略模型中未声明的字段，并允许宝塔面板常见的"数字以字符串返回"等宽松格式。
+ * 可以通过{@link #JacksonJsonCodec(ObjectMapper)}传入自定义配置的ObjectMapper。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public class JacksonJsonCodec implements JsonCodec {
+
+    private final ObjectMapper mapper;
+
+    /**
+     * 使用默认配置创建编解码器
+     */
+    public JacksonJsonCodec() {
+        this(new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, true)
+                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false));
+    }
+
+    /**
+     * 使用指定的ObjectMapper创建编解码器
+     *
+     * @param mapper 已配置的ObjectMapper
+     */
+    public JacksonJsonCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public <T> T decode(String json, Type type) {
+        try {
+            return mapper.readValue(json, mapper.constructType(type));
+        } catch (JsonProcessingException e) {
+            throw decodeFailure(e);
+        }
+    }
+
+    @Override
+    public <T> T decode(InputStream json, Type type) {
+        try {
+            return mapper.readValue(json, mapper.constructType(type));
+        } catch (JsonProcessingException e) {
+            throw decodeFailure(e);
+        } catch (IOException e) {
+            throw new BtApiException("Failed to read response body: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String encode(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BtApiException("Failed to encode JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static BtApiException decodeFailure(JsonProcessingException e) {
+        if (e instanceof JsonParseException) {
+            return new BtApiException("Invalid JSON response: " + e.getOriginalMessage(), e);
+        }
+        return new BtApiException("Failed to bind JSON response: " + e.getOriginalMessage(), e);
+    }
+}
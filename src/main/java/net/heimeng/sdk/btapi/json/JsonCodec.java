@@ -0,0 +1,70 @@
+package net.heimeng.sdk.btapi.json;
+
+import net.heimeng.sdk.btapi.exception.BtApiException;
+
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON编解码器SPI，负责在响应体和模型对象之间直接绑定
+ * <p>
+ * API实现通过{@link net.heimeng.sdk.btapi.api.BaseBtApi}使用编解码器，把响应体直接绑定到模型类，
+ * 不再构建中间的JSON树。默认实现为基于Jackson的{@link JacksonJsonCodec}；
+ * 也可以通过{@link java.util.ServiceLoader}机制在{@code META-INF/services/net.heimeng.sdk.btapi.json.JsonCodec}
+ * 中注册自定义实现，或者对单个API调用{@code setJsonCodec}进行替换。
+ * </p>
+ * <p>
+ * 实现类必须是线程安全的。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+public interface JsonCodec {
+
+    /**
+     * 将JSON字符串绑定为指定类型的对象
+     *
+     * @param json JSON字符串
+     * @param type 目标类型，可以是{@link Class}或带泛型参数的{@link Type}
+     * @param <T> 目标类型
+     * @return 绑定后的对象
+     * @throws BtApiException 当JSON格式不合法或无法绑定到目标类型时抛出
+     */
+    <T> T decode(String json, Type type);
+
+    /**
+     * 从输入流增量读取JSON并绑定为指定类型的对象
+     * <p>
+     * 实现不应关闭输入流，由调用者负责关闭。
+     * </p>
+     *
+     * @param json JSON输入流，按UTF-8编码读取
+     * @param type 目标类型，可以是{@link Class}或带泛型参数的{@link Type}
+     * @param <T> 目标类型
+     * @return 绑定后的对象
+     * @throws BtApiException 当读取失败、JSON格式不合法或无法绑定到目标类型时抛出
+     */
+    <T> T decode(InputStream json, Type type);
+
+    /**
+     * 将对象序列化为JSON字符串
+     *
+     * @param value 要序列化的对象
+     * @return JSON字符串
+     * @throws BtApiException 当序列化失败时抛出
+     */
+    String encode(Object value);
+
+    /**
+     * 获取默认的编解码器
+     * <p>
+     * 首次调用时通过{@link java.util.ServiceLoader}查找注册的实现，没有注册时使用{@link JacksonJsonCodec}。
+     * </p>
+     *
+     * @return 默认的编解码器
+     */
+    static JsonCodec defaultCodec() {
+        return JsonCodecHolder.DEFAULT;
+    }
+}
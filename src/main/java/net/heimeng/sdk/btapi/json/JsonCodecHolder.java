@@ -0,0 +1,36 @@
+package net.heimeng.sdk.btapi.json;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 默认编解码器的延迟加载持有类
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Slf4j
+final class JsonCodecHolder {
+
+    static final JsonCodec DEFAULT = load();
+
+    private JsonCodecHolder() {
+    }
+
+    private static JsonCodec load() {
+        try {
+            Iterator<JsonCodec> codecs = ServiceLoader.load(JsonCodec.class).iterator();
+            if (codecs.hasNext()) {
+                JsonCodec codec = codecs.next();
+                log.debug("Using JSON codec {}", codec.getClass().getName());
+                return codec;
+            }
+        } catch (ServiceConfigurationError e) {
+            log.warn("Failed to load JSON codec provider, falling back to Jackson: {}", e.getMessage());
+        }
+        return new JacksonJsonCodec();
+    }
+}
@@ -0,0 +1,71 @@
+package net.heimeng.sdk.btapi.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 表格类接口（getData）的返回结果，在行数据之外携带从分页信息中解析的总行数
+ * <p>
+ * 面板在响应的page字段中以HTML片段返回分页信息，例如{@code <span class='Pcount'>共25条</span>}，
+ * 总行数从其中的“共N条”解析；面板没有返回分页信息时总行数为null。
+ * </p>
+ *
+ * @param <E> 表格行的类型
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TableResult<E> extends BtResult<List<E>> {
+
+    private static final Pattern TOTAL_PATTERN = Pattern.compile("共\\s*(\\d+)\\s*条");
+
+    /**
+     * 表格的总行数，未知时为null
+     */
+    private Long total;
+
+    /**
+     * 按每页记录数计算总页数
+     *
+     * @param limit 每页记录数
+     * @return 总页数，总行数未知或为负数时返回-1，超过int范围时返回{@link Integer#MAX_VALUE}
+     */
+    public int getPageCount(int limit) {
+        if (total == null || total < 0) {
+            return -1;
+        }
+        long pages = total / limit + (total % limit == 0 ? 0 : 1);
+        return (int) Math.min(pages, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 从响应的page字段解析总行数
+     *
+     * @param page page字段的值，可以是分页HTML片段或数字
+     * @return 总行数，无法解析时返回null
+     */
+    public static Long parseTotal(Object page) {
+        if (page instanceof Number) {
+            return ((Number) page).longValue();
+        }
+        if (page instanceof CharSequence) {
+            Matcher matcher = TOTAL_PATTERN.matcher((CharSequence) page);
+            if (matcher.find()) {
+                try {
+                    return Long.parseLong(matcher.group(1));
+                } catch (NumberFormatException e) {
+                    // 超出long范围的总行数视为无法解析
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package net.heimeng.sdk.btapi.api.website;
+
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.model.BtResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StartWebsiteApi类的单元测试
+ * <p>
+ * 覆盖操作类API共用的单次解析路径：非JSON检测、status和msg提取在一次解析中完成。
+ * </p>
+ *
+ * @author InwardFlow
+ * @since 2.0.0
+ */
+@DisplayName("StartWebsiteApi类测试")
+class StartWebsiteApiTest {
+
+    private final StartWebsiteApi startWebsiteApi = new StartWebsiteApi().setId(1);
+
+    @Test
+    @DisplayName("测试响应解析 - 成功并使用响应中的消息")
+    void testParseResponse_Success() {
+        BtResult<Boolean> result = startWebsiteApi.parseResponse("{\"status\": true, \"msg\": \"站点已启用\", \"extra\": [1, 2]}");
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getData());
+        assertEquals("站点已启用", result.getMsg());
+    }
+
+    @Test
+    @DisplayName("测试响应解析 - 缺少字段时使用默认消息")
+    void testParseResponse_DefaultMessage() {
+        BtResult<Boolean> success = startWebsiteApi.parseResponse("{\"status\": 1}");
+        BtResult<Boolean> failure = startWebsiteApi.parseResponse("{}");
+
+        assertEquals("启动成功", success.getMsg());
+        assertTrue(failure.isFailed());
+        assertFalse(failure.getData());
+        assertEquals("启动失败", failure.getMsg());
+    }
+
+    @Test
+    @DisplayName("测试响应解析 - 非JSON响应")
+    void testParseResponse_InvalidJson() {
+        BtApiException exception = assertThrows(BtApiException.class,
+                () -> startWebsiteApi.parseResponse("<html>502 Bad Gateway</html>"));
+
+        assertTrue(exception.getMessage().contains("Invalid JSON"));
+    }
+}
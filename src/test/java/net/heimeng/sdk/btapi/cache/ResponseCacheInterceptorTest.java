@@ -0,0 +1,402 @@
+package net.heimeng.sdk.btapi.cache;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.ssl.GetSslCertificatesApi;
+import net.heimeng.sdk.btapi.api.system.CheckPanelUpdateApi;
+import net.heimeng.sdk.btapi.api.system.GetDiskInfoApi;
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.api.website.GetPhpVersionsApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsitePhpVersionApi;
+import net.heimeng.sdk.btapi.api.website.SetWebsiteSslApi;
+import net.heimeng.sdk.btapi.client.BtClient;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.interceptor.RequestContext;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import net.heimeng.sdk.btapi.model.BtResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseCacheInterceptor的单元测试类
+ * <p>
+ * 使用模拟的拦截器链代替HTTP请求，统计实际到达后端的调用次数
+ * </p>
+ */
+@DisplayName("响应缓存拦截器单元测试")
+public class ResponseCacheInterceptorTest {
+
+    private static final String PANEL_A = "https://panel-a:8888";
+
+    private static final String PANEL_B = "https://panel-b:8888";
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    private ResponseCacheInterceptor newCache(Consumer<CachePolicy.CachePolicyBuilder> customizer) {
+        CachePolicy.CachePolicyBuilder builder = CachePolicy.builder().ticker(now::get);
+        customizer.accept(builder);
+        return new ResponseCacheInterceptor(builder.build());
+    }
+
+    @Test
+    @DisplayName("测试相同请求在有效期内命中缓存，且忽略认证参数")
+    void testHitIgnoresAuthParams() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> { });
+
+        Object first = call(cache, new GetSystemInfoApi(), ctx -> ctx.addParam("request_time", "1"), success());
+        Object second = call(cache, new GetSystemInfoApi(), ctx -> ctx.addParam("request_time", "2"), success());
+
+        assertSame(first, second);
+        assertEquals(1, backendCalls.get());
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("测试业务参数不同的请求分别缓存")
+    void testDifferentParams() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> { });
+
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 1), success());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 2), success());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 1), success());
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(2, cache.getStats().getSize());
+    }
+
+    @Test
+    @DisplayName("测试按API配置的有效期过期后重新请求")
+    void testPerApiTtl() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .ttl(GetSystemInfoApi.class, Duration.ofSeconds(2))
+                .ttl(GetPhpVersionsApi.class, Duration.ZERO));
+
+        call(cache, new GetSystemInfoApi(), ctx -> { }, success());
+        now.addAndGet(Duration.ofMillis(1999).toNanos());
+        call(cache, new GetSystemInfoApi(), ctx -> { }, success());
+        assertEquals(1, backendCalls.get());
+
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        call(cache, new GetSystemInfoApi(), ctx -> { }, success());
+        assertEquals(2, backendCalls.get());
+
+        // 有效期为0的API不缓存
+        call(cache, new GetPhpVersionsApi(), ctx -> { }, success());
+        call(cache, new GetPhpVersionsApi(), ctx -> { }, success());
+        assertEquals(4, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试超出容量时淘汰最久未访问的条目")
+    void testLruEviction() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b.maximumSize(2));
+
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 1), success());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 2), success());
+        // 访问p=1，使p=2成为最久未访问的条目
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 1), success());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 3), success());
+
+        assertEquals(1, cache.getStats().getEvictionCount());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 1), success());
+        assertEquals(3, backendCalls.get());
+        call(cache, new GetSslCertificatesApi(), ctx -> ctx.addParam("p", 2), success());
+        assertEquals(4, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试失败的结果不缓存")
+    void testFailureNotCached() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> { });
+        BtResult<Object> failure = new BtResult<>();
+        failure.setStatus(false);
+
+        call(cache, new GetSystemInfoApi(), ctx -> { }, failure);
+        call(cache, new GetSystemInfoApi(), ctx -> { }, failure);
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    @DisplayName("测试修改类API成功后使同一资源分组失效")
+    void testInvalidateOnMutation() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b.invalidates(SetWebsiteSslApi.class, "ssl"));
+
+        call(cache, new GetPhpVersionsApi(), ctx -> { }, success());
+        call(cache, new GetSslCertificatesApi(), ctx -> { }, success());
+        call(cache, new GetSystemInfoApi(), ctx -> { }, success());
+
+        call(cache, new SetWebsitePhpVersionApi(), ctx -> { }, success());
+        assertEquals(2, cache.getStats().getSize());
+
+        call(cache, new SetWebsiteSslApi(), ctx -> { }, success());
+        assertEquals(1, cache.getStats().getSize());
+        assertEquals(2, cache.getStats().getInvalidationCount());
+
+        // 修改类API本身不缓存
+        int calls = backendCalls.get();
+        call(cache, new SetWebsiteSslApi(), ctx -> { }, success());
+        assertEquals(calls + 1, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试请求期间分组被失效时不写入旧结果")
+    void testNoStaleWriteAfterInvalidation() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> { });
+
+        RequestContext context = new RequestContext(new GetPhpVersionsApi());
+        cache.intercept(context, chain(context, ctx -> {
+            // 读请求进行中时网站分组被修改
+            cache.invalidateGroup("website");
+            ctx.setResult(success());
+        }));
+
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    @DisplayName("测试异步路径命中缓存时不进入后续拦截器")
+    void testAsync() {
+        ResponseCacheInterceptor cache = newCache(b -> { });
+
+        Object first = callAsync(cache, new GetSystemInfoApi()).join().getResult();
+        Object second = callAsync(cache, new GetSystemInfoApi()).join().getResult();
+
+        assertSame(first, second);
+        assertEquals(1, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试过期后可用窗口内立即返回旧结果并只发起一次后台刷新")
+    void testStaleWhileRevalidate() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .ttl(GetDiskInfoApi.class, Duration.ofSeconds(10))
+                .staleWhileRevalidate(GetDiskInfoApi.class, Duration.ofSeconds(60)));
+        RefreshingClient client = new RefreshingClient();
+        cache.bindTo(client);
+        assertSame(cache, client.interceptors.get(0));
+
+        Object original = call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertSame(original, call(cache, new GetDiskInfoApi(), ctx -> { }, success()));
+        assertSame(original, call(cache, new GetDiskInfoApi(), ctx -> { }, success()));
+        assertEquals(1, backendCalls.get());
+        assertEquals(1, client.refreshes.size());
+        assertEquals(2, cache.getStats().getStaleHitCount());
+
+        // 刷新完成后返回新结果
+        BtResult<Object> refreshed = success();
+        client.refreshes.get(0).complete(refreshed);
+        assertSame(refreshed, call(cache, new GetDiskInfoApi(), ctx -> { }, success()));
+        assertEquals(1, cache.getStats().getRefreshCount());
+        assertEquals(1, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试刷新失败后下次访问重新刷新，超过硬过期后不再返回旧结果")
+    void testStaleRefreshFailureAndHardExpiry() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .defaultTtl(Duration.ofSeconds(10))
+                .defaultStaleWindow(Duration.ofSeconds(60)));
+        RefreshingClient client = new RefreshingClient();
+        cache.bindTo(client);
+
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        client.refreshes.get(0).completeExceptionally(new IllegalStateException("panel busy"));
+        assertEquals(1, cache.getStats().getRefreshFailureCount());
+
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        assertEquals(2, client.refreshes.size());
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        assertEquals(2, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试面板更新检查在不强制检查时缓存并后台刷新")
+    void testPanelUpdateCheck() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .ttl(CheckPanelUpdateApi.class, Duration.ofMinutes(10))
+                .staleWhileRevalidate(CheckPanelUpdateApi.class, Duration.ofHours(1)));
+        RefreshingClient client = new RefreshingClient();
+        cache.bindTo(client);
+
+        Object original = call(cache, new CheckPanelUpdateApi(), ctx -> { }, success());
+        assertSame(original, call(cache, new CheckPanelUpdateApi(), ctx -> { }, success()));
+        now.addAndGet(Duration.ofMinutes(11).toNanos());
+        assertSame(original, call(cache, new CheckPanelUpdateApi(), ctx -> { }, success()));
+        assertEquals(1, client.refreshes.size());
+        assertEquals(1, backendCalls.get());
+
+        // 强制检查不是只读请求，不读取也不写入缓存
+        call(cache, new CheckPanelUpdateApi(true), ctx -> { }, success());
+        call(cache, new CheckPanelUpdateApi(true), ctx -> { }, success());
+        assertEquals(3, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("测试未绑定客户端时过期条目按未命中处理")
+    void testStaleWithoutClient() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .defaultTtl(Duration.ofSeconds(10))
+                .defaultStaleWindow(Duration.ofSeconds(60)));
+
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        call(cache, new GetDiskInfoApi(), ctx -> { }, success());
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0, cache.getStats().getStaleHitCount());
+    }
+
+    @Test
+    @DisplayName("测试不同面板的相同请求分别缓存，只刷新绑定面板的过期条目")
+    void testSeparatePanels() throws Exception {
+        ResponseCacheInterceptor cache = newCache(b -> b
+                .defaultTtl(Duration.ofSeconds(10))
+                .defaultStaleWindow(Duration.ofSeconds(60)));
+        RefreshingClient client = new RefreshingClient(BtSdkConfig.builder()
+                .baseUrl(PANEL_A)
+                .apiKey("key")
+                .build());
+        cache.bindTo(client);
+
+        Object a = call(cache, new GetDiskInfoApi(), ctx -> ctx.setBaseUrl(PANEL_A), success());
+        Object b = call(cache, new GetDiskInfoApi(), ctx -> ctx.setBaseUrl(PANEL_B), success());
+        assertNotSame(a, b);
+        assertSame(b, call(cache, new GetDiskInfoApi(), ctx -> ctx.setBaseUrl(PANEL_B), success()));
+        assertEquals(2, backendCalls.get());
+        assertEquals(2, cache.getStats().getSize());
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertSame(a, call(cache, new GetDiskInfoApi(), ctx -> ctx.setBaseUrl(PANEL_A), success()));
+        assertNotSame(b, call(cache, new GetDiskInfoApi(), ctx -> ctx.setBaseUrl(PANEL_B), success()));
+        assertEquals(1, client.refreshes.size());
+        assertEquals(3, backendCalls.get());
+    }
+
+    private Object call(ResponseCacheInterceptor cache, BtApi<?> api, Consumer<RequestContext> params,
+                        Object result) throws Exception {
+        RequestContext context = new RequestContext(api);
+        context.addParam("request_token", "token-" + now.get());
+        params.accept(context);
+        cache.intercept(context, chain(context, ctx -> ctx.setResult(result)));
+        return context.getResult();
+    }
+
+    private CompletableFuture<RequestContext> callAsync(ResponseCacheInterceptor cache, BtApi<?> api) {
+        RequestContext context = new RequestContext(api);
+        return cache.interceptAsync(context, new RequestContext.AsyncChain() {
+            @Override
+            public RequestContext getContext() {
+                return context;
+            }
+
+            @Override
+            public CompletableFuture<RequestContext> proceedAsync() {
+                backendCalls.incrementAndGet();
+                context.setResult(success());
+                return CompletableFuture.completedFuture(context);
+            }
+
+            @Override
+            public Executor getExecutor() {
+                return Runnable::run;
+            }
+        });
+    }
+
+    private RequestContext.Chain chain(RequestContext context, Consumer<RequestContext> backend) {
+        return new RequestContext.Chain() {
+            @Override
+            public RequestContext getContext() {
+                return context;
+            }
+
+            @Override
+            public RequestContext proceed() {
+                backendCalls.incrementAndGet();
+                backend.accept(context);
+                return context;
+            }
+        };
+    }
+
+    private static BtResult<Object> success() {
+        BtResult<Object> result = new BtResult<>();
+        result.setStatus(true);
+        return result;
+    }
+
+    /**
+     * 记录后台刷新请求的客户端，刷新结果由测试手动完成
+     */
+    private static class RefreshingClient implements BtClient {
+
+        private final List<RequestInterceptor> interceptors = new ArrayList<>();
+
+        private final List<CompletableFuture<Object>> refreshes = new ArrayList<>();
+
+        private final BtSdkConfig config;
+
+        RefreshingClient() {
+            this(null);
+        }
+
+        RefreshingClient(BtSdkConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public <T> T execute(BtApi<T> api) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> executeAsync(BtApi<T> api) {
+            assertTrue(api.isReadOnly());
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            refreshes.add(future);
+            return (CompletableFuture<T>) future;
+        }
+
+        @Override
+        public BtClient addInterceptor(RequestInterceptor interceptor) {
+            interceptors.add(interceptor);
+            return this;
+        }
+
+        @Override
+        public BtSdkConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchExecutor的单元测试类
+ * <p>
+ * 用手动完成的CompletableFuture代替HTTP请求，验证并发上限、结果顺序、完成回调、单项超时、快速失败和取消
+ * </p>
+ */
+@DisplayName("批量执行单元测试")
+public class BatchExecutorTest {
+
+    /**
+     * 记录每次调用的客户端替身，请求由测试手动完成
+     */
+    private static class StubClient implements BtClient {
+
+        private final List<BtApi<?>> apis = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<CompletableFuture<Object>> futures = Collections.synchronizedList(new ArrayList<>());
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public <T> T execute(BtApi<T> api) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> executeAsync(BtApi<T> api) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            int pending = 1;
+            synchronized (futures) {
+                for (CompletableFuture<Object> f : futures) {
+                    if (!f.isDone()) {
+                        pending++;
+                    }
+                }
+            }
+            maxInFlight.accumulateAndGet(pending, Math::max);
+            apis.add(api);
+            futures.add(future);
+            return (CompletableFuture<T>) future;
+        }
+
+        @Override
+        public BtClient addInterceptor(RequestInterceptor interceptor) {
+            return this;
+        }
+
+        @Override
+        public BtSdkConfig getConfig() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        CompletableFuture<Object> future(int index) {
+            return futures.get(index);
+        }
+
+        int submitted() {
+            return futures.size();
+        }
+    }
+
+    private final StubClient client = new StubClient();
+
+    private static List<BtApi<Object>> apis(int count) {
+        List<BtApi<Object>> apis = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            BtApi<Object> api = (BtApi) new GetSystemInfoApi();
+            apis.add(api);
+        }
+        return apis;
+    }
+
+    @Test
+    @DisplayName("测试并发上限和结果顺序")
+    void testConcurrencyCapAndOrder() {
+        List<BtApi<Object>> apis = apis(5);
+        List<Integer> completionOrder = new ArrayList<>();
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis,
+                BatchOptions.builder().maxConcurrency(2).build(), item -> completionOrder.add(item.getIndex()));
+
+        assertEquals(2, client.submitted());
+        client.future(1).complete("b");
+        assertEquals(3, client.submitted());
+        client.future(0).complete("a");
+        client.future(2).complete("c");
+        client.future(4).complete("e");
+        client.future(3).complete("d");
+
+        BatchResult<Object> result = batch.join();
+        assertEquals(List.of("a", "b", "c", "d", "e"), result.getResults());
+        assertEquals(List.of(1, 0, 2, 4, 3), completionOrder);
+        assertEquals(2, client.maxInFlight.get());
+        assertTrue(result.isAllSuccessful());
+        // 请求按提交顺序发出
+        for (int i = 0; i < apis.size(); i++) {
+            assertSame(apis.get(i), client.apis.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("测试收集错误模式")
+    void testCollectErrors() {
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis(3), BatchOptions.defaults());
+
+        client.future(0).complete("a");
+        client.future(1).completeExceptionally(new BtApiException("boom"));
+        client.future(2).complete("c");
+
+        BatchResult<Object> result = batch.join();
+        assertFalse(result.isAllSuccessful());
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("boom", result.getErrors().get(1).getMessage());
+        assertNull(result.getResults().get(1));
+    }
+
+    @Test
+    @DisplayName("测试快速失败模式取消在途请求")
+    void testFailFast() {
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis(5),
+                BatchOptions.builder().maxConcurrency(3).failFast(true).build());
+
+        client.future(1).completeExceptionally(new BtApiException("boom"));
+
+        CompletionException e = assertThrows(CompletionException.class, batch::join);
+        assertEquals("boom", e.getCause().getMessage());
+        assertTrue(client.future(0).isCancelled());
+        assertTrue(client.future(2).isCancelled());
+        // 失败后不再发出新的请求
+        assertEquals(3, client.submitted());
+    }
+
+    @Test
+    @DisplayName("测试单项超时")
+    void testItemTimeout() {
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis(2),
+                BatchOptions.builder().itemTimeout(Duration.ofMillis(50)).build());
+
+        client.future(0).complete("a");
+
+        BatchResult<Object> result = batch.orTimeout(5, TimeUnit.SECONDS).join();
+        assertEquals("a", result.getResults().get(0));
+        assertTrue(result.getErrors().get(1).getMessage().contains("timed out"));
+        assertTrue(client.future(1).isDone());
+    }
+
+    @Test
+    @DisplayName("测试单项超时后的监听器回调不在定时线程上执行")
+    void testTimeoutCallbackLeavesTimerThread() {
+        DelayScheduler scheduler = new DelayScheduler("batch-test-timer");
+        ExecutorService callback = Executors.newSingleThreadExecutor(r -> new Thread(r, "batch-test-callback"));
+        try {
+            List<String> threads = Collections.synchronizedList(new ArrayList<>());
+            CompletableFuture<BatchResult<Object>> batch = new BatchExecutor<Object>(
+                    (index, api) -> client.executeAsync(api), scheduler, callback, apis(1),
+                    BatchOptions.builder().itemTimeout(Duration.ofMillis(50)).build(),
+                    item -> threads.add(Thread.currentThread().getName())).start();
+
+            BatchResult<Object> result = batch.orTimeout(5, TimeUnit.SECONDS).join();
+            assertTrue(result.getErrors().get(0).getMessage().contains("timed out"));
+            assertEquals(List.of("batch-test-callback"), threads);
+        } finally {
+            callback.shutdownNow();
+            scheduler.close();
+        }
+    }
+
+    @Test
+    @DisplayName("测试整体截止时间返回部分结果")
+    void testDeadline() {
+        List<Integer> notified = new ArrayList<>();
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis(3),
+                BatchOptions.builder().deadline(Duration.ofMillis(100)).build(), item -> notified.add(item.getIndex()));
+
+        client.future(1).complete("b");
+
+        BatchResult<Object> result = batch.orTimeout(5, TimeUnit.SECONDS).join();
+        assertEquals("b", result.getResults().get(1));
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("deadline"));
+        assertTrue(client.future(0).isCancelled());
+        assertTrue(client.future(2).isCancelled());
+        assertEquals(List.of(1), notified);
+
+        // 截止之后完成的请求不会覆盖已记录的失败
+        assertFalse(client.future(0).complete("late"));
+        assertNull(result.getResults().get(0));
+    }
+
+    @Test
+    @DisplayName("测试取消批量结果时取消在途请求")
+    void testCancelBatch() {
+        CompletableFuture<BatchResult<Object>> batch = client.executeAllAsync(apis(4),
+                BatchOptions.builder().maxConcurrency(2).build());
+
+        batch.cancel(true);
+
+        assertTrue(client.future(0).isCancelled());
+        assertTrue(client.future(1).isCancelled());
+        assertEquals(2, client.submitted());
+    }
+
+    @Test
+    @DisplayName("测试同步完成的请求和同步等待")
+    void testSynchronousCompletion() {
+        BtClient immediate = new StubClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletableFuture<T> executeAsync(BtApi<T> api) {
+                return (CompletableFuture<T>) CompletableFuture.completedFuture((Object) "ok");
+            }
+        };
+
+        BatchResult<Object> result = immediate.executeAll(apis(10000), BatchOptions.builder().maxConcurrency(4).build());
+
+        assertEquals(10000, result.getSuccessCount());
+        assertTrue(immediate.executeAll(apis(0), BatchOptions.defaults()).isAllSuccessful());
+    }
+
+    @Test
+    @DisplayName("测试无效的批量选项")
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> client.executeAllAsync(apis(1), BatchOptions.builder().maxConcurrency(0).build()));
+        assertThrows(IllegalArgumentException.class, () -> client.executeAllAsync(apis(1), null));
+    }
+}
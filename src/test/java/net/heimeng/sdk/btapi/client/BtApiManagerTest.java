@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -179,6 +180,31 @@ public class BtApiManagerTest {
         assertTrue(result.isSuccess());
     }
 
+    @Test
+    @DisplayName("测试等待超时后取消底层请求")
+    void testExecuteAsyncWithTimeout_CancelsOnTimeout() {
+        CompletableFuture<BtResult<SystemInfo>> pending = new CompletableFuture<>();
+        when(mockClient.executeAsync(mockSystemInfoApi)).thenReturn(pending);
+
+        assertThrows(BtApiException.class,
+                () -> apiManager.executeAsyncWithTimeout(mockSystemInfoApi, 50, TimeUnit.MILLISECONDS));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    @DisplayName("测试非阻塞超时直接作用于客户端返回的Future")
+    void testExecuteAsyncWithTimeoutFuture_TimesOutClientFuture() {
+        CompletableFuture<BtResult<SystemInfo>> pending = new CompletableFuture<>();
+        when(mockClient.executeAsync(mockSystemInfoApi)).thenReturn(pending);
+
+        CompletableFuture<BtResult<SystemInfo>> future =
+                apiManager.executeAsyncWithTimeoutFuture(mockSystemInfoApi, Duration.ofMillis(50));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(pending.isCompletedExceptionally());
+    }
+
     @Test
     @DisplayName("测试关闭API管理器")
     void testClose() {
@@ -0,0 +1,223 @@
+package net.heimeng.sdk.btapi.client;
+
+import com.sun.net.httpserver.HttpServer;
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.interceptor.SingleFlightInterceptor;
+import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.system.SystemInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BtFleetClient的单元测试类
+ * <p>
+ * 使用两个本地HTTP服务模拟两个面板，验证面板视图的路由、共享拦截器、面板的增删以及线程数不随面板数增长
+ * </p>
+ */
+@DisplayName("多面板客户端单元测试")
+public class BtFleetClientTest {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    private BtFleetClient fleet;
+
+    @BeforeEach
+    void setUp() {
+        fleet = new BtFleetClient(BtSdkConfig.builder().retryCount(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fleet.close();
+        servers.forEach(server -> server.stop(0));
+    }
+
+    private String startPanel(String version) throws IOException {
+        return startPanel(version, 0);
+    }
+
+    private String startPanel(String version, long delayMillis) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/system", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = ("{\"system\":\"Ubuntu 22.04\",\"version\":\"" + version + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        servers.add(server);
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Test
+    @DisplayName("测试面板视图访问各自的面板")
+    void testPanelRouting() throws Exception {
+        fleet.addPanel("a", startPanel("panel-a"), "key-a");
+        fleet.addPanel("b", startPanel("panel-b"), "key-b");
+
+        assertEquals("panel-a", fleet.panel("a").execute(new GetSystemInfoApi()).getData().getPanelVersion());
+        assertEquals("panel-b",
+                fleet.panel("b").executeAsync(new GetSystemInfoApi()).get().getData().getPanelVersion());
+        assertEquals(List.of("a", "b"), new ArrayList<>(fleet.getPanelIds()));
+        assertEquals("key-a", fleet.panel("a").getConfig().getApiKey());
+    }
+
+    @Test
+    @DisplayName("测试共享拦截器作用于所有面板")
+    void testSharedInterceptor() throws IOException {
+        AtomicInteger shared = new AtomicInteger();
+        AtomicInteger own = new AtomicInteger();
+        fleet.addInterceptor((context, chain) -> {
+            shared.incrementAndGet();
+            chain.proceed();
+        });
+        fleet.addPanel("a", startPanel("panel-a"), "key-a").addInterceptor((context, chain) -> {
+            own.incrementAndGet();
+            chain.proceed();
+        });
+        fleet.addPanel("b", startPanel("panel-b"), "key-b");
+
+        fleet.panel("a").execute(new GetSystemInfoApi());
+        fleet.panel("b").execute(new GetSystemInfoApi());
+
+        assertEquals(2, shared.get());
+        assertEquals(1, own.get());
+    }
+
+    @Test
+    @DisplayName("测试共享的在途请求合并拦截器不会跨面板合并")
+    void testSharedSingleFlightPerPanel() throws Exception {
+        SingleFlightInterceptor singleFlight = new SingleFlightInterceptor();
+        fleet.addInterceptor(singleFlight);
+        fleet.addPanel("a", startPanel("panel-a", 300), "key-a");
+        fleet.addPanel("b", startPanel("panel-b", 300), "key-b");
+
+        CompletableFuture<BtResult<SystemInfo>> a = fleet.panel("a").executeAsync(new GetSystemInfoApi());
+        CompletableFuture<BtResult<SystemInfo>> b = fleet.panel("b").executeAsync(new GetSystemInfoApi());
+
+        assertEquals("panel-a", a.get(5, TimeUnit.SECONDS).getData().getPanelVersion());
+        assertEquals("panel-b", b.get(5, TimeUnit.SECONDS).getData().getPanelVersion());
+        assertEquals(2, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("测试移除面板不影响其他面板")
+    void testRemovePanel() throws IOException {
+        DefaultBtClient a = fleet.addPanel("a", startPanel("panel-a"), "key-a");
+        fleet.addPanel("b", startPanel("panel-b"), "key-b");
+
+        assertTrue(fleet.removePanel("a"));
+        assertFalse(fleet.removePanel("a"));
+
+        assertTrue(a.isClosed());
+        assertThrows(IllegalArgumentException.class, () -> fleet.panel("a"));
+        assertEquals("panel-b", fleet.panel("b").execute(new GetSystemInfoApi()).getData().getPanelVersion());
+    }
+
+    @Test
+    @DisplayName("测试重复或无效的面板")
+    void testInvalidPanels() {
+        fleet.addPanel("a", "http://127.0.0.1:1", "key-a");
+
+        assertThrows(IllegalArgumentException.class, () -> fleet.addPanel("a", "http://127.0.0.1:2", "key"));
+        assertThrows(IllegalArgumentException.class, () -> fleet.addPanel("b", "http://127.0.0.1:2", null));
+    }
+
+    @Test
+    @DisplayName("测试线程数不随面板数增长")
+    void testThreadsDoNotGrowWithPanels() {
+        fleet.addPanel("warmup", "http://127.0.0.1:1", "key");
+        int before = Thread.activeCount();
+
+        for (int i = 0; i < 500; i++) {
+            fleet.addPanel("panel-" + i, "http://10.0.0." + (i % 250) + ":8888", "key-" + i);
+        }
+
+        assertTrue(Thread.activeCount() - before < 5);
+        assertEquals(501, fleet.getPanelIds().size());
+    }
+
+    @Test
+    @DisplayName("测试分发查询在截止时间返回部分结果")
+    void testScatterWithDeadline() throws IOException {
+        fleet.addPanel("fast", startPanel("panel-fast"), "key");
+        fleet.addPanel("slow", startPanel("panel-slow", 5000), "key");
+        // 预热，避免首次请求的类加载和连接建立计入超时
+        fleet.panel("fast").execute(new GetSystemInfoApi());
+        fleet.addPanel("down", "http://127.0.0.1:1", "key");
+
+        Map<String, Boolean> streamed = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        FleetResult<BtResult<SystemInfo>> result = fleet.<BtResult<SystemInfo>>scatterAsync(
+                id -> new GetSystemInfoApi(),
+                BatchOptions.builder().deadline(Duration.ofMillis(500)).build(),
+                (id, item) -> streamed.put(id, item.isSuccess()))
+                .orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        assertEquals("panel-fast", result.getResults().get("fast").getData().getPanelVersion());
+        assertEquals(Set.of("slow", "down"), result.getErrors().keySet());
+        assertTrue(result.getErrors().get("slow").getMessage().contains("deadline"));
+        assertFalse(result.isAllSuccessful());
+        assertEquals(Map.of("fast", true, "down", false), streamed);
+    }
+
+    @Test
+    @DisplayName("测试分发查询的单个面板超时")
+    void testScatterWithPanelTimeout() throws IOException {
+        fleet.addPanel("fast", startPanel("panel-fast"), "key");
+        fleet.addPanel("slow", startPanel("panel-slow", 5000), "key");
+        // 预热，避免首次请求的类加载和连接建立计入超时
+        fleet.panel("fast").execute(new GetSystemInfoApi());
+
+        FleetResult<BtResult<SystemInfo>> result = fleet.scatter(id -> new GetSystemInfoApi(),
+                BatchOptions.builder().itemTimeout(Duration.ofMillis(300)).build());
+
+        assertEquals(Set.of("fast"), result.getResults().keySet());
+        assertTrue(result.getErrors().get("slow").getMessage().contains("timed out"));
+    }
+
+    @Test
+    @DisplayName("测试关闭后拒绝添加面板")
+    void testClose() {
+        DefaultBtClient a = fleet.addPanel("a", "http://127.0.0.1:1", "key-a");
+
+        fleet.close();
+
+        assertTrue(fleet.isClosed());
+        assertTrue(a.isClosed());
+        assertThrows(IllegalStateException.class, () -> fleet.addPanel("b", "http://127.0.0.1:2", "key"));
+    }
+}
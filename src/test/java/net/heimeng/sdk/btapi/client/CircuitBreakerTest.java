@@ -0,0 +1,147 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.CircuitBreakerConfig;
+import net.heimeng.sdk.btapi.exception.BtCircuitOpenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker的单元测试类
+ * <p>
+ * 使用可控的时钟验证失败率和慢调用率触发熔断、打开状态快速失败以及半开状态的试探
+ * </p>
+ */
+@DisplayName("熔断器单元测试")
+public class CircuitBreakerTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker(CircuitBreakerConfig.CircuitBreakerConfigBuilder builder) {
+        return new CircuitBreaker(builder
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedCallsInHalfOpenState(2)
+                .build(), "127.0.0.1", now::get);
+    }
+
+    private void call(CircuitBreaker breaker, long durationMillis, boolean failed) {
+        breaker.onResult(breaker.acquirePermission(), durationMillis * MILLIS, failed);
+    }
+
+    @Test
+    @DisplayName("测试失败率达到阈值时打开并快速失败")
+    void testOpenOnFailureRate() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder().failureRateThreshold(0.5));
+
+        call(breaker, 10, false);
+        call(breaker, 10, true);
+        call(breaker, 10, false);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        call(breaker, 10, true);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+
+        now.addAndGet(4000 * MILLIS);
+        BtCircuitOpenException exception = assertThrows(BtCircuitOpenException.class, breaker::acquirePermission);
+        assertEquals(Duration.ofSeconds(6), exception.getRetryAfter());
+    }
+
+    @Test
+    @DisplayName("测试慢调用率达到阈值时打开")
+    void testOpenOnSlowCallRate() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder()
+                .slowCallDuration(Duration.ofMillis(100))
+                .slowCallRateThreshold(0.75));
+
+        call(breaker, 200, false);
+        call(breaker, 200, false);
+        call(breaker, 10, false);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        call(breaker, 200, false);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("测试统计窗口只保留最近的调用")
+    void testSlidingWindow() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder().failureRateThreshold(0.75));
+
+        call(breaker, 10, true);
+        call(breaker, 10, true);
+        call(breaker, 10, false);
+        call(breaker, 10, false);
+        // 最早的失败被移出窗口
+        call(breaker, 10, true);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("测试半开状态试探成功后关闭，名额用完时拒绝")
+    void testHalfOpenThenClose() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder().failureRateThreshold(1.0));
+        for (int i = 0; i < 4; i++) {
+            call(breaker, 10, true);
+        }
+        now.addAndGet(10_000 * MILLIS);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+
+        long first = breaker.acquirePermission();
+        long second = breaker.acquirePermission();
+        assertThrows(BtCircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.releasePermission(second);
+        long third = breaker.acquirePermission();
+        breaker.onResult(first, MILLIS, false);
+        breaker.onResult(third, MILLIS, false);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("测试打开之前发出的请求在半开状态下返回时不计为试探成功")
+    void testStragglerDoesNotCloseHalfOpen() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder().failureRateThreshold(1.0));
+        long straggler1 = breaker.acquirePermission();
+        long straggler2 = breaker.acquirePermission();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, 10, true);
+        }
+        now.addAndGet(10_000 * MILLIS);
+
+        long trial = breaker.acquirePermission();
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        breaker.onResult(straggler1, MILLIS, false);
+        breaker.onResult(straggler2, MILLIS, false);
+        breaker.releasePermission(straggler1);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+
+        // 迟到的请求不占用也不归还试探名额
+        breaker.acquirePermission();
+        assertThrows(BtCircuitOpenException.class, breaker::acquirePermission);
+        breaker.onResult(trial, MILLIS, false);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("测试半开状态试探失败后重新打开")
+    void testHalfOpenThenReopen() {
+        CircuitBreaker breaker = breaker(CircuitBreakerConfig.builder().failureRateThreshold(1.0));
+        for (int i = 0; i < 4; i++) {
+            call(breaker, 10, true);
+        }
+        now.addAndGet(10_000 * MILLIS);
+
+        call(breaker, 10, true);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertThrows(BtCircuitOpenException.class, breaker::acquirePermission);
+    }
+}
@@ -0,0 +1,142 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.ConcurrencyLimitConfig;
+import net.heimeng.sdk.btapi.exception.BtConcurrencyLimitException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConcurrencyLimiter的单元测试类
+ * <p>
+ * 使用可控的时钟验证上限随延迟和失败的调整、排队唤醒、队列已满和等待超时
+ * </p>
+ */
+@DisplayName("自适应并发限制器单元测试")
+public class ConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final DelayScheduler delayScheduler = new DelayScheduler("concurrency-limiter-test");
+
+    @AfterEach
+    void tearDown() {
+        delayScheduler.close();
+    }
+
+    private ConcurrencyLimiter limiter(ConcurrencyLimitConfig.ConcurrencyLimitConfigBuilder builder) {
+        return new ConcurrencyLimiter(builder.build(), "127.0.0.1", delayScheduler, now::get);
+    }
+
+    /**
+     * 模拟一次耗时指定毫秒数的请求
+     */
+    private void sample(ConcurrencyLimiter limiter, long rttMillis, boolean dropped) {
+        assertTrue(limiter.acquire().isDone());
+        long start = now.get();
+        now.addAndGet(rttMillis * MILLIS);
+        limiter.release(start, dropped);
+    }
+
+    @Test
+    @DisplayName("测试在途请求接近上限且延迟正常时上限增加")
+    void testIncreaseOnHealthySamples() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(2).maxLimit(3));
+
+        sample(limiter, 10, false);
+        assertEquals(3, limiter.snapshot().getLimit());
+        sample(limiter, 10, false);
+        assertEquals(3, limiter.snapshot().getLimit());
+    }
+
+    @Test
+    @DisplayName("测试负载来自调用方时不提高上限")
+    void testNoIncreaseWhenAppLimited() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(10));
+
+        sample(limiter, 10, false);
+        assertEquals(10, limiter.snapshot().getLimit());
+    }
+
+    @Test
+    @DisplayName("测试延迟过高或失败时上限缩减，且每个往返周期只缩减一次")
+    void testBackoffOncePerRoundTrip() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(20)
+                .backoffRatio(0.5)
+                .latencyTolerance(2.0));
+
+        sample(limiter, 10, false);
+        assertEquals(10 * MILLIS, limiter.snapshot().getBaselineRttNanos());
+
+        // 两个请求同时发出，都很慢，只缩减一次
+        limiter.acquire();
+        limiter.acquire();
+        long start = now.get();
+        now.addAndGet(50 * MILLIS);
+        limiter.release(start, false);
+        limiter.release(start, false);
+        assertEquals(10, limiter.snapshot().getLimit());
+
+        sample(limiter, 10, true);
+        assertEquals(5, limiter.snapshot().getLimit());
+    }
+
+    @Test
+    @DisplayName("测试超过上限的请求排队并在许可归还后被唤醒")
+    void testQueueAndWakeUp() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(1)
+                .maxLimit(1));
+
+        assertTrue(limiter.acquire().isDone());
+        CompletableFuture<Void> canceled = limiter.acquire();
+        CompletableFuture<Void> waiting = limiter.acquire();
+        assertEquals(2, limiter.snapshot().getQueued());
+
+        canceled.cancel(false);
+        limiter.release(now.get(), false);
+
+        assertTrue(waiting.isDone());
+        assertFalse(waiting.isCompletedExceptionally());
+        assertEquals(1, limiter.snapshot().getInFlight());
+        assertEquals(0, limiter.snapshot().getQueued());
+    }
+
+    @Test
+    @DisplayName("测试队列已满时立即拒绝")
+    void testRejectWhenQueueFull() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(1)
+                .maxQueueSize(0));
+
+        assertTrue(limiter.acquire().isDone());
+        assertThrows(BtConcurrencyLimitException.class, limiter::acquireBlocking);
+        assertEquals(1, limiter.snapshot().getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("测试排队超时")
+    void testQueueTimeout() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(1)
+                .queueTimeout(Duration.ofMillis(50)));
+
+        assertTrue(limiter.acquire().isDone());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> limiter.acquire().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BtConcurrencyLimitException.class, exception.getCause());
+        assertEquals(0, limiter.snapshot().getQueued());
+        assertEquals(1, limiter.snapshot().getRejectedCount());
+    }
+}
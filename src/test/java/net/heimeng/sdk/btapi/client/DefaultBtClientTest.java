@@ -0,0 +1,513 @@
+package net.heimeng.sdk.btapi.client;
+
+import com.sun.net.httpserver.HttpServer;
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.config.CircuitBreakerConfig;
+import net.heimeng.sdk.btapi.config.ConcurrencyLimitConfig;
+import net.heimeng.sdk.btapi.config.ExecutionMode;
+import net.heimeng.sdk.btapi.config.HedgingConfig;
+import net.heimeng.sdk.btapi.config.ParamEncoding;
+import net.heimeng.sdk.btapi.config.RateLimitConfig;
+import net.heimeng.sdk.btapi.config.RetryBudgetConfig;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.exception.BtCircuitOpenException;
+import net.heimeng.sdk.btapi.exception.BtConcurrencyLimitException;
+import net.heimeng.sdk.btapi.exception.BtRateLimitException;
+import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.system.SystemInfo;
+import net.heimeng.sdk.btapi.model.website.WebsiteInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DefaultBtClient的单元测试类
+ * <p>
+ * 使用本地HTTP服务模拟宝塔面板，测试客户端的同步和异步请求流程
+ * </p>
+ */
+@DisplayName("默认客户端单元测试")
+public class DefaultBtClientTest {
+
+    private static final String SYSTEM_INFO_RESPONSE =
+            "{\"system\":\"Ubuntu 22.04\",\"cpuRealUsed\":1.5,\"memTotal\":8000,"
+                    + "\"memRealUsed\":4000,\"version\":\"8.0.0\"}";
+
+    private static final String SITES_RESPONSE =
+            "{\"data\":[{\"id\":1,\"name\":\"example.com\",\"path\":\"/www/wwwroot/example.com\","
+                    + "\"status\":\"1\",\"ssl\":-1,\"addtime\":\"2024-01-01 00:00:00\"}],"
+                    + "\"page\":\"<div>共1条</div>\"}";
+
+    private HttpServer server;
+
+    private DefaultBtClient client;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile int failuresBeforeSuccess;
+
+    private volatile String retryAfter;
+
+    private volatile String lastQuery;
+
+    private volatile String lastBody;
+
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/system", exchange -> {
+            int count = requestCount.incrementAndGet();
+            lastQuery = exchange.getRequestURI().getRawQuery();
+            lastBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (responseDelayMillis > 0) {
+                try {
+                    Thread.sleep(responseDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body;
+            int status;
+            if (count <= failuresBeforeSuccess) {
+                status = 503;
+                body = "busy".getBytes(StandardCharsets.UTF_8);
+                if (retryAfter != null) {
+                    exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                }
+            } else {
+                status = 200;
+                body = SYSTEM_INFO_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.createContext("/data", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = SITES_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        BtSdkConfig config = BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .retryCount(2)
+                .retryInterval(Duration.ofMillis(10))
+                .build();
+        client = new DefaultBtClient(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("测试同步请求成功")
+    void testExecute_Success() {
+        BtResult<SystemInfo> result = client.execute(new GetSystemInfoApi());
+
+        assertTrue(result.isSuccess());
+        assertEquals("8.0.0", result.getData().getPanelVersion());
+    }
+
+    @Test
+    @DisplayName("测试异步请求成功")
+    void testExecuteAsync_Success() throws Exception {
+        CompletableFuture<BtResult<SystemInfo>> future = client.executeAsync(new GetSystemInfoApi());
+
+        BtResult<SystemInfo> result = future.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertEquals("8.0.0", result.getData().getPanelVersion());
+    }
+
+    @Test
+    @DisplayName("测试异步请求在可重试状态码后重试成功")
+    void testExecuteAsync_RetryOnServiceUnavailable() throws Exception {
+        failuresBeforeSuccess = 2;
+
+        BtResult<SystemInfo> result = client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试同步请求遵循Retry-After头")
+    void testExecute_RetryAfterHeader() {
+        failuresBeforeSuccess = 1;
+        retryAfter = "0";
+
+        BtResult<SystemInfo> result = client.execute(new GetSystemInfoApi());
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试异步请求重试耗尽后返回异常")
+    void testExecuteAsync_RetryExhausted() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(BtApiException.class, exception.getCause());
+        assertEquals(503, ((BtApiException) exception.getCause()).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("测试表单请求体编码方式只在请求体中发送业务参数")
+    void testExecute_FormBodyAuthQuery() {
+        BtSdkConfig config = BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .paramEncoding(ParamEncoding.FORM_BODY_AUTH_QUERY)
+                .build();
+        String content = "中文 内容 & = 😀";
+
+        try (DefaultBtClient formClient = new DefaultBtClient(config)) {
+            GetSystemInfoApi api = new GetSystemInfoApi();
+            api.addParam("data", content);
+            formClient.execute(api);
+        }
+
+        assertTrue(lastQuery.contains("request_token="));
+        assertFalse(lastQuery.contains("data="));
+        assertEquals("data=" + URLEncoder.encode(content, StandardCharsets.UTF_8), lastBody);
+    }
+
+    @Test
+    @DisplayName("测试虚拟线程执行模式（不支持时回退为平台线程池）")
+    void testExecutionMode_VirtualThreads() throws Exception {
+        BtSdkConfig config = BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .executionMode(ExecutionMode.VIRTUAL_THREADS)
+                .build();
+
+        try (DefaultBtClient virtualClient = new DefaultBtClient(config)) {
+            assertTrue(virtualClient.execute(new GetSystemInfoApi()).isSuccess());
+            assertTrue(virtualClient.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS).isSuccess());
+        }
+    }
+
+    @Test
+    @DisplayName("测试使用调用者提供的执行器并统计执行器状态")
+    void testProvidedExecutorsAndStats() throws Exception {
+        ExecutorService parseExecutor = Executors.newSingleThreadExecutor();
+        BtSdkConfig config = BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .parseExecutor(parseExecutor)
+                .callbackThreads(1)
+                .build();
+
+        try (DefaultBtClient statsClient = new DefaultBtClient(config)) {
+            assertTrue(statsClient.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS).isSuccess());
+
+            List<ExecutorStats> stats = statsClient.getExecutorStats();
+            assertEquals(List.of("io", "parse", "callback", "interceptor"),
+                    stats.stream().map(ExecutorStats::getName).collect(Collectors.toList()));
+            stats.forEach(executorStats -> assertEquals(0, executorStats.getQueueDepth()));
+        }
+
+        // 调用者提供的执行器不会被客户端关闭
+        assertFalse(parseExecutor.isShutdown());
+        parseExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("测试异步请求经过同步拦截器")
+    void testExecuteAsync_WithBlockingInterceptor() throws Exception {
+        AtomicInteger statusSeen = new AtomicInteger();
+        client.addInterceptor((context, chain) -> {
+            context.addHeader("X-Test", "1");
+            chain.proceed();
+            statusSeen.set(context.getStatusCode());
+        });
+
+        BtResult<SystemInfo> result = client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals(200, statusSeen.get());
+    }
+
+    @Test
+    @DisplayName("测试流式解析响应且默认不保留原始响应体")
+    void testExecute_StreamingResponse() throws Exception {
+        AtomicReference<String> bodySeen = new AtomicReference<>("unset");
+        client.addInterceptor((context, chain) -> {
+            chain.proceed();
+            bodySeen.set(context.getResponseBody());
+        });
+
+        BtResult<List<WebsiteInfo>> result = client.execute(new GetWebsitesApi());
+        BtResult<List<WebsiteInfo>> asyncResult = client.executeAsync(new GetWebsitesApi()).get(5, TimeUnit.SECONDS);
+
+        assertEquals("example.com", result.getData().get(0).getName());
+        assertEquals("example.com", asyncResult.getData().get(0).getName());
+        assertNull(bodySeen.get());
+    }
+
+    @Test
+    @DisplayName("测试拦截器要求时保留流式响应的原始响应体")
+    void testExecute_StreamingResponseRetainBody() {
+        AtomicReference<String> bodySeen = new AtomicReference<>();
+        client.addInterceptor((context, chain) -> {
+            context.setRetainResponseBody(true);
+            chain.proceed();
+            bodySeen.set(context.getResponseBody());
+        });
+
+        BtResult<List<WebsiteInfo>> result = client.execute(new GetWebsitesApi());
+
+        assertEquals(1, result.getData().size());
+        assertEquals(SITES_RESPONSE, bodySeen.get());
+    }
+
+    @Test
+    @DisplayName("测试开启合并后相同的并发只读请求只发送一次")
+    void testCoalesceReadOnlyRequests() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .coalesceReadOnlyRequests(true)
+                .build());
+        responseDelayMillis = 300;
+
+        List<CompletableFuture<BtResult<SystemInfo>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(client.executeAsync(new GetSystemInfoApi()));
+        }
+        BtResult<SystemInfo> first = futures.get(0).join();
+        for (CompletableFuture<BtResult<SystemInfo>> future : futures) {
+            assertSame(first, future.join());
+        }
+
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试限流时超过等待时限的请求不会发送")
+    void testRateLimitExceeded() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .rateLimit(RateLimitConfig.builder()
+                        .permitsPerSecond(1)
+                        .burst(1)
+                        .acquireTimeout(Duration.ZERO)
+                        .build())
+                .build());
+
+        assertTrue(client.execute(new GetSystemInfoApi()).isSuccess());
+        assertThrows(BtRateLimitException.class, () -> client.execute(new GetSystemInfoApi()));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BtRateLimitException.class, exception.getCause());
+
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试达到并发上限且不允许排队时请求立即失败")
+    void testConcurrencyLimitExceeded() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .concurrencyLimit(ConcurrencyLimitConfig.builder()
+                        .initialLimit(1)
+                        .maxLimit(1)
+                        .maxQueueSize(0)
+                        .build())
+                .build());
+        responseDelayMillis = 300;
+
+        CompletableFuture<BtResult<SystemInfo>> first = client.executeAsync(new GetSystemInfoApi());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BtConcurrencyLimitException.class, exception.getCause());
+        assertTrue(first.join().isSuccess());
+
+        ConcurrencyLimitStats stats = client.getConcurrencyLimitStats();
+        assertEquals(1, stats.getLimit());
+        assertEquals(0, stats.getInFlight());
+        assertEquals(1, stats.getRejectedCount());
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试熔断器打开后请求不再发送且不重试")
+    void testCircuitBreakerOpen() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .retryCount(2)
+                .retryInterval(Duration.ofMillis(10))
+                .circuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .build())
+                .build());
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        assertThrows(BtCircuitOpenException.class, () -> client.execute(new GetSystemInfoApi()));
+        assertEquals(2, requestCount.get());
+        assertEquals(CircuitState.OPEN, client.getCircuitState());
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.executeAsync(new GetSystemInfoApi()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BtCircuitOpenException.class, exception.getCause());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试重试预算用完后不再重试")
+    void testRetryBudgetExhausted() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .retryCount(2)
+                .retryInterval(Duration.ofMillis(10))
+                .retryBudget(RetryBudgetConfig.builder()
+                        .retryRatio(0)
+                        .minRetriesPerSecond(0)
+                        .build())
+                .build());
+        failuresBeforeSuccess = 1;
+
+        assertThrows(BtApiException.class, () -> client.execute(new GetSystemInfoApi()));
+        assertEquals(1, requestCount.get());
+
+        RetryBudgetStats stats = client.getRetryBudgetStats();
+        assertEquals(1, stats.getRequests());
+        assertEquals(0, stats.getRetries());
+        assertEquals(1, stats.getDeniedRetryCount());
+    }
+
+    @Test
+    @DisplayName("测试只读请求超过对冲延迟后发出对冲请求")
+    void testHedgedReadOnlyRequest() {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .hedging(HedgingConfig.builder()
+                        .initialDelay(Duration.ofMillis(50))
+                        .build())
+                .build());
+        responseDelayMillis = 300;
+
+        assertTrue(client.execute(new GetSystemInfoApi()).isSuccess());
+
+        HedgingStats stats = client.getHedgingStats();
+        assertEquals(1, stats.getRequestCount());
+        assertEquals(1, stats.getHedgeCount());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试取消返回的Future会中止进行中的HTTP交换")
+    void testCancelAbortsExchange() throws Exception {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().build())
+                .build());
+        responseDelayMillis = 2000;
+
+        CompletableFuture<BtResult<SystemInfo>> future = client.executeAsync(new GetSystemInfoApi());
+        awaitCondition(() -> client.getConcurrencyLimitStats().getInFlight() == 1);
+
+        future.cancel(true);
+
+        // 交换被中止后并发许可立即归还，而不是等到响应返回
+        awaitCondition(() -> client.getConcurrencyLimitStats().getInFlight() == 0);
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    @DisplayName("测试超时会中止等待中的重试")
+    void testTimeoutAbortsRetryDelay() throws Exception {
+        client.close();
+        client = new DefaultBtClient(BtSdkConfig.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .apiKey("test_api_key")
+                .retryCount(3)
+                .retryInterval(Duration.ofMillis(300))
+                .build());
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        CompletableFuture<BtResult<SystemInfo>> future = client.executeAsync(new GetSystemInfoApi())
+                .orTimeout(100, TimeUnit.MILLISECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+
+        Thread.sleep(800);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("测试在拦截器外取消上下文会中止同步请求")
+    void testCancelContextAbortsSyncRequest() {
+        responseDelayMillis = 2000;
+        client.addInterceptor((context, chain) -> {
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> context.setCanceled(true));
+            chain.proceed();
+        });
+
+        long start = System.nanoTime();
+        BtApiException exception = assertThrows(BtApiException.class, () -> client.execute(new GetSystemInfoApi()));
+        assertEquals("Request was canceled", exception.getMessage());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package net.heimeng.sdk.btapi.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FormBodyPublisher的单元测试类
+ * <p>
+ * 测试流式表单编码的结果与URLEncoder一致，且声明的内容长度准确
+ * </p>
+ */
+@DisplayName("表单请求体发布器单元测试")
+public class FormBodyPublisherTest {
+
+    @Test
+    @DisplayName("测试编码结果与URLEncoder一致")
+    void testEncodingMatchesUrlEncoder() throws Exception {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("path", "/www/wwwroot/站点 a+b&c=d");
+        params.put("emoji", "😀\uD800x");
+        params.put("empty", "");
+        params.put("number", 42);
+
+        StringBuilder expected = new StringBuilder();
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (expected.length() > 0) {
+                expected.append('&');
+            }
+            expected.append(entry.getKey()).append('=')
+                    .append(URLEncoder.encode(String.valueOf(entry.getValue()), StandardCharsets.UTF_8));
+        }
+
+        HttpRequest.BodyPublisher publisher = FormBodyPublisher.of(params);
+        String body = read(publisher);
+
+        assertEquals(expected.toString(), body);
+        assertEquals(body.getBytes(StandardCharsets.US_ASCII).length, publisher.contentLength());
+    }
+
+    @Test
+    @DisplayName("测试大内容跨越多个分块")
+    void testLargeContentSpansChunks() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            content.append("行").append(i).append(' ');
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("data", content.toString());
+
+        HttpRequest.BodyPublisher publisher = FormBodyPublisher.of(params);
+        String body = read(publisher);
+
+        assertEquals("data=" + URLEncoder.encode(content.toString(), StandardCharsets.UTF_8), body);
+        assertEquals(body.length(), publisher.contentLength());
+    }
+
+    private static String read(HttpRequest.BodyPublisher publisher) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        done.get(5, TimeUnit.SECONDS);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
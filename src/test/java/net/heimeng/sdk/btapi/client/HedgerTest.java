@@ -0,0 +1,202 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.system.GetSystemInfoApi;
+import net.heimeng.sdk.btapi.api.website.StartWebsiteApi;
+import net.heimeng.sdk.btapi.config.HedgingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hedger的单元测试类
+ * <p>
+ * 用手动完成的CompletableFuture代替HTTP请求，验证对冲的触发、胜出方的选择、落败方的取消、对冲比例上限和分位延迟
+ * </p>
+ */
+@DisplayName("对冲请求单元测试")
+public class HedgerTest {
+
+    private final DelayScheduler delayScheduler = new DelayScheduler("hedger-test");
+
+    private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+
+    private final List<String> discarded = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        delayScheduler.close();
+    }
+
+    private Hedger hedger(HedgingConfig.HedgingConfigBuilder builder) {
+        return new Hedger(builder.initialDelay(Duration.ofMillis(20)).minDelay(Duration.ZERO).build(),
+                delayScheduler);
+    }
+
+    private CompletableFuture<String> execute(Hedger hedger) {
+        return hedger.execute(GetSystemInfoApi.class, () -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            synchronized (attempts) {
+                attempts.add(attempt);
+            }
+            return attempt;
+        }, discarded::add);
+    }
+
+    private CompletableFuture<String> attempt(int index) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (attempts) {
+                if (attempts.size() > index) {
+                    return attempts.get(index);
+                }
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Attempt " + index + " was not issued");
+    }
+
+    @Test
+    @DisplayName("测试原请求在对冲延迟内完成时不发出对冲请求")
+    void testNoHedgeWhenFast() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder());
+
+        CompletableFuture<String> result = execute(hedger);
+        attempt(0).complete("primary");
+
+        assertEquals("primary", result.get(1, TimeUnit.SECONDS));
+        Thread.sleep(60);
+        assertEquals(1, attempts.size());
+        assertEquals(0, hedger.snapshot().getHedgeCount());
+    }
+
+    @Test
+    @DisplayName("测试对冲请求先完成时胜出并取消原请求，原请求迟到的响应被丢弃")
+    void testHedgeWins() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder());
+
+        CompletableFuture<String> result = execute(hedger);
+        attempt(1).complete("hedge");
+
+        assertEquals("hedge", result.get(1, TimeUnit.SECONDS));
+        assertTrue(attempt(0).isCancelled());
+
+        HedgingStats stats = hedger.snapshot();
+        assertEquals(1, stats.getHedgeCount());
+        assertEquals(1, stats.getHedgeWinCount());
+    }
+
+    @Test
+    @DisplayName("测试原请求在发出对冲请求期间完成时取消对冲请求")
+    void testPrimaryCompletesWhileHedgeIssued() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder());
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> hedge = new CompletableFuture<>();
+
+        AtomicInteger issued = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger.execute(GetSystemInfoApi.class, () -> {
+            if (issued.getAndIncrement() == 0) {
+                return primary;
+            }
+            // 对冲请求创建后、登记之前原请求完成
+            primary.complete("primary");
+            return hedge;
+        }, discarded::add);
+
+        assertEquals("primary", result.get(1, TimeUnit.SECONDS));
+        assertThrows(CancellationException.class, () -> hedge.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("测试原请求失败后等待对冲请求")
+    void testFailureWaitsForOther() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder());
+
+        CompletableFuture<String> result = execute(hedger);
+        attempt(1);
+        attempt(0).completeExceptionally(new IOException("reset"));
+        assertFalse(result.isDone());
+
+        attempt(1).complete("hedge");
+        assertEquals("hedge", result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("测试两个请求都失败时以失败结束")
+    void testBothFail() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder());
+
+        CompletableFuture<String> result = execute(hedger);
+        attempt(1).completeExceptionally(new IOException("timeout"));
+        attempt(0).completeExceptionally(new IOException("reset"));
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertEquals("reset", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("测试对冲比例上限")
+    void testHedgeRateCap() throws Exception {
+        Hedger hedger = hedger(HedgingConfig.builder().maxHedgeRate(0.5));
+
+        CompletableFuture<String> first = execute(hedger);
+        attempt(1).complete("hedge");
+        first.get(1, TimeUnit.SECONDS);
+
+        CompletableFuture<String> second = execute(hedger);
+        Thread.sleep(60);
+        assertEquals(3, attempts.size());
+        attempt(2).complete("primary");
+        assertEquals("primary", second.get(1, TimeUnit.SECONDS));
+
+        HedgingStats stats = hedger.snapshot();
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getHedgeCount());
+        assertEquals(1, stats.getThrottledCount());
+    }
+
+    @Test
+    @DisplayName("测试样本足够后使用分位延迟")
+    void testPercentileDelay() throws Exception {
+        Hedger hedger = new Hedger(HedgingConfig.builder()
+                .initialDelay(Duration.ofSeconds(3))
+                .minDelay(Duration.ZERO)
+                .minSamples(2)
+                .percentile(0.5)
+                .build(), delayScheduler);
+        assertEquals(Duration.ofSeconds(3), hedger.hedgeDelay(GetSystemInfoApi.class));
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<String> result = execute(hedger);
+            attempt(i).complete("primary");
+            result.get(1, TimeUnit.SECONDS);
+        }
+
+        assertTrue(hedger.hedgeDelay(GetSystemInfoApi.class).compareTo(Duration.ofSeconds(1)) < 0);
+        assertEquals(Duration.ofSeconds(3), hedger.hedgeDelay(StartWebsiteApi.class));
+    }
+
+    @Test
+    @DisplayName("测试只对配置范围内的只读API启用")
+    void testAppliesTo() {
+        Hedger all = hedger(HedgingConfig.builder());
+        assertTrue(all.appliesTo(new GetSystemInfoApi()));
+        assertFalse(all.appliesTo(new StartWebsiteApi()));
+
+        Hedger selected = hedger(HedgingConfig.builder().api(StartWebsiteApi.class));
+        assertFalse(selected.appliesTo(new GetSystemInfoApi()));
+        assertFalse(selected.appliesTo(new StartWebsiteApi()));
+    }
+}
@@ -0,0 +1,218 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import net.heimeng.sdk.btapi.model.BtResult;
+import net.heimeng.sdk.btapi.model.TableResult;
+import net.heimeng.sdk.btapi.model.website.WebsiteInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Paginator的单元测试类
+ * <p>
+ * 用内存中的表格代替面板，按请求的页码返回对应的行，验证遍历顺序、最后一页的判断、预取深度和提前关闭
+ * </p>
+ */
+@DisplayName("自动分页单元测试")
+public class PaginatorTest {
+
+    /**
+     * 按页码从内存表格返回数据的客户端替身，可以让指定的请求保持未完成
+     */
+    private static class TableClient implements BtClient {
+
+        private final int rows;
+
+        private final boolean hold;
+
+        private final List<Integer> requestedPages = Collections.synchronizedList(new ArrayList<>());
+
+        private final Map<Integer, CompletableFuture<Object>> held = new ConcurrentHashMap<>();
+
+        private volatile String failure;
+
+        private final boolean withTotal;
+
+        TableClient(int rows, boolean hold) {
+            this(rows, hold, false);
+        }
+
+        TableClient(int rows, boolean hold, boolean withTotal) {
+            this.rows = rows;
+            this.hold = hold;
+            this.withTotal = withTotal;
+        }
+
+        @Override
+        public <T> T execute(BtApi<T> api) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> executeAsync(BtApi<T> api) {
+            int page = (Integer) api.getParams().get("p");
+            int limit = (Integer) api.getParams().get("limit");
+            requestedPages.add(page);
+            TableResult<WebsiteInfo> result = new TableResult<>();
+            result.setTotal(withTotal ? (long) rows : null);
+            result.setStatus(failure == null);
+            result.setMsg(failure);
+            List<WebsiteInfo> data = new ArrayList<>();
+            for (int id = (page - 1) * limit + 1; id <= Math.min(rows, page * limit); id++) {
+                WebsiteInfo site = new WebsiteInfo();
+                site.setId((long) id);
+                data.add(site);
+            }
+            result.setData(data);
+            if (hold) {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                held.put(page, future);
+                return (CompletableFuture<T>) future;
+            }
+            return (CompletableFuture<T>) CompletableFuture.completedFuture((Object) result);
+        }
+
+        @Override
+        public BtClient addInterceptor(RequestInterceptor interceptor) {
+            return this;
+        }
+
+        @Override
+        public BtSdkConfig getConfig() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+
+    private static Paginator<WebsiteInfo> sites(BtClient client, int pageSize, int prefetch) {
+        return new Paginator<>(client, GetWebsitesApi::new,
+                PaginationOptions.builder().pageSize(pageSize).prefetch(prefetch).build());
+    }
+
+    @Test
+    @DisplayName("测试按顺序遍历整张表格并在最后一页停止")
+    void testIteratesAllRows() {
+        TableClient client = new TableClient(25, false);
+
+        List<Long> ids = sites(client, 10, 0).stream().map(WebsiteInfo::getId).collect(Collectors.toList());
+
+        assertEquals(25, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i + 1, ids.get(i));
+        }
+        assertEquals(List.of(1, 2, 3), client.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试总行数未知且是每页记录数的整数倍时以空页结束")
+    void testExactMultipleOfPageSize() {
+        TableClient client = new TableClient(20, false);
+
+        assertEquals(20, sites(client, 10, 0).stream().count());
+        assertEquals(List.of(1, 2, 3), client.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试总行数已知且是每页记录数的整数倍时不请求空页")
+    void testExactMultipleWithTotal() {
+        TableClient client = new TableClient(20, false, true);
+
+        assertEquals(20, sites(client, 10, 0).stream().count());
+        assertEquals(List.of(1, 2), client.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试消费当前页时预取后续的页")
+    void testPrefetch() {
+        TableClient client = new TableClient(100, true);
+        PageIterator<WebsiteInfo> iterator = sites(client, 10, 2).iterator();
+
+        // 第一次请求同时发出当前页和两页预取，不会一次请求整张表格
+        CompletableFuture.runAsync(() -> {
+            while (client.held.get(1) == null) {
+                Thread.onSpinWait();
+            }
+            completeHeld(client, 1);
+        });
+        assertTrue(iterator.hasNext());
+        assertEquals(1L, iterator.next().getId());
+        assertEquals(List.of(1, 2, 3), client.requestedPages);
+
+        iterator.close();
+        assertTrue(client.held.get(2).isCancelled());
+        assertTrue(client.held.get(3).isCancelled());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static void completeHeld(TableClient client, int page) {
+        BtResult<List<WebsiteInfo>> result = new BtResult<>();
+        result.setStatus(true);
+        List<WebsiteInfo> data = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            WebsiteInfo site = new WebsiteInfo();
+            site.setId((long) (page - 1) * 10 + i);
+            data.add(site);
+        }
+        result.setData(data);
+        client.held.get(page).complete(result);
+    }
+
+    @Test
+    @DisplayName("测试提前结束的流取消预取请求")
+    void testShortCircuitStream() {
+        TableClient client = new TableClient(10_000, false);
+
+        try (Stream<WebsiteInfo> stream = sites(client, 100, 3).stream()) {
+            assertEquals(150, stream.limit(150).count());
+        }
+        // 只请求了消费到的页和预取深度内的页
+        assertTrue(client.requestedPages.size() <= 2 + 3);
+    }
+
+    @Test
+    @DisplayName("测试页请求失败")
+    void testPageFailure() {
+        TableClient client = new TableClient(25, false);
+        client.failure = "denied";
+
+        PageIterator<WebsiteInfo> iterator = sites(client, 10, 1).iterator();
+
+        BtApiException e = assertThrows(BtApiException.class, iterator::hasNext);
+        assertTrue(e.getMessage().contains("denied"));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("测试无效的分页选项")
+    void testInvalidOptions() {
+        TableClient client = new TableClient(0, false);
+
+        assertThrows(IllegalArgumentException.class, () -> new Paginator<>(client, GetWebsitesApi::new,
+                PaginationOptions.builder().pageSize(0).build()));
+        assertFalse(sites(client, 10, 1).iterator().hasNext());
+    }
+}
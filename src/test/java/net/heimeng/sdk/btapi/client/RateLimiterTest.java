@@ -0,0 +1,108 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.RateLimitConfig;
+import net.heimeng.sdk.btapi.exception.BtRateLimitException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateLimiter的单元测试类
+ * <p>
+ * 使用可控的时钟验证令牌桶的突发容量、补充速率、分组限流和获取超时
+ * </p>
+ */
+@DisplayName("限流器单元测试")
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final DelayScheduler delayScheduler = new DelayScheduler("rate-limiter-test");
+
+    @AfterEach
+    void tearDown() {
+        delayScheduler.close();
+    }
+
+    private RateLimiter limiter(RateLimitConfig config) {
+        return new RateLimiter(config, "127.0.0.1", delayScheduler, now::get);
+    }
+
+    @Test
+    @DisplayName("测试突发容量用完后按速率排队")
+    void testBurstThenQueue() {
+        RateLimiter limiter = limiter(RateLimitConfig.of(2, 2));
+
+        assertEquals(0, limiter.reserve("/system"));
+        assertEquals(0, limiter.reserve("/system"));
+        assertEquals(SECOND / 2, limiter.reserve("/system"));
+        assertEquals(SECOND, limiter.reserve("/system"));
+
+        // 预约的令牌全部产生后，桶重新开始积累
+        now.addAndGet(SECOND * 2);
+        assertEquals(0, limiter.reserve("/system"));
+    }
+
+    @Test
+    @DisplayName("测试端点分组独立限流")
+    void testEndpointGroups() {
+        RateLimiter limiter = limiter(RateLimitConfig.builder()
+                .permitsPerSecond(100)
+                .burst(100)
+                .group("files", RateLimitConfig.of(1, 1))
+                .build());
+
+        assertEquals(0, limiter.reserve("/files?action=GetDir"));
+        assertEquals(SECOND, limiter.reserve("/files?action=GetFileBody"));
+        assertEquals(0, limiter.reserve("/data?action=getData"));
+    }
+
+    @Test
+    @DisplayName("测试等待超过获取超时时立即失败且不消耗令牌")
+    void testAcquireTimeout() {
+        RateLimiter limiter = limiter(RateLimitConfig.builder()
+                .permitsPerSecond(1)
+                .burst(1)
+                .acquireTimeout(Duration.ofMillis(500))
+                .group("files", RateLimitConfig.of(1, 1))
+                .build());
+
+        limiter.reserve("/files?action=GetDir");
+        BtRateLimitException exception =
+                assertThrows(BtRateLimitException.class, () -> limiter.reserve("/files?action=GetDir"));
+        assertEquals("files", exception.getGroup());
+
+        now.addAndGet(SECOND);
+        assertEquals(0, limiter.reserve("/system"));
+    }
+
+    @Test
+    @DisplayName("测试异步获取超时以失败的Future返回")
+    void testAcquireAsyncTimeout() {
+        RateLimiter limiter = limiter(RateLimitConfig.builder()
+                .permitsPerSecond(1)
+                .burst(1)
+                .acquireTimeout(Duration.ZERO)
+                .build());
+
+        assertTrue(limiter.acquireAsync("/system").isDone());
+        assertTrue(limiter.acquireAsync("/system").isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("测试端点分组解析")
+    void testEndpointGroup() {
+        assertEquals("files", RateLimiter.endpointGroup("/files?action=GetDir"));
+        assertEquals("site", RateLimiter.endpointGroup("/site/get_site_types"));
+        assertEquals("system", RateLimiter.endpointGroup("system"));
+        assertEquals("", RateLimiter.endpointGroup(null));
+    }
+}
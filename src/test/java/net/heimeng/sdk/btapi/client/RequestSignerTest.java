@@ -0,0 +1,55 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.BtUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestSigner的单元测试类
+ * <p>
+ * 测试请求签名器生成的令牌与工具类一致，并验证同一秒内的令牌缓存
+ * </p>
+ */
+@DisplayName("请求签名器单元测试")
+public class RequestSignerTest {
+
+    private static final String API_KEY = "test_api_key";
+
+    @Test
+    @DisplayName("测试签名结果与BtUtils一致")
+    void testSignMatchesBtUtils() {
+        RequestSigner signer = new RequestSigner(API_KEY);
+
+        for (long requestTime = 1700000000L; requestTime < 1700000005L; requestTime++) {
+            assertEquals(BtUtils.generateRequestToken(API_KEY, requestTime), signer.sign(requestTime));
+        }
+    }
+
+    @Test
+    @DisplayName("测试同一秒内复用缓存的令牌")
+    void testSignCachesPerSecond() {
+        RequestSigner signer = new RequestSigner(API_KEY);
+
+        String first = signer.sign(1700000000L);
+        assertSame(first, signer.sign(1700000000L));
+        assertNotEquals(first, signer.sign(1700000001L));
+    }
+
+    @Test
+    @DisplayName("测试非ASCII密钥按UTF-8编码签名")
+    void testNonAsciiKeyUsesUtf8() {
+        String apiKey = "面板密钥";
+        String expected = "42718b03f4b603cc7256e15a76b28b5b";
+
+        assertEquals(expected, new RequestSigner(apiKey).sign(1700000000L));
+        assertEquals(expected, BtUtils.generateRequestToken(apiKey, 1700000000L));
+    }
+
+    @Test
+    @DisplayName("测试十六进制编码")
+    void testBytesToHex() {
+        assertEquals("00017f80ff", BtUtils.bytesToHex(new byte[]{0, 1, 127, (byte) 128, (byte) 255}));
+    }
+}
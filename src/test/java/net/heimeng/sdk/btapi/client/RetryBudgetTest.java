@@ -0,0 +1,89 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.config.RetryBudgetConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetryBudget的单元测试类
+ * <p>
+ * 使用可控的时钟验证重试比例、每秒保底额度和窗口过期
+ * </p>
+ */
+@DisplayName("重试预算单元测试")
+public class RetryBudgetTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("测试重试次数不超过首次请求数的比例")
+    void testRetryRatio() {
+        RetryBudget budget = new RetryBudget(RetryBudgetConfig.builder()
+                .retryRatio(0.2)
+                .minRetriesPerSecond(0)
+                .build(), now::get);
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+
+        RetryBudgetStats stats = budget.snapshot();
+        assertEquals(10, stats.getRequests());
+        assertEquals(2, stats.getRetries());
+        assertEquals(0, stats.getAvailable());
+        assertEquals(1, stats.getDeniedRetryCount());
+    }
+
+    @Test
+    @DisplayName("测试每秒保底额度")
+    void testMinRetriesPerSecond() {
+        RetryBudget budget = new RetryBudget(RetryBudgetConfig.builder()
+                .ttl(Duration.ofSeconds(2))
+                .retryRatio(0)
+                .minRetriesPerSecond(1)
+                .build(), now::get);
+
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+    }
+
+    @Test
+    @DisplayName("测试过期的请求和重试移出窗口")
+    void testWindowExpiry() {
+        RetryBudget budget = new RetryBudget(RetryBudgetConfig.builder()
+                .ttl(Duration.ofSeconds(10))
+                .retryRatio(1)
+                .minRetriesPerSecond(0)
+                .build(), now::get);
+
+        budget.recordRequest();
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+
+        now.addAndGet(5 * SECOND);
+        budget.recordRequest();
+        assertTrue(budget.tryRetry());
+
+        // 第一个时间片过期，窗口内只剩第二次的请求和重试
+        now.addAndGet(5 * SECOND);
+        RetryBudgetStats stats = budget.snapshot();
+        assertEquals(1, stats.getRequests());
+        assertEquals(1, stats.getRetries());
+
+        now.addAndGet(60 * SECOND);
+        assertEquals(0, budget.snapshot().getRequests());
+        assertEquals(1, budget.snapshot().getDeniedRetryCount());
+    }
+}
@@ -0,0 +1,253 @@
+package net.heimeng.sdk.btapi.client;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.website.GetWebsitesApi;
+import net.heimeng.sdk.btapi.config.BtSdkConfig;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import net.heimeng.sdk.btapi.interceptor.RequestInterceptor;
+import net.heimeng.sdk.btapi.model.TableResult;
+import net.heimeng.sdk.btapi.model.website.WebsiteInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TableLoader的单元测试类
+ * <p>
+ * 用内存中的表格代替面板，每页延迟一段时间后返回，验证并行加载的顺序、并发上限、总行数未知时的顺序加载和失败处理
+ * </p>
+ */
+@DisplayName("整表并行加载单元测试")
+public class TableLoaderTest {
+
+    /**
+     * 按页码从内存表格返回数据的客户端替身
+     */
+    private static class TableClient implements BtClient {
+
+        private final int rows;
+
+        private final boolean withTotal;
+
+        private final List<Integer> requestedPages = Collections.synchronizedList(new ArrayList<>());
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private volatile int failingPage;
+
+        private volatile int growBy;
+
+        private volatile Long reportedTotal;
+
+        private volatile int hangingPage;
+
+        TableClient(int rows, boolean withTotal) {
+            this.rows = rows;
+            this.withTotal = withTotal;
+        }
+
+        @Override
+        public <T> T execute(BtApi<T> api) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> executeAsync(BtApi<T> api) {
+            int page = (Integer) api.getParams().get("p");
+            int limit = (Integer) api.getParams().get("limit");
+            requestedPages.add(page);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            // 第1页之后表格增长growBy行，模拟加载期间新增的记录
+            int size = page == 1 ? rows : rows + growBy;
+            if (page == hangingPage) {
+                return new CompletableFuture<>();
+            }
+            return (CompletableFuture<T>) CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                if (page == failingPage) {
+                    throw new BtApiException("page " + page + " failed");
+                }
+                TableResult<WebsiteInfo> result = new TableResult<>();
+                result.setStatus(true);
+                result.setTotal(reportedTotal != null ? reportedTotal : withTotal ? Long.valueOf(size) : null);
+                List<WebsiteInfo> data = new ArrayList<>();
+                for (int id = (page - 1) * limit + 1; id <= Math.min(size, page * limit); id++) {
+                    WebsiteInfo site = new WebsiteInfo();
+                    site.setId((long) id);
+                    data.add(site);
+                }
+                result.setData(data);
+                return result;
+            }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public BtClient addInterceptor(RequestInterceptor interceptor) {
+            return this;
+        }
+
+        @Override
+        public BtSdkConfig getConfig() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+
+    private static TableLoader<WebsiteInfo> loader(BtClient client, int pageSize, int maxConcurrency) {
+        return new TableLoader<>(client, GetWebsitesApi::new,
+                TableLoadOptions.builder().pageSize(pageSize).maxConcurrency(maxConcurrency).build());
+    }
+
+    private static void assertSequentialIds(List<WebsiteInfo> rows, int expected) {
+        assertEquals(expected, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i + 1, rows.get(i).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("测试按总行数并行加载并按顺序拼接")
+    void testParallelLoad() {
+        TableClient client = new TableClient(1_005, true);
+
+        List<WebsiteInfo> rows = loader(client, 10, 8).load();
+
+        assertSequentialIds(rows, 1_005);
+        assertEquals(101, client.requestedPages.size());
+        assertEquals(8, client.maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("测试并行加载比顺序加载快")
+    void testParallelIsFasterThanSequential() {
+        long start = System.nanoTime();
+        loader(new TableClient(400, true), 10, 20).load();
+        long parallel = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        loader(new TableClient(400, false), 10, 20).load();
+        long sequential = System.nanoTime() - start;
+
+        assertTrue(parallel * 3 < sequential, "parallel=" + parallel + " sequential=" + sequential);
+    }
+
+    @Test
+    @DisplayName("测试总行数未知时顺序加载")
+    void testSequentialWithoutTotal() {
+        TableClient client = new TableClient(35, false);
+
+        assertSequentialIds(loader(client, 10, 8).load(), 35);
+        assertEquals(List.of(1, 2, 3, 4), client.requestedPages);
+        assertEquals(1, client.maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("测试加载期间表格增长")
+    void testTableGrowsDuringLoad() {
+        TableClient client = new TableClient(30, true);
+        client.growBy = 15;
+
+        assertSequentialIds(loader(client, 10, 4).load(), 45);
+    }
+
+    @Test
+    @DisplayName("测试只有一页")
+    void testSinglePage() {
+        TableClient client = new TableClient(7, true);
+
+        assertSequentialIds(loader(client, 10, 4).load(), 7);
+        assertEquals(List.of(1), client.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试总行数是每页记录数的整数倍时不请求空页")
+    void testExactMultipleOfPageSize() {
+        TableClient client = new TableClient(30, true);
+        assertSequentialIds(loader(client, 10, 4).load(), 30);
+        assertEquals(List.of(1, 2, 3), client.requestedPages.stream().sorted().collect(Collectors.toList()));
+
+        TableClient single = new TableClient(10, true);
+        assertSequentialIds(loader(single, 10, 4).load(), 10);
+        assertEquals(List.of(1), single.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试面板报告的总行数超过最大页数时加载失败")
+    void testImplausibleTotal() {
+        TableClient client = new TableClient(30, true);
+        client.reportedTotal = 1_000_000_000_000L;
+
+        BtApiException e = assertThrows(BtApiException.class, () -> loader(client, 10, 4).load());
+        assertTrue(e.getMessage().contains("exceeds"));
+        assertEquals(List.of(1), client.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试第1页和顺序加载的页按单页超时失败")
+    void testPageTimeout() {
+        TableLoadOptions options = TableLoadOptions.builder().pageSize(10).pageTimeout(Duration.ofMillis(50)).build();
+
+        TableClient first = new TableClient(30, true);
+        first.hangingPage = 1;
+        BtApiException e = assertThrows(BtApiException.class,
+                () -> new TableLoader<>(first, GetWebsitesApi::new, options).load());
+        assertTrue(e.getMessage().contains("timed out"));
+
+        TableClient sequential = new TableClient(30, false);
+        sequential.hangingPage = 3;
+        e = assertThrows(BtApiException.class,
+                () -> new TableLoader<>(sequential, GetWebsitesApi::new, options).load());
+        assertTrue(e.getMessage().contains("timed out"));
+        assertEquals(List.of(1, 2, 3), sequential.requestedPages);
+    }
+
+    @Test
+    @DisplayName("测试某一页失败")
+    void testPageFailure() {
+        TableClient client = new TableClient(100, true);
+        client.failingPage = 5;
+
+        BtApiException e = assertThrows(BtApiException.class, () -> loader(client, 10, 2).load());
+        assertEquals("page 5 failed", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("测试从分页信息解析总行数")
+    void testParseTotal() {
+        assertEquals(25L, TableResult.parseTotal("<div><span class='Pcurrent'>1</span>"
+                + "<span class='Pcount'>共25条</span></div>"));
+        assertEquals(3L, TableResult.parseTotal(3));
+        assertNull(TableResult.parseTotal("<div></div>"));
+        assertNull(TableResult.parseTotal(null));
+
+        TableResult<WebsiteInfo> result = new GetWebsitesApi().parseResponse(
+                "{\"data\":[],\"page\":\"<div><span class='Pcount'>共20000条</span></div>\"}");
+        assertEquals(20000L, result.getTotal());
+        assertEquals(200, result.getPageCount(100));
+
+        result.setTotal(Long.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, result.getPageCount(1));
+        assertNull(TableResult.parseTotal("共99999999999999999999条"));
+    }
+}
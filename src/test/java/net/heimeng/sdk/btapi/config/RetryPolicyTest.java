@@ -0,0 +1,95 @@
+package net.heimeng.sdk.btapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetryPolicy的单元测试类
+ * <p>
+ * 测试重试策略的退避间隔、抖动、最大耗时和Retry-After处理
+ * </p>
+ */
+@DisplayName("重试策略单元测试")
+public class RetryPolicyTest {
+
+    @Test
+    @DisplayName("测试不带抖动的指数退避")
+    void testExponentialBackoffWithoutJitter() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxRetries(5)
+                .initialDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(500))
+                .jitter(false)
+                .build();
+
+        assertEquals(Duration.ofMillis(100), policy.nextDelay(0, Duration.ZERO, null));
+        assertEquals(Duration.ofMillis(200), policy.nextDelay(1, Duration.ZERO, null));
+        assertEquals(Duration.ofMillis(400), policy.nextDelay(2, Duration.ZERO, null));
+        // 超过上限后保持为maxDelay
+        assertEquals(Duration.ofMillis(500), policy.nextDelay(3, Duration.ZERO, null));
+        // 超过最大重试次数后不再重试
+        assertNull(policy.nextDelay(5, Duration.ZERO, null));
+    }
+
+    @RepeatedTest(20)
+    @DisplayName("测试全抖动的间隔范围")
+    void testFullJitterRange() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialDelay(Duration.ofMillis(100))
+                .build();
+
+        Duration delay = policy.nextDelay(2, Duration.ZERO, null);
+        assertNotNull(delay);
+        assertTrue(delay.toMillis() >= 0 && delay.toMillis() <= 400);
+    }
+
+    @Test
+    @DisplayName("测试超过最大累计耗时后停止重试")
+    void testMaxElapsedTime() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialDelay(Duration.ofSeconds(1))
+                .jitter(false)
+                .maxElapsedTime(Duration.ofSeconds(5))
+                .build();
+
+        assertNotNull(policy.nextDelay(0, Duration.ofSeconds(3), null));
+        assertNull(policy.nextDelay(0, Duration.ofMillis(4500), null));
+    }
+
+    @Test
+    @DisplayName("测试遵循Retry-After并限制上限")
+    void testRetryAfter() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxRetryAfter(Duration.ofSeconds(30))
+                .build();
+
+        assertEquals(Duration.ofSeconds(7), policy.nextDelay(0, Duration.ZERO, Duration.ofSeconds(7)));
+        assertEquals(Duration.ofSeconds(30), policy.nextDelay(0, Duration.ZERO, Duration.ofSeconds(120)));
+    }
+
+    @Test
+    @DisplayName("测试未启用重试时使用不重试的策略")
+    void testResolveRetryPolicy() {
+        BtSdkConfig disabled = BtSdkConfig.builder()
+                .baseUrl("http://localhost:8888")
+                .apiKey("test_api_key")
+                .enableRetry(false)
+                .build();
+        assertEquals(0, disabled.resolveRetryPolicy().getMaxRetries());
+
+        BtSdkConfig legacy = BtSdkConfig.builder()
+                .baseUrl("http://localhost:8888")
+                .apiKey("test_api_key")
+                .retryCount(2)
+                .retryInterval(Duration.ofMillis(300))
+                .build();
+        RetryPolicy policy = legacy.resolveRetryPolicy();
+        assertEquals(2, policy.getMaxRetries());
+        assertEquals(Duration.ofMillis(300), policy.nextDelay(1, Duration.ZERO, null));
+    }
+}
@@ -0,0 +1,227 @@
+package net.heimeng.sdk.btapi.interceptor;
+
+import net.heimeng.sdk.btapi.api.BtApi;
+import net.heimeng.sdk.btapi.api.system.GetNetworkStatusApi;
+import net.heimeng.sdk.btapi.api.website.StartWebsiteApi;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlightInterceptor的单元测试类
+ * <p>
+ * 使用阻塞在闩锁上的模拟拦截器链保证请求同时在途，统计实际到达后端的调用次数
+ * </p>
+ */
+@DisplayName("在途请求合并拦截器单元测试")
+public class SingleFlightInterceptorTest {
+
+    private final SingleFlightInterceptor interceptor = new SingleFlightInterceptor();
+
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    @DisplayName("测试并发的相同只读请求只执行一次并共享结果")
+    void testCoalesceReadOnly() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> call(new GetNetworkStatusApi(), "shared")));
+            }
+            awaitInFlight(7);
+            release.countDown();
+
+            Object first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, backendCalls.get());
+            assertEquals(7, interceptor.getCoalescedCount());
+            assertEquals(0, interceptor.getInFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("测试修改类API不合并")
+    void testMutatingNotCoalesced() throws Exception {
+        release.countDown();
+
+        call(new StartWebsiteApi(), "a");
+        call(new StartWebsiteApi(), "a");
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0, interceptor.getExecutedCount());
+    }
+
+    @Test
+    @DisplayName("测试leader失败时被合并的请求收到同一异常")
+    void testFailurePropagated() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            BtApiException failure = new BtApiException("boom");
+            Future<Object> leader = pool.submit(() -> call(new GetNetworkStatusApi(), failure));
+            awaitExecuted();
+            Future<Object> follower = pool.submit(() -> call(new GetNetworkStatusApi(), failure));
+            awaitInFlight(1);
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertSame(failure, leaderError.getCause());
+            assertSame(failure, followerError.getCause());
+            assertEquals(1, backendCalls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("测试异步请求合并")
+    void testCoalesceAsync() {
+        CompletableFuture<RequestContext> backend = new CompletableFuture<>();
+        CompletableFuture<RequestContext> first = callAsync(new GetNetworkStatusApi(), backend);
+        CompletableFuture<RequestContext> second = callAsync(new GetNetworkStatusApi(), backend);
+        assertFalse(second.isDone());
+
+        RequestContext leader = new RequestContext(new GetNetworkStatusApi());
+        leader.setStatusCode(200);
+        leader.setResult("result");
+        backend.complete(leader);
+
+        assertEquals("result", first.join().getResult());
+        assertEquals("result", second.join().getResult());
+        assertEquals(200, second.join().getStatusCode());
+        assertEquals(1, backendCalls.get());
+        assertEquals(1, interceptor.getCoalescedCount());
+        assertEquals(0, interceptor.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("测试leader被取消时被合并的请求重新发起")
+    void testLeaderCanceledFollowerReissues() {
+        CompletableFuture<RequestContext> canceled = new CompletableFuture<>();
+        CompletableFuture<RequestContext> retried = new CompletableFuture<>();
+        CompletableFuture<RequestContext> leader = callAsync(new GetNetworkStatusApi(), canceled);
+        CompletableFuture<RequestContext> follower = callAsync(new GetNetworkStatusApi(), retried);
+        assertEquals(1, backendCalls.get());
+
+        canceled.completeExceptionally(new CancellationException("Request was canceled"));
+        assertTrue(leader.isCompletedExceptionally());
+        assertFalse(follower.isDone());
+        assertEquals(2, backendCalls.get());
+
+        RequestContext result = new RequestContext(new GetNetworkStatusApi());
+        result.setResult("retried");
+        retried.complete(result);
+
+        assertEquals("retried", follower.join().getResult());
+        assertEquals(0, interceptor.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("测试不同面板的相同请求不合并")
+    void testDifferentPanelsNotCoalesced() {
+        CompletableFuture<RequestContext> backendA = new CompletableFuture<>();
+        CompletableFuture<RequestContext> backendB = new CompletableFuture<>();
+        CompletableFuture<RequestContext> a = callAsync(new GetNetworkStatusApi(), "https://panel-a:8888", backendA);
+        CompletableFuture<RequestContext> b = callAsync(new GetNetworkStatusApi(), "https://panel-b:8888", backendB);
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0, interceptor.getCoalescedCount());
+        assertEquals(2, interceptor.getInFlightCount());
+
+        RequestContext resultA = new RequestContext(new GetNetworkStatusApi());
+        resultA.setResult("a");
+        backendA.complete(resultA);
+        RequestContext resultB = new RequestContext(new GetNetworkStatusApi());
+        resultB.setResult("b");
+        backendB.complete(resultB);
+
+        assertEquals("a", a.join().getResult());
+        assertEquals("b", b.join().getResult());
+    }
+
+    private void awaitInFlight(int coalesced) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interceptor.getCoalescedCount() < coalesced && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(coalesced, interceptor.getCoalescedCount());
+    }
+
+    private void awaitExecuted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interceptor.getExecutedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private Object call(BtApi<?> api, Object outcome) throws Exception {
+        RequestContext context = new RequestContext(api);
+        context.addParam("request_token", Thread.currentThread().getName());
+        interceptor.intercept(context, new RequestContext.Chain() {
+            @Override
+            public RequestContext getContext() {
+                return context;
+            }
+
+            @Override
+            public RequestContext proceed() throws Exception {
+                backendCalls.incrementAndGet();
+                release.await();
+                if (outcome instanceof Exception) {
+                    throw (Exception) outcome;
+                }
+                context.setResult(new Object[] {outcome});
+                return context;
+            }
+        });
+        return context.getResult();
+    }
+
+    private CompletableFuture<RequestContext> callAsync(BtApi<?> api, CompletableFuture<RequestContext> backend) {
+        return callAsync(api, null, backend);
+    }
+
+    private CompletableFuture<RequestContext> callAsync(BtApi<?> api, String baseUrl,
+                                                        CompletableFuture<RequestContext> backend) {
+        RequestContext context = new RequestContext(api);
+        context.setBaseUrl(baseUrl);
+        return interceptor.interceptAsync(context, new RequestContext.AsyncChain() {
+            @Override
+            public RequestContext getContext() {
+                return context;
+            }
+
+            @Override
+            public CompletableFuture<RequestContext> proceedAsync() {
+                backendCalls.incrementAndGet();
+                return backend;
+            }
+
+            @Override
+            public Executor getExecutor() {
+                return Runnable::run;
+            }
+        });
+    }
+}
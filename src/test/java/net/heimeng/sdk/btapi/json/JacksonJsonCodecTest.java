@@ -0,0 +1,105 @@
+package net.heimeng.sdk.btapi.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import net.heimeng.sdk.btapi.exception.BtApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JacksonJsonCodec的单元测试类
+ */
+@DisplayName("Jackson编解码器单元测试")
+public class JacksonJsonCodecTest {
+
+    private final JsonCodec codec = new JacksonJsonCodec();
+
+    @Test
+    @DisplayName("测试默认编解码器为Jackson实现")
+    void testDefaultCodec() {
+        assertInstanceOf(JacksonJsonCodec.class, JsonCodec.defaultCodec());
+    }
+
+    @Test
+    @DisplayName("测试宽松绑定：忽略未知字段并接受字符串形式的数字")
+    void testDecode_LenientBinding() {
+        Sample sample = codec.decode("{\"id\":\"42\",\"ratio\":\"2.5\",\"name\":\"a\",\"unknown\":[1,2]}", Sample.class);
+
+        assertEquals(42L, sample.getId());
+        assertEquals(2.5, sample.getRatio(), 0.001);
+        assertEquals("a", sample.getName());
+    }
+
+    @Test
+    @DisplayName("测试从输入流绑定且不关闭输入流")
+    void testDecode_InputStream() throws Exception {
+        byte[] bytes = "{\"data\":[{\"id\":1},{\"id\":2}]}".getBytes(StandardCharsets.UTF_8);
+        TrackingInputStream in = new TrackingInputStream(bytes);
+
+        Map<String, List<Sample>> result = codec.decode(in,
+                new TypeReference<Map<String, List<Sample>>>() { }.getType());
+
+        assertEquals(2, result.get("data").size());
+        assertEquals(2L, result.get("data").get(1).getId());
+        assertFalse(in.closed);
+    }
+
+    @Test
+    @DisplayName("测试非法JSON抛出Invalid JSON异常")
+    void testDecode_InvalidJson() {
+        for (String invalid : new String[] {"{invalid json}", "<html></html>", "plain text", "{\"a\":1} trailing"}) {
+            BtApiException exception = assertThrows(BtApiException.class, () -> codec.decode(invalid, Sample.class));
+            assertTrue(exception.getMessage().contains("Invalid JSON"), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("测试类型不匹配时抛出绑定异常")
+    void testDecode_TypeMismatch() {
+        BtApiException exception = assertThrows(BtApiException.class,
+                () -> codec.decode("{\"id\":{\"nested\":true}}", Sample.class));
+
+        assertTrue(exception.getMessage().contains("Failed to bind"));
+    }
+
+    @Test
+    @DisplayName("测试序列化对象")
+    void testEncode() {
+        Sample sample = new Sample();
+        sample.setId(7L);
+        sample.setName("中文");
+
+        Sample decoded = codec.decode(codec.encode(sample), Sample.class);
+
+        assertEquals(sample, decoded);
+    }
+
+    @Data
+    static class Sample {
+        private Long id;
+        private Double ratio;
+        private String name;
+    }
+
+    private static class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        TrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}